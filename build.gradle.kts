@@ -7,6 +7,7 @@ plugins {
     id("org.asciidoctor.jvm.convert") version "3.3.2"
     id("com.epages.restdocs-api-spec") version "0.19.4"
     id("org.openapi.generator") version "7.11.0"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.lumanlab"
@@ -37,6 +38,14 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-oauth2-client")
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-web")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+
+    // Migration
+    implementation("org.flywaydb:flyway-core")
+    implementation("org.flywaydb:flyway-database-postgresql")
+
+    // Cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
 
     // JWT
     implementation("io.jsonwebtoken:jjwt-api:0.13.0")
@@ -69,6 +78,13 @@ dependencies {
 
 val snippetsDir = file("build/generated-snippets")
 
+// 마이크로 벤치마크 설정 (src/jmh/java)
+jmh {
+    jmhVersion.set("1.37")
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
 }
@@ -0,0 +1,89 @@
+package com.lumanlab.parentcaringservice.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.lumanlab.parentcaringservice.impersonationlog.domain.ImpersonationLog;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임퍼소네이션 활동 내역 생성 시 JSON 트리를 만드는 이전 방식과 스트리밍 방식의 비교
+ * <p>
+ * payloadSize는 요청 본문의 대략적인 크기(byte)이며, ACTION_DETAILS_LENGTH를 넘는 경우 요청 캐시 제한에 맞게 잘린 본문을 사용
+ * gc 프로파일러(gc.alloc.rate.norm)로 생성 1회당 할당량도 함께 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActionDetailsBenchmark {
+
+    private static final String METHOD = "PATCH";
+    private static final String ENDPOINT = "/api/me/profile";
+
+    @Param({"128", "1024", "2900", "10000"})
+    private int payloadSize;
+
+    private ObjectMapper objectMapper;
+    private ActionDetailsExtractor actionDetailsExtractor;
+    private byte[] body;
+    private boolean bodyTruncated;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        actionDetailsExtractor = new ActionDetailsExtractor(objectMapper);
+
+        byte[] payload = createPayload(payloadSize).getBytes(StandardCharsets.UTF_8);
+
+        // ContentCachingRequestWrapper와 동일하게 캐시 제한까지만 보관
+        bodyTruncated = payload.length > ImpersonationLog.ACTION_DETAILS_LENGTH;
+        body = bodyTruncated ? Arrays.copyOf(payload, ImpersonationLog.ACTION_DETAILS_LENGTH) : payload;
+    }
+
+    @Benchmark
+    public String jsonTree() {
+        String payload = new String(body, StandardCharsets.UTF_8);
+
+        ObjectNode detailsNode = objectMapper.createObjectNode();
+        detailsNode.put("method", METHOD);
+        detailsNode.put("endpoint", ENDPOINT);
+
+        try {
+            detailsNode.set("payload", objectMapper.readTree(payload));
+        } catch (IOException e) {
+            detailsNode.put("payload", payload);
+        }
+
+        return detailsNode.toString();
+    }
+
+    @Benchmark
+    public String streaming() {
+        return actionDetailsExtractor.serialize(METHOD, ENDPOINT, body, bodyTruncated);
+    }
+
+    /**
+     * 프로필 수정 요청과 비슷한 형태로, 지정한 크기를 넘지 않을 때까지 항목을 추가한 JSON 본문 생성
+     */
+    private static String createPayload(int size) {
+        StringBuilder json = new StringBuilder("{\"nickname\":\"tester\",\"items\":[");
+        String item = "{\"id\":0000,\"memo\":\"change drop-off time\",\"enabled\":true}";
+
+        for (int i = 0; json.length() + item.length() + 3 <= size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(1000 + i)
+                    .append(",\"memo\":\"change drop-off time\",\"enabled\":true}");
+        }
+
+        return json.append("]}").toString();
+    }
+}
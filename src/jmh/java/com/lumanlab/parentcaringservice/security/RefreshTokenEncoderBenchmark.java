@@ -0,0 +1,62 @@
+package com.lumanlab.parentcaringservice.security;
+
+import com.lumanlab.parentcaringservice.security.encoder.DefaultRefreshTokenEncoder;
+import com.lumanlab.parentcaringservice.security.jwt.JwtProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리프레시 토큰 해시 생성과 검증 시 이전 BCrypt 방식과 HMAC-SHA256 방식의 비교
+ * <p>
+ * 로그인은 encode 1회, 토큰 갱신은 matches 1회와 encode 1회를 수행함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RefreshTokenEncoderBenchmark {
+
+    private BCryptPasswordEncoder bCryptPasswordEncoder;
+    private DefaultRefreshTokenEncoder refreshTokenEncoder;
+    private String token;
+    private String bCryptHash;
+    private String hmacHash;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.getRefreshToken().setPepper(UUID.randomUUID() + "-" + UUID.randomUUID());
+
+        bCryptPasswordEncoder = new BCryptPasswordEncoder();
+        refreshTokenEncoder = new DefaultRefreshTokenEncoder(jwtProperties);
+
+        token = UUID.randomUUID() + "." + UUID.randomUUID();
+        bCryptHash = bCryptPasswordEncoder.encode(token);
+        hmacHash = refreshTokenEncoder.encode(token);
+    }
+
+    @Benchmark
+    public String bCryptEncode() {
+        return bCryptPasswordEncoder.encode(token);
+    }
+
+    @Benchmark
+    public boolean bCryptMatches() {
+        return bCryptPasswordEncoder.matches(token, bCryptHash);
+    }
+
+    @Benchmark
+    public String hmacEncode() {
+        return refreshTokenEncoder.encode(token);
+    }
+
+    @Benchmark
+    public boolean hmacMatches() {
+        return refreshTokenEncoder.matches(token, hmacHash);
+    }
+}
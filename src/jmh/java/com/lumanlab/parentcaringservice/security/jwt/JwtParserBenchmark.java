@@ -0,0 +1,76 @@
+package com.lumanlab.parentcaringservice.security.jwt;
+
+import com.lumanlab.parentcaringservice.security.domain.RoleAuthorityTable;
+import com.lumanlab.parentcaringservice.security.jwt.application.service.JwtParserRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AccessToken 검증 시 JwtParser를 매번 생성하는 방식과 미리 생성된 파서를 재사용하는 방식의 비교
+ * <p>
+ * gc 프로파일러(gc.alloc.rate.norm)로 검증 1회당 할당량도 함께 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtParserBenchmark {
+
+    private static final String ISSUER = "parent-caring-service";
+    private static final String KEY_ID = "key-benchmark";
+
+    private KeyPair keyPair;
+    private String token;
+    private JwtParserRegistry jwtParserRegistry;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        keyPair = keyPairGenerator.generateKeyPair();
+
+        Instant now = Instant.now();
+        token = Jwts.builder()
+                .header().keyId(KEY_ID).and()
+                .issuer(ISSUER)
+                .subject("1")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(3600)))
+                .claim(RoleAuthorityTable.ROLE_MASK_CLAIM, 1)
+                .signWith(keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer(ISSUER);
+
+        jwtParserRegistry = new JwtParserRegistry(jwtProperties);
+        jwtParserRegistry.register(KEY_ID, keyPair.getPublic());
+    }
+
+    @Benchmark
+    public Claims buildParserPerRequest() {
+        return Jwts.parser()
+                .verifyWith(keyPair.getPublic())
+                .requireIssuer(ISSUER)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Claims prebuiltParser() {
+        JwtParser jwtParser = jwtParserRegistry.get(KEY_ID);
+
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+}
@@ -0,0 +1,53 @@
+package com.lumanlab.parentcaringservice.security.jwt;
+
+import com.lumanlab.parentcaringservice.security.domain.RoleAuthorityTable;
+import com.lumanlab.parentcaringservice.security.jwt.domain.JwkAlgorithm;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 알고리즘별 JWT 서명 비용 비교
+ * <p>
+ * 로그인, 토큰 재발급 시 AccessToken과 RefreshToken 서명이 요청당 가장 큰 CPU 비용이므로 알고리즘별 처리량을 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    private static final String ISSUER = "parent-caring-service";
+    private static final String KEY_ID = "key-benchmark";
+
+    @Param({"RS256", "ES256", "EdDSA"})
+    private JwkAlgorithm algorithm;
+
+    private KeyPair keyPair;
+
+    @Setup
+    public void setUp() {
+        keyPair = algorithm.generateKeyPair();
+    }
+
+    @Benchmark
+    public String sign() {
+        Instant now = Instant.now();
+
+        return Jwts.builder()
+                .header().type("JWT").keyId(KEY_ID).and()
+                .issuer(ISSUER)
+                .subject("1")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(900)))
+                .claim(RoleAuthorityTable.ROLE_MASK_CLAIM, 1)
+                .signWith(keyPair.getPrivate(), algorithm.getSignatureAlgorithm())
+                .compact();
+    }
+}
@@ -0,0 +1,68 @@
+package com.lumanlab.parentcaringservice.security.jwt;
+
+import com.lumanlab.parentcaringservice.security.domain.RoleAuthorityTable;
+import com.lumanlab.parentcaringservice.security.jwt.domain.JwkAlgorithm;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPrivateKeySpec;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis에서 복원한 RSA 개인키의 서명 지연 시간 비교
+ * <p>
+ * NON_CRT : 이전 방식 (RSAPrivateKeySpec(n, d)로 복원, CRT 최적화 미사용)
+ * CRT     : PKCS#8 인코딩에서 복원 (CRT 파라미터 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RsaCrtSigningBenchmark {
+
+    private static final String ISSUER = "parent-caring-service";
+    private static final String KEY_ID = "key-benchmark";
+
+    @Param({"NON_CRT", "CRT"})
+    private String keyFormat;
+
+    private PrivateKey privateKey;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPair keyPair = JwkAlgorithm.RS256.generateKeyPair();
+        RSAPrivateCrtKey generated = (RSAPrivateCrtKey) keyPair.getPrivate();
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+
+        privateKey = switch (keyFormat) {
+            case "NON_CRT" -> keyFactory.generatePrivate(
+                    new RSAPrivateKeySpec(generated.getModulus(), generated.getPrivateExponent()));
+            case "CRT" -> keyFactory.generatePrivate(new PKCS8EncodedKeySpec(generated.getEncoded()));
+            default -> throw new IllegalArgumentException(keyFormat);
+        };
+    }
+
+    @Benchmark
+    public String sign() {
+        Instant now = Instant.now();
+
+        return Jwts.builder()
+                .header().type("JWT").keyId(KEY_ID).and()
+                .issuer(ISSUER)
+                .subject("1")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(900)))
+                .claim(RoleAuthorityTable.ROLE_MASK_CLAIM, 1)
+                .signWith(privateKey, Jwts.SIG.RS256)
+                .compact();
+    }
+}
@@ -29,4 +29,13 @@ public class AdminApi {
 
         return new ImpersonateUserViewRes(dto);
     }
+
+    @DeleteMapping("/users/{userId}/sessions")
+    @PreAuthorize(value = "hasAnyRole('ADMIN', 'MASTER')")
+    public void revokeAllSessions(@PathVariable Long userId, HttpServletRequest request) {
+        String ip = request.getRemoteAddr();
+        Long adminUserId = userContext.getCurrentUserIdOrThrow();
+
+        adminAppService.revokeAllSessions(adminUserId, userId, ip);
+    }
 }
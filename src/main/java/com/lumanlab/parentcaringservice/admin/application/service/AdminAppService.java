@@ -1,27 +1,37 @@
 package com.lumanlab.parentcaringservice.admin.application.service;
 
+import com.lumanlab.parentcaringservice.adminactionlog.domain.AdminActionType;
+import com.lumanlab.parentcaringservice.adminactionlog.port.inp.UpdateAdminActionLog;
+import com.lumanlab.parentcaringservice.exception.AdminTargetNotAllowedException;
 import com.lumanlab.parentcaringservice.impersonationlog.domain.ImpersonationType;
 import com.lumanlab.parentcaringservice.impersonationlog.port.inp.UpdateImpersonationLog;
 import com.lumanlab.parentcaringservice.refreshtoken.application.service.RefreshTokenService;
 import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenDto;
 import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenProvider;
+import com.lumanlab.parentcaringservice.security.domain.RoleAuthorityTable;
 import com.lumanlab.parentcaringservice.security.jwt.application.service.JwtTokenService;
 import com.lumanlab.parentcaringservice.user.application.service.dto.UserLoginDto;
 import com.lumanlab.parentcaringservice.user.domain.UserAgent;
+import com.lumanlab.parentcaringservice.user.domain.UserAuthSnapshot;
+import com.lumanlab.parentcaringservice.user.domain.UserRole;
 import com.lumanlab.parentcaringservice.user.port.inp.QueryUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
 
+/**
+ * 어드민 유즈케이스
+ * <p>
+ * 토큰 서명 동안 DB 커넥션을 점유하지 않도록 클래스 단위로 트랜잭션을 열지 않으며, DB 작업은 각 포트의 짧은 트랜잭션에서 수행함
+ */
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class AdminAppService {
 
     private final QueryUser queryUser;
     private final UpdateImpersonationLog updateImpersonationLog;
+    private final UpdateAdminActionLog updateAdminActionLog;
     private final JwtTokenService jwtTokenService;
     private final RefreshTokenProvider refreshTokenProvider;
     private final RefreshTokenService refreshTokenService;
@@ -31,22 +41,64 @@ public class AdminAppService {
                 adminUserId, impersonateUserId, ip, ImpersonationType.LOGIN, "Admin impersonate user"
         );
 
-        var targetUser = queryUser.findById(impersonateUserId);
+        UserAuthSnapshot targetUser = queryUser.findAuthSnapshotById(impersonateUserId);
+
+        Map<String, Object> claims =
+                Map.of(RoleAuthorityTable.ROLE_MASK_CLAIM, targetUser.roleMask(), "impersonatorId", adminUserId);
 
         // 액세스 토큰 발급
-        String accessToken = jwtTokenService.generateAccessToken(
-                targetUser.getId(), Map.of("roles", targetUser.getRolesString(), "impersonatorId", adminUserId)
-        );
+        String accessToken = jwtTokenService.generateAccessToken(targetUser.id(), claims);
 
         // 리프레시 토큰 발급 및 저장 로직
-        RefreshTokenDto refreshTokenDto = refreshTokenProvider.generateRefreshToken(
-                targetUser.getId(), Map.of("roles", targetUser.getRolesString(), "impersonatorId", adminUserId)
-        );
+        RefreshTokenDto refreshTokenDto = refreshTokenProvider.generateRefreshToken(targetUser.id(), claims);
         refreshTokenService.generate(
-                targetUser.getId(), refreshTokenDto.tokenHash(), ip, userAgent, refreshTokenDto.issuedAt(),
-                refreshTokenDto.expiredAt()
+                targetUser.id(), refreshTokenDto.tokenId(), refreshTokenDto.tokenHash(), ip, userAgent,
+                refreshTokenDto.issuedAt(), refreshTokenDto.expiredAt()
         );
 
         return new UserLoginDto(accessToken, refreshTokenDto.token(), refreshTokenDto.expiredAt().toEpochSecond());
     }
+
+    /**
+     * 주어진 사용자의 모든 세션을 로그아웃
+     * <p>
+     * 대상 사용자의 등급을 확인한 뒤 어드민 작업 로그를 기록하며, 로그를 기록하지 못하면 세션을 만료 처리하지 않음
+     *
+     * @param adminUserId 요청한 어드민 사용자 ID
+     * @param userId      로그아웃할 사용자 ID
+     * @param ip          요청 IP
+     * @throws AdminTargetNotAllowedException 대상 사용자의 등급이 요청한 어드민보다 낮지 않은 경우
+     */
+    public void revokeAllSessions(Long adminUserId, Long userId, String ip) {
+        UserAuthSnapshot admin = queryUser.findAuthSnapshotById(adminUserId);
+        UserAuthSnapshot targetUser = queryUser.findAuthSnapshotById(userId);
+
+        checkTargetRank(admin, targetUser);
+
+        updateAdminActionLog.register(adminUserId, userId, ip, AdminActionType.REVOKE_SESSIONS);
+
+        refreshTokenService.revokeAll(userId);
+    }
+
+    /**
+     * 어드민은 자신보다 낮은 등급의 사용자만 대상으로 할 수 있음
+     * 최고 등급인 MASTER는 다른 MASTER의 계정 탈취 등에 대응할 수 있도록 모든 사용자를 대상으로 할 수 있음
+     */
+    private void checkTargetRank(UserAuthSnapshot admin, UserAuthSnapshot targetUser) {
+        UserRole adminRole = highestRole(admin);
+
+        if (adminRole == UserRole.MASTER) {
+            return;
+        }
+
+        if (UserRole.RANK_COMPARATOR.compare(highestRole(targetUser), adminRole) >= 0) {
+            throw new AdminTargetNotAllowedException("자신보다 낮은 등급의 사용자만 대상으로 할 수 있습니다.");
+        }
+    }
+
+    private UserRole highestRole(UserAuthSnapshot user) {
+        return user.roles().stream()
+                .max(UserRole.RANK_COMPARATOR)
+                .orElseThrow();
+    }
 }
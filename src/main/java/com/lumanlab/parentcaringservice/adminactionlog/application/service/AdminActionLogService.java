@@ -0,0 +1,45 @@
+package com.lumanlab.parentcaringservice.adminactionlog.application.service;
+
+import com.lumanlab.parentcaringservice.adminactionlog.domain.AdminActionLog;
+import com.lumanlab.parentcaringservice.adminactionlog.domain.AdminActionType;
+import com.lumanlab.parentcaringservice.adminactionlog.port.inp.QueryAdminActionLog;
+import com.lumanlab.parentcaringservice.adminactionlog.port.inp.UpdateAdminActionLog;
+import com.lumanlab.parentcaringservice.adminactionlog.port.outp.AdminActionLogRepository;
+import com.lumanlab.parentcaringservice.user.domain.User;
+import com.lumanlab.parentcaringservice.user.port.inp.QueryUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class AdminActionLogService implements QueryAdminActionLog, UpdateAdminActionLog {
+
+    private final AdminActionLogRepository adminActionLogRepository;
+    private final QueryUser queryUser;
+
+    @Override
+    public void register(Long adminUserId, Long targetUserId, String ip, AdminActionType type) {
+        User admin = queryUser.findById(adminUserId);
+        User targetUser = queryUser.findById(targetUserId);
+
+        adminActionLogRepository.save(new AdminActionLog(admin, targetUser, ip, type));
+    }
+
+    @Override
+    public List<AdminActionLog> findAllByAdmin(Long adminUserId) {
+        User admin = queryUser.findById(adminUserId);
+
+        return adminActionLogRepository.findAllByAdmin(admin);
+    }
+
+    @Override
+    public List<AdminActionLog> findAllByTargetUser(Long targetUserId) {
+        User targetUser = queryUser.findById(targetUserId);
+
+        return adminActionLogRepository.findAllByTargetUser(targetUser);
+    }
+}
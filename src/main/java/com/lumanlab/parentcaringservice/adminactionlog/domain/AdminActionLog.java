@@ -0,0 +1,90 @@
+package com.lumanlab.parentcaringservice.adminactionlog.domain;
+
+import com.lumanlab.parentcaringservice.user.domain.User;
+import com.lumanlab.parentcaringservice.user.domain.UserRole;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.util.StringUtils;
+
+import java.time.OffsetDateTime;
+
+/** 어드민 작업 로그 (임퍼소네이션 없이 어드민이 사용자에게 직접 수행한 작업) **/
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AdminActionLog {
+
+    /** 생성일 **/
+    @CreatedDate
+    @Column(nullable = false)
+    private OffsetDateTime createdAt = OffsetDateTime.now();
+
+    /** ID **/
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "admin_action_log_seq")
+    @SequenceGenerator(name = "admin_action_log_seq", sequenceName = "admin_action_log_seq", allocationSize = 50)
+    private Long id;
+
+    /** 작업을 요청한 어드민 **/
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "admin_user_id", nullable = false)
+    private User admin;
+
+    /** 작업 대상 유저 **/
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "target_user_id", nullable = false)
+    private User targetUser;
+
+    /** 요청한 IP 주소 **/
+    @Column(length = 45, nullable = false)
+    private String ip;
+
+    /** 작업 종류 **/
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30, nullable = false)
+    private AdminActionType type;
+
+    public AdminActionLog(User admin, User targetUser, String ip, AdminActionType type) {
+        this.admin = admin;
+        this.targetUser = targetUser;
+        this.ip = ip;
+        this.type = type;
+
+        validateAdminActionLogData();
+    }
+
+    /**
+     * 어드민 작업 로그 데이터의 유효성을 검증하는 메서드
+     * <p>
+     * 다음 조건을 만족하지 않을 경우 IllegalArgumentException을 발생시킴:
+     * - admin 필드가 null이면 안 됨
+     * - targetUser 필드가 null이면 안 됨
+     * - ip 필드가 null이면 안 됨
+     * - type 필드가 null이면 안 됨
+     * - admin 사용자의 최고 역할이 UserRole.ADMIN 미만이면 안 됨
+     */
+    private void validateAdminActionLogData() {
+        if (admin == null) {
+            throw new IllegalArgumentException("Admin user must not be null.");
+        }
+
+        if (targetUser == null) {
+            throw new IllegalArgumentException("Target user must not be null.");
+        }
+
+        if (!StringUtils.hasText(ip)) {
+            throw new IllegalArgumentException("IP address must not be null.");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("Admin action type must not be null.");
+        }
+
+        if (UserRole.RANK_COMPARATOR.compare(admin.getHighestRole(), UserRole.ADMIN) < 0) {
+            throw new IllegalArgumentException("Admin user must be a UserRole.ADMIN.");
+        }
+    }
+}
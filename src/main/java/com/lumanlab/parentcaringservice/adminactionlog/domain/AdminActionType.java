@@ -0,0 +1,6 @@
+package com.lumanlab.parentcaringservice.adminactionlog.domain;
+
+/** 어드민 작업 종류 **/
+public enum AdminActionType {
+    REVOKE_SESSIONS // 사용자 전체 세션 만료 처리
+}
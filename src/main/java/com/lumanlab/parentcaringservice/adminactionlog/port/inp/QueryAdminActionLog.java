@@ -0,0 +1,11 @@
+package com.lumanlab.parentcaringservice.adminactionlog.port.inp;
+
+import com.lumanlab.parentcaringservice.adminactionlog.domain.AdminActionLog;
+
+import java.util.List;
+
+public interface QueryAdminActionLog {
+    List<AdminActionLog> findAllByAdmin(Long adminUserId);
+
+    List<AdminActionLog> findAllByTargetUser(Long targetUserId);
+}
@@ -0,0 +1,7 @@
+package com.lumanlab.parentcaringservice.adminactionlog.port.inp;
+
+import com.lumanlab.parentcaringservice.adminactionlog.domain.AdminActionType;
+
+public interface UpdateAdminActionLog {
+    void register(Long adminUserId, Long targetUserId, String ip, AdminActionType type);
+}
@@ -0,0 +1,14 @@
+package com.lumanlab.parentcaringservice.adminactionlog.port.outp;
+
+import com.lumanlab.parentcaringservice.adminactionlog.domain.AdminActionLog;
+import com.lumanlab.parentcaringservice.user.domain.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface AdminActionLogRepository extends JpaRepository<AdminActionLog, Long> {
+
+    List<AdminActionLog> findAllByAdmin(User admin);
+
+    List<AdminActionLog> findAllByTargetUser(User targetUser);
+}
@@ -4,6 +4,8 @@ import com.lumanlab.parentcaringservice.exception.*;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
@@ -116,6 +118,46 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    /**
+     * 비밀번호 해시 작업 거절 예외 처리
+     */
+    @ExceptionHandler(PasswordHashRejectedException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashRejectedException(PasswordHashRejectedException e) {
+        log.warn("Password hash rejected: {} - {}", e.getErrorCode(), e.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(e.getErrorCode(), e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+                .body(errorResponse);
+    }
+
+    /**
+     * 로그인 시도 횟수 초과 예외 처리
+     */
+    @ExceptionHandler(LoginAttemptThrottledException.class)
+    public ResponseEntity<ErrorResponse> handleLoginAttemptThrottledException(LoginAttemptThrottledException e) {
+        log.warn("Login attempt throttled: {} - {}", e.getErrorCode(), e.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(e.getErrorCode(), e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+                .body(errorResponse);
+    }
+
+    /**
+     * 어드민 작업 대상 제한 예외 처리
+     */
+    @ExceptionHandler(AdminTargetNotAllowedException.class)
+    public ResponseEntity<ErrorResponse> handleAdminTargetNotAllowedException(AdminTargetNotAllowedException e) {
+        log.warn("Admin target not allowed: {} - {}", e.getErrorCode(), e.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(e.getErrorCode(), e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+    }
+
     /**
      * ServiceException 처리
      */
@@ -140,6 +182,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
     }
 
+    /**
+     * 동시 요청 충돌 예외 처리 (낙관적 잠금 실패, 리프레시 토큰 갱신 대기 시간 초과)
+     */
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyFailureException(ConcurrencyFailureException e) {
+        log.warn("Concurrent request conflict: {}", e.getMessage(), e);
+
+        ErrorResponse errorResponse =
+                new ErrorResponse("CONCURRENT_REQUEST", "동시에 처리 중인 요청이 있습니다. 잠시 후 다시 시도해 주세요.");
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * IllegalArgumentException 처리
      */
@@ -0,0 +1,46 @@
+package com.lumanlab.parentcaringservice.batch;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * {@link BoundedBatchWriter} 공통 설정
+ */
+@Data
+public class BatchWriterProperties {
+
+    private boolean enabled = true; // false인 경우 요청 스레드에서 바로 저장
+    private int queueCapacity = 10_000; // 대기열 최대 크기
+    private int batchSize = 100; // 한 번에 저장할 최대 항목 개수
+    private long flushInterval = 200; // 배치가 채워지지 않아도 저장하는 주기 (밀리초 단위)
+    private long offerTimeout = 0; // 대기열이 가득 찬 경우 빈 자리를 기다리는 시간 (밀리초 단위)
+    private int maxRetries = 20; // 저장에 실패한 항목을 다시 저장하는 최대 횟수
+    private long retryBackoff = 1000; // 첫 재시도까지 기다리는 시간, 이후 재시도마다 2배로 증가 (밀리초 단위)
+    private long maxRetryBackoff = 60_000; // 재시도 간격의 최댓값 (밀리초 단위)
+    private int retryCapacity = 10_000; // 재시도를 기다리는 최대 항목 개수, 가득 찬 경우 대기열에서 새 항목을 꺼내지 않음
+    private long shutdownTimeout = 10; // 종료 시 남은 항목을 저장하기 위해 기다리는 시간 (초 단위)
+
+    public Duration getFlushIntervalDuration() {
+        return Duration.ofMillis(flushInterval);
+    }
+
+    public Duration getOfferTimeoutDuration() {
+        return Duration.ofMillis(offerTimeout);
+    }
+
+    /**
+     * 실패 횟수에 따른 재시도 대기 시간 (지수 백오프)
+     *
+     * @param failures 저장에 실패한 횟수 (1 이상)
+     */
+    public Duration getRetryBackoffDuration(int failures) {
+        long backoff = retryBackoff << Math.min(failures - 1, 20);
+
+        return Duration.ofMillis(Math.min(backoff, maxRetryBackoff));
+    }
+
+    public Duration getShutdownTimeoutDuration() {
+        return Duration.ofSeconds(shutdownTimeout);
+    }
+}
@@ -0,0 +1,358 @@
+package com.lumanlab.parentcaringservice.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 항목을 크기가 제한된 대기열에 모아서 백그라운드 스레드에서 배치로 저장하는 클래스
+ * <p>
+ * 요청 스레드는 대기열에 항목을 넣기만 하고, 백그라운드 스레드가 배치 크기 또는 주기 단위로 저장 함수를 호출함
+ * 대기열이 가득 찬 경우 offerTimeout 동안 기다린 뒤(backpressure) 초과 정책(CALLER_RUNS, DROP)에 따라 처리하며,
+ * 저장에 실패한 항목은 버리지 않고 지수 백오프로 재시도 대기열에 넣어 maxRetries까지 다시 저장하며,
+ * 재시도 대기열이 retryCapacity만큼 차면 대기열에서 새 항목을 꺼내지 않아 초과 정책이 적용되도록 함
+ * 애플리케이션 종료 시에는 대기열과 재시도 대기열에 남은 항목을 모두 저장한 후 종료
+ * 저장 함수는 같은 항목이 어떤 순서로 저장되어도 결과가 같아야 함
+ *
+ * @param <T> 저장할 항목 타입
+ */
+@Slf4j
+public class BoundedBatchWriter<T> implements SmartLifecycle {
+
+    // 웹 서버가 요청 처리를 마친 뒤에 정지하도록, 웹 서버 관련 Lifecycle보다 낮은 phase 사용
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final String threadName;
+    private final String itemName;
+    private final BatchWriterProperties properties;
+    private final OverflowPolicy overflowPolicy;
+    private final Consumer<List<T>> flushFunction;
+    private final Function<T, String> describer;
+    private final BlockingQueue<T> queue;
+    private final DelayQueue<Pending<T>> retryQueue = new DelayQueue<>();
+
+    private final Timer flushTimer;
+    private final Counter droppedCounter;
+    private final Counter callerRunsCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    /**
+     * @param metricPrefix   메트릭 이름 접두사, 백그라운드 스레드 이름으로도 사용
+     * @param itemName       메트릭 설명과 로그에 사용할 항목 이름
+     * @param properties     대기열, 배치 설정
+     * @param overflowPolicy 대기열이 가득 찬 경우의 처리 방식
+     * @param flushFunction  항목 목록을 저장하는 함수, 요청 스레드와 백그라운드 스레드에서 호출됨
+     * @param describer      저장 실패 로그에 남길 항목 설명 (민감한 값 제외)
+     * @param meterRegistry  메트릭 레지스트리
+     */
+    protected BoundedBatchWriter(String metricPrefix, String itemName, BatchWriterProperties properties,
+                                 OverflowPolicy overflowPolicy, Consumer<List<T>> flushFunction,
+                                 Function<T, String> describer, MeterRegistry meterRegistry) {
+        this.threadName = metricPrefix.replace('.', '-');
+        this.itemName = itemName;
+        this.properties = properties;
+        this.overflowPolicy = overflowPolicy;
+        this.flushFunction = flushFunction;
+        this.describer = describer;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        Gauge.builder(metricPrefix + ".queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 " + itemName + " 개수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder(metricPrefix + ".flush")
+                .description(itemName + " 배치 저장 시간")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder(metricPrefix + ".dropped")
+                .description("대기열 초과로 버려진 " + itemName + " 개수")
+                .register(meterRegistry);
+        this.callerRunsCounter = Counter.builder(metricPrefix + ".caller.runs")
+                .description("대기열 초과로 요청 스레드에서 직접 저장한 " + itemName + " 개수")
+                .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".retry.pending", retryQueue, DelayQueue::size)
+                .description("재시도 대기 중인 " + itemName + " 개수")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder(metricPrefix + ".retried")
+                .description("저장에 실패해 재시도 대기열에 넣은 " + itemName + " 개수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(metricPrefix + ".failed")
+                .description("최대 재시도 횟수를 넘겨 저장하지 못한 " + itemName + " 개수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 항목을 저장 대기열에 추가
+     *
+     * @param item 저장할 항목
+     */
+    public void enqueue(T item) {
+        enqueueAll(List.of(item));
+    }
+
+    /**
+     * 여러 항목을 저장 대기열에 추가
+     * <p>
+     * 백그라운드 스레드가 동작하지 않는 경우(비활성화, 시작 전, 종료 후)에는 요청 스레드에서 바로 저장하며,
+     * 이 경우와 CALLER_RUNS로 직접 저장하는 경우 저장 함수의 예외는 호출한 쪽으로 전달됨
+     *
+     * @param items 저장할 항목 목록
+     */
+    public void enqueueAll(List<T> items) {
+        if (!running) {
+            flushFunction.accept(items);
+            return;
+        }
+
+        for (int i = 0; i < items.size(); i++) {
+            if (!offer(items.get(i))) {
+                overflow(items.subList(i, items.size()));
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+
+        flusher = new Thread(this::runFlushLoop, threadName);
+        flusher.setDaemon(true);
+        flusher.start();
+
+        log.info("{} 비동기 저장 시작: queueCapacity={}, batchSize={}",
+                itemName, properties.getQueueCapacity(), properties.getBatchSize());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        if (flusher == null) {
+            return;
+        }
+
+        try {
+            flusher.join(properties.getShutdownTimeoutDuration().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 제한 시간 내에 저장하지 못한 항목과 재시도를 기다리는 항목은 종료 스레드에서 직접 저장
+        List<T> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        List<Pending<T>> pending = new ArrayList<>(toPending(remaining));
+        pending.addAll(retryQueue);
+        retryQueue.clear();
+        if (!pending.isEmpty()) {
+            log.warn("종료 시 남은 {} 직접 저장: {}", itemName, pending.size());
+            write(pending);
+        }
+
+        log.info("{} 비동기 저장 종료", itemName);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private boolean offer(T item) {
+        try {
+            return queue.offer(item, properties.getOfferTimeout(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void overflow(List<T> items) {
+        switch (overflowPolicy) {
+            case CALLER_RUNS -> {
+                // 항목은 순서와 관계없이 같은 결과로 저장되므로, 남은 항목만 직접 저장
+                callerRunsCounter.increment(items.size());
+                flushFunction.accept(items);
+            }
+            case DROP -> {
+                droppedCounter.increment(items.size());
+                items.forEach(item -> log.warn("{} 대기열 초과로 제외: {}", itemName, describer.apply(item)));
+            }
+        }
+    }
+
+    /**
+     * 배치 크기만큼 모이거나 flushInterval이 지나면 저장
+     * 종료 요청 이후에도 대기열이 빌 때까지 계속 저장
+     */
+    private void runFlushLoop() {
+        int batchSize = properties.getBatchSize();
+        long flushIntervalNanos = properties.getFlushIntervalDuration().toNanos();
+        List<T> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                writeDueRetries(batchSize);
+
+                // 재시도 대기열이 가득 찬 동안에는 대기열에서 꺼내지 않아, 대기열이 차면 초과 정책이 적용되도록 함
+                if (running && retryQueue.size() >= properties.getRetryCapacity()) {
+                    TimeUnit.NANOSECONDS.sleep(flushIntervalNanos);
+                    continue;
+                }
+
+                T first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    // 이미 대기열에 있는 항목은 기다리지 않고 가져옴
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || !running) {
+                        break;
+                    }
+
+                    T next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 인터럽트된 경우 남은 항목을 모두 저장하고 종료
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch);
+                flush(batch);
+                return;
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeDueRetries(int batchSize) {
+        List<Pending<T>> due = new ArrayList<>();
+        retryQueue.drainTo(due, batchSize);
+        if (!due.isEmpty()) {
+            write(due);
+        }
+    }
+
+    private void flush(List<T> batch) {
+        write(toPending(batch));
+    }
+
+    /**
+     * 배치 저장에 실패한 경우, 저장할 수 없는 항목이 나머지 항목 저장에 영향을 주지 않도록 하나씩 다시 저장하고
+     * 그래도 실패한 항목은 재시도 대기열에 넣음
+     * DB 연결 실패처럼 모든 항목이 실패할 오류인 경우에는 하나씩 저장하지 않고 바로 재시도 대기열에 넣음
+     */
+    private void write(List<Pending<T>> entries) {
+        List<T> items = entries.stream().map(Pending::item).toList();
+
+        try {
+            flushTimer.record(() -> flushFunction.accept(items));
+            return;
+        } catch (Exception e) {
+            if (entries.size() == 1 || isResourceFailure(e)) {
+                log.warn("{} 배치 저장 실패, 재시도 대기열에 추가: {}건", itemName, entries.size(), e);
+                entries.forEach(entry -> scheduleRetry(entry, e));
+                return;
+            }
+            log.warn("{} 배치 저장 실패, 개별 저장으로 재시도: {}건", itemName, entries.size(), e);
+        }
+
+        for (int i = 0; i < entries.size(); i++) {
+            Pending<T> entry = entries.get(i);
+            try {
+                flushFunction.accept(List.of(entry.item()));
+            } catch (Exception e) {
+                if (isResourceFailure(e)) {
+                    entries.subList(i, entries.size()).forEach(remaining -> scheduleRetry(remaining, e));
+                    return;
+                }
+                scheduleRetry(entry, e);
+            }
+        }
+    }
+
+    /**
+     * 실패 횟수에 따라 백오프 후 다시 저장하도록 재시도 대기열에 넣음
+     * 최대 재시도 횟수를 넘겼거나 종료 중이라 더 이상 재시도할 수 없는 경우에만 실패로 기록
+     */
+    private void scheduleRetry(Pending<T> entry, Exception cause) {
+        int failures = entry.failures() + 1;
+
+        if (!running || failures > properties.getMaxRetries()) {
+            failedCounter.increment();
+            log.error("{} 저장 실패: {}, failures={}", itemName, describer.apply(entry.item()), failures, cause);
+            return;
+        }
+
+        retriedCounter.increment();
+        long dueAt = System.nanoTime() + properties.getRetryBackoffDuration(failures).toNanos();
+        retryQueue.add(new Pending<>(entry.item(), failures, dueAt));
+    }
+
+    private boolean isResourceFailure(Exception e) {
+        return e instanceof DataAccessResourceFailureException
+                || e instanceof TransientDataAccessException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private List<Pending<T>> toPending(List<T> items) {
+        return items.stream().map(item -> new Pending<>(item, 0, 0L)).toList();
+    }
+
+    /**
+     * 저장할 항목과 실패 횟수, 다음 재시도 시각 (System.nanoTime 기준)
+     */
+    private record Pending<T>(T item, int failures, long dueAt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAt, ((Pending<?>) other).dueAt);
+        }
+    }
+}
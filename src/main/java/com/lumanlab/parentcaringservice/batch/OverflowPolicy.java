@@ -0,0 +1,9 @@
+package com.lumanlab.parentcaringservice.batch;
+
+/**
+ * 대기열이 가득 찬 경우의 처리 방식
+ */
+public enum OverflowPolicy {
+    CALLER_RUNS, // 요청 스레드에서 직접 저장 (유실 없음)
+    DROP // 항목을 버리고 dropped 메트릭 증가
+}
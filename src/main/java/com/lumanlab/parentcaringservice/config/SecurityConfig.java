@@ -1,7 +1,8 @@
 package com.lumanlab.parentcaringservice.config;
 
 import com.lumanlab.parentcaringservice.security.filter.JwtAuthenticationFilter;
-import com.lumanlab.parentcaringservice.security.filter.RequestCachingFilter;
+import com.lumanlab.parentcaringservice.security.password.BCryptStrengthCalibrator;
+import com.lumanlab.parentcaringservice.security.password.PasswordHashProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,6 +14,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
 import org.springframework.security.web.SecurityFilterChain;
@@ -26,6 +28,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -34,10 +37,10 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
-    private final RequestCachingFilter requestCachingFilter;
     private final AuthenticationSuccessHandler oAuth2SuccessHandler;
     private final AuthenticationFailureHandler oAuth2FailureHandler;
     private final OAuth2AuthorizedClientService jdbcOAuth2AuthorizedClientService;
+    private final PasswordHashProperties passwordHashProperties;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -47,7 +50,6 @@ public class SecurityConfig {
                 .formLogin(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(requestCachingFilter, JwtAuthenticationFilter.class)
                 //  인증되지 않은 요청 시, 로그인 페이지 리다이렉트 대신 403 에러 응답
                 .exceptionHandling(exceptions ->
                         exceptions.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.FORBIDDEN))
@@ -119,8 +121,24 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * 비밀번호 인코더
+     * <p>
+     * 새로 해시하는 비밀번호는 "{bcrypt}" 접두사를 붙여 저장하며, BCrypt 강도는 시작 시 해시 시간을 측정하여 결정함
+     * 접두사가 없는 이전 해시도 검증할 수 있으며, 접두사가 없거나 강도가 낮은 해시는
+     * {@link PasswordEncoder#upgradeEncoding(String)}이 true를 반환하여 로그인 시 다시 해시함
+     * 서버마다 측정 강도가 다를 수 있으나, 저장된 강도가 현재 강도보다 낮은 경우에만 다시 해시하므로 강도가 낮아지지 않음
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        PasswordHashProperties.Bcrypt bcrypt = passwordHashProperties.getBcrypt();
+        int strength = bcrypt.isCalibrate() ? BCryptStrengthCalibrator.calibrate(bcrypt) : bcrypt.getStrength();
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(strength);
+
+        DelegatingPasswordEncoder passwordEncoder =
+                new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bCryptPasswordEncoder));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bCryptPasswordEncoder);
+
+        return passwordEncoder;
     }
 }
@@ -0,0 +1,10 @@
+package com.lumanlab.parentcaringservice.exception;
+
+/**
+ * 어드민이 자신보다 높거나 같은 등급의 사용자를 대상으로 작업을 요청한 경우 발생하는 예외
+ */
+public class AdminTargetNotAllowedException extends ServiceException {
+    public AdminTargetNotAllowedException(String message) {
+        super("ADMIN_TARGET_NOT_ALLOWED", message);
+    }
+}
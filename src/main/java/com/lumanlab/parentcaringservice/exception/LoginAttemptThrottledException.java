@@ -0,0 +1,20 @@
+package com.lumanlab.parentcaringservice.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 로그인 시도 횟수가 제한을 초과한 경우 발생하는 예외
+ */
+@Getter
+public class LoginAttemptThrottledException extends ServiceException {
+
+    /** 클라이언트가 다시 로그인을 시도하기까지 기다려야 하는 시간 **/
+    private final Duration retryAfter;
+
+    public LoginAttemptThrottledException(String message, Duration retryAfter) {
+        super("LOGIN_ATTEMPT_THROTTLED", message);
+        this.retryAfter = retryAfter;
+    }
+}
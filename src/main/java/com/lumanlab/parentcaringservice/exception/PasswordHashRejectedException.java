@@ -0,0 +1,20 @@
+package com.lumanlab.parentcaringservice.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해시 작업이 몰려 요청을 처리할 수 없는 경우 발생하는 예외
+ */
+@Getter
+public class PasswordHashRejectedException extends ServiceException {
+
+    /** 클라이언트가 다시 요청하기까지 기다려야 하는 시간 **/
+    private final Duration retryAfter;
+
+    public PasswordHashRejectedException(String message, Duration retryAfter) {
+        super("PASSWORD_HASH_BUSY", message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,26 @@
+package com.lumanlab.parentcaringservice.impersonationlog;
+
+import com.lumanlab.parentcaringservice.batch.BatchWriterProperties;
+import com.lumanlab.parentcaringservice.batch.OverflowPolicy;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "impersonation-log")
+public class ImpersonationLogProperties {
+
+    private Writer writer = new Writer();
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Writer extends BatchWriterProperties {
+        private OverflowPolicy overflowPolicy = OverflowPolicy.CALLER_RUNS; // 대기 시간 이후에도 가득 찬 경우의 처리 방식
+
+        public Writer() {
+            setOfferTimeout(50); // 요청 처리가 늦어지지 않도록 짧게 대기
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.lumanlab.parentcaringservice.impersonationlog.application.service;
+
+import com.lumanlab.parentcaringservice.batch.BoundedBatchWriter;
+import com.lumanlab.parentcaringservice.impersonationlog.ImpersonationLogProperties;
+import com.lumanlab.parentcaringservice.impersonationlog.domain.ImpersonationType;
+import com.lumanlab.parentcaringservice.impersonationlog.port.inp.EnqueueImpersonationLog;
+import com.lumanlab.parentcaringservice.impersonationlog.port.inp.ImpersonationLogDto;
+import com.lumanlab.parentcaringservice.impersonationlog.port.inp.UpdateImpersonationLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 임퍼소네이션 ACTION 로그를 비동기로 모아서 저장하는 클래스
+ * <p>
+ * 대기열이 가득 찬 경우 설정된 정책(CALLER_RUNS, DROP)에 따라 처리함
+ */
+@Service
+public class AsyncImpersonationLogWriter extends BoundedBatchWriter<ImpersonationLogDto>
+        implements EnqueueImpersonationLog {
+
+    public AsyncImpersonationLogWriter(UpdateImpersonationLog updateImpersonationLog,
+                                       ImpersonationLogProperties impersonationLogProperties,
+                                       MeterRegistry meterRegistry) {
+        super("impersonation.log", "임퍼소네이션 로그", impersonationLogProperties.getWriter(),
+                impersonationLogProperties.getWriter().getOverflowPolicy(), updateImpersonationLog::registerAll,
+                dto -> "adminUserId=" + dto.adminUserId() + ", targetUserId=" + dto.targetUserId(), meterRegistry);
+    }
+
+    @Override
+    public void enqueue(Long adminUserId, Long targetUserId, String ip, ImpersonationType type, String actionDetails) {
+        enqueue(new ImpersonationLogDto(adminUserId, targetUserId, ip, type, actionDetails, OffsetDateTime.now()));
+    }
+}
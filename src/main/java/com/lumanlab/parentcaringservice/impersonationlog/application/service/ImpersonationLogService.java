@@ -2,17 +2,22 @@ package com.lumanlab.parentcaringservice.impersonationlog.application.service;
 
 import com.lumanlab.parentcaringservice.impersonationlog.domain.ImpersonationLog;
 import com.lumanlab.parentcaringservice.impersonationlog.domain.ImpersonationType;
+import com.lumanlab.parentcaringservice.impersonationlog.port.inp.ImpersonationLogDto;
 import com.lumanlab.parentcaringservice.impersonationlog.port.inp.QueryImpersonationLog;
 import com.lumanlab.parentcaringservice.impersonationlog.port.inp.UpdateImpersonationLog;
 import com.lumanlab.parentcaringservice.impersonationlog.port.outp.ImpersonationLogRepository;
 import com.lumanlab.parentcaringservice.user.domain.User;
 import com.lumanlab.parentcaringservice.user.port.inp.QueryUser;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -26,8 +31,39 @@ public class ImpersonationLogService implements QueryImpersonationLog, UpdateImp
         User admin = queryUser.findById(adminUserId);
         User targetUser = queryUser.findById(targetUserId);
 
-        ImpersonationLog log = new ImpersonationLog(admin, targetUser, ip, type, actionDetails);
-        impersonationLogRepository.save(log);
+        ImpersonationLog impersonationLog = new ImpersonationLog(admin, targetUser, ip, type, actionDetails);
+        impersonationLogRepository.save(impersonationLog);
+    }
+
+    /**
+     * 여러 건의 임퍼소네이션 로그를 한 번에 저장
+     * <p>
+     * 사용자 조회를 한 번의 쿼리로 처리하며, 유효하지 않은 로그는 나머지 로그 저장에 영향을 주지 않도록 제외함
+     */
+    @Override
+    public void registerAll(List<ImpersonationLogDto> logs) {
+        Set<Long> userIds = new HashSet<>();
+        for (ImpersonationLogDto dto : logs) {
+            userIds.add(dto.adminUserId());
+            userIds.add(dto.targetUserId());
+        }
+
+        Map<Long, User> users = queryUser.findAllByIds(userIds)
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<ImpersonationLog> impersonationLogs = new ArrayList<>(logs.size());
+        for (ImpersonationLogDto dto : logs) {
+            try {
+                impersonationLogs.add(new ImpersonationLog(users.get(dto.adminUserId()), users.get(dto.targetUserId()),
+                        dto.ip(), dto.type(), dto.actionDetails(), dto.createdAt()));
+            } catch (IllegalArgumentException e) {
+                log.warn("유효하지 않은 임퍼소네이션 로그 제외: adminUserId={}, targetUserId={}, reason={}",
+                        dto.adminUserId(), dto.targetUserId(), e.getMessage());
+            }
+        }
+
+        impersonationLogRepository.saveAll(impersonationLogs);
     }
 
     @Override
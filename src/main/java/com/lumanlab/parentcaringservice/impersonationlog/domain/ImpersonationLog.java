@@ -4,7 +4,6 @@ import com.lumanlab.parentcaringservice.user.domain.User;
 import com.lumanlab.parentcaringservice.user.domain.UserRole;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
@@ -16,17 +15,17 @@ import java.time.OffsetDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor
 public class ImpersonationLog {
 
     /** 생성일 **/
     @CreatedDate
     @Column(nullable = false)
-    private final OffsetDateTime createdAt = OffsetDateTime.now();
+    private OffsetDateTime createdAt = OffsetDateTime.now();
 
     /** ID **/
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "impersonation_log_seq")
+    @SequenceGenerator(name = "impersonation_log_seq", sequenceName = "impersonation_log_seq", allocationSize = 50)
     private Long id;
 
     /** 임퍼소네이션을 요청한 어드민 **/
@@ -55,6 +54,15 @@ public class ImpersonationLog {
     public static final int ACTION_DETAILS_LENGTH = 3000;
 
     public ImpersonationLog(User admin, User targetUser, String ip, ImpersonationType type, String actionDetails) {
+        this(admin, targetUser, ip, type, actionDetails, OffsetDateTime.now());
+    }
+
+    /**
+     * 비동기로 기록되는 로그의 경우, 실제 저장 시점이 아닌 요청 시점을 생성일로 사용
+     */
+    public ImpersonationLog(User admin, User targetUser, String ip, ImpersonationType type, String actionDetails,
+                            OffsetDateTime createdAt) {
+        this.createdAt = createdAt;
         this.admin = admin;
         this.targetUser = targetUser;
         this.ip = ip;
@@ -73,6 +81,7 @@ public class ImpersonationLog {
      * - ip 필드가 null이면 안 됨
      * - type 필드가 null이면 안 됨
      * - actionDetails 필드가 null이면 안 됨
+     * - createdAt 필드가 null이면 안 됨
      * - admin 사용자의 최고 역할이 UserRole.ADMIN 미만이면 안 됨
      */
     private void validateImpersonationLogData() {
@@ -96,6 +105,10 @@ public class ImpersonationLog {
             throw new IllegalArgumentException("Action details must not be null.");
         }
 
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Created at must not be null.");
+        }
+
         if (UserRole.RANK_COMPARATOR.compare(admin.getHighestRole(), UserRole.ADMIN) < 0) {
             throw new IllegalArgumentException("Admin user must be a UserRole.ADMIN.");
         }
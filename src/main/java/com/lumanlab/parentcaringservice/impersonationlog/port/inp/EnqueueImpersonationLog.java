@@ -0,0 +1,7 @@
+package com.lumanlab.parentcaringservice.impersonationlog.port.inp;
+
+import com.lumanlab.parentcaringservice.impersonationlog.domain.ImpersonationType;
+
+public interface EnqueueImpersonationLog {
+    void enqueue(Long adminUserId, Long targetUserId, String ip, ImpersonationType type, String actionDetails);
+}
@@ -0,0 +1,8 @@
+package com.lumanlab.parentcaringservice.impersonationlog.port.inp;
+
+import com.lumanlab.parentcaringservice.impersonationlog.domain.ImpersonationType;
+
+import java.time.OffsetDateTime;
+
+public record ImpersonationLogDto(Long adminUserId, Long targetUserId, String ip, ImpersonationType type,
+                                  String actionDetails, OffsetDateTime createdAt) {}
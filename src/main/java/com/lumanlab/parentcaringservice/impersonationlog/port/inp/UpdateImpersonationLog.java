@@ -2,6 +2,9 @@ package com.lumanlab.parentcaringservice.impersonationlog.port.inp;
 
 import com.lumanlab.parentcaringservice.impersonationlog.domain.ImpersonationType;
 
+import java.util.List;
+
 public interface UpdateImpersonationLog {
     void register(Long adminUserId, Long targetUserId, String ip, ImpersonationType type, String actionDetails);
+    void registerAll(List<ImpersonationLogDto> logs);
 }
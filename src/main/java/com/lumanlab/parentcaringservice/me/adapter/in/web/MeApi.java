@@ -1,17 +1,13 @@
 package com.lumanlab.parentcaringservice.me.adapter.in.web;
 
 import com.lumanlab.parentcaringservice.me.adapter.in.web.view.res.QuerySessionsViewRes;
-import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshToken;
-import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshTokenStatus;
 import com.lumanlab.parentcaringservice.refreshtoken.port.inp.QueryRefreshToken;
+import com.lumanlab.parentcaringservice.refreshtoken.port.inp.RefreshTokenSessionPage;
 import com.lumanlab.parentcaringservice.refreshtoken.port.inp.UpdateRefreshToken;
 import com.lumanlab.parentcaringservice.security.UserContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.OffsetDateTime;
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/me")
 @RequiredArgsConstructor
@@ -22,16 +18,24 @@ public class MeApi {
     private final UpdateRefreshToken updateRefreshToken;
 
     @GetMapping("/sessions")
-    public QuerySessionsViewRes querySessions() {
+    public QuerySessionsViewRes querySessions(@RequestParam(value = "cursor", required = false) String cursor,
+                                              @RequestParam(value = "size", defaultValue = "20") int size) {
         Long userId = userContext.getCurrentUserIdOrThrow();
 
-        // 현재 유효한 상태의 RefreshToken만 조회
-        List<RefreshToken> sessions =
-                queryRefreshToken.findByUserAndStatus(userId, RefreshTokenStatus.ACTIVE, OffsetDateTime.now());
+        // 현재 유효한 상태의 RefreshToken만 페이지 단위로 조회
+        RefreshTokenSessionPage sessions = queryRefreshToken.findActiveSessions(userId, cursor, size);
 
         return QuerySessionsViewRes.create(sessions);
     }
 
+    @DeleteMapping("/sessions")
+    public void revokeAllSessions() {
+        Long userId = userContext.getCurrentUserIdOrThrow();
+
+        // 현재 세션을 포함한 모든 세션을 로그아웃
+        updateRefreshToken.revokeAll(userId);
+    }
+
     @DeleteMapping("/sessions/{sessionId}")
     public void revokeSession(@PathVariable("sessionId") Long sessionId) {
         Long userId = userContext.getCurrentUserIdOrThrow();
@@ -1,12 +1,13 @@
 package com.lumanlab.parentcaringservice.me.adapter.in.web.view.res;
 
-import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshToken;
+import com.lumanlab.parentcaringservice.refreshtoken.port.inp.RefreshTokenSessionPage;
 
 import java.util.List;
 
-public record QuerySessionsViewRes(List<QuerySessionsData> sessions) {
+public record QuerySessionsViewRes(List<QuerySessionsData> sessions, String nextCursor) {
 
-    public static QuerySessionsViewRes create(List<RefreshToken> refreshTokens) {
-        return new QuerySessionsViewRes(refreshTokens.stream().map(QuerySessionsData::new).toList());
+    public static QuerySessionsViewRes create(RefreshTokenSessionPage page) {
+        return new QuerySessionsViewRes(page.sessions().stream().map(QuerySessionsData::new).toList(),
+                page.nextCursor());
     }
 }
@@ -20,7 +20,8 @@ public class OAuth2Link {
 
     /** ID **/
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "oauth2link_seq")
+    @SequenceGenerator(name = "oauth2link_seq", sequenceName = "oauth2link_seq", allocationSize = 50)
     private Long id;
 
     /** 사용자 **/
@@ -0,0 +1,38 @@
+package com.lumanlab.parentcaringservice.refreshtoken;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "refresh-token.purge")
+public class RefreshTokenPurgeProperties {
+
+    private boolean enabled = true; // false인 경우 만료, 취소된 리프레시 토큰을 삭제하지 않음
+    private long interval = 3600; // 삭제 작업 실행 주기 (초 단위)
+    private long retention = 30; // 만료 또는 취소 이후 감사 기록을 위해 보관하는 기간 (일 단위)
+    private int batchSize = 1000; // 한 번에 삭제하거나 참조를 정리할 최대 행 개수
+    private int premakeMonths = 3; // 미리 생성해 둘 월별 파티션 개수 (현재 월 이후)
+    private PartitionPurgeMode partitionPurgeMode = PartitionPurgeMode.DROP; // 보관 기간이 지난 파티션 처리 방식
+    private long lockTimeout = 600; // 여러 인스턴스가 동시에 실행하지 않도록 잡는 잠금 유지 시간 (초 단위)
+
+    public Duration getIntervalDuration() {
+        return Duration.ofSeconds(interval);
+    }
+
+    public Duration getRetentionDuration() {
+        return Duration.ofDays(retention);
+    }
+
+    public Duration getLockTimeoutDuration() {
+        return Duration.ofSeconds(lockTimeout);
+    }
+
+    public enum PartitionPurgeMode {
+        DROP, // 파티션을 분리한 후 삭제
+        ARCHIVE // 파티션을 분리한 후 refresh_token_archive_pYYYYMM 테이블로 보관 (외부 백업 후 직접 삭제)
+    }
+}
@@ -0,0 +1,30 @@
+package com.lumanlab.parentcaringservice.refreshtoken;
+
+import com.lumanlab.parentcaringservice.batch.BatchWriterProperties;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "refresh-token.store")
+public class RefreshTokenStoreProperties {
+
+    private boolean redisEnabled = true; // false인 경우 DB에만 저장
+    private long failoverRetryInterval = 5; // Redis 장애 시 다시 Redis를 사용하기까지 기다리는 시간 (초 단위)
+    private long reconcileInterval = 1000; // Redis에 반영하지 못한 취소 목록을 확인하고 반영하는 주기 (밀리초 단위)
+    private int reconcileBatchSize = 1000; // 한 번에 Redis에 반영할 최대 취소 개수
+    private WriteBehind writeBehind = new WriteBehind();
+
+    public Duration getFailoverRetryIntervalDuration() {
+        return Duration.ofSeconds(failoverRetryInterval);
+    }
+
+    /**
+     * 대기열이 가득 찬 경우 항상 요청 스레드에서 직접 저장함
+     */
+    public static class WriteBehind extends BatchWriterProperties {
+    }
+}
@@ -0,0 +1,132 @@
+package com.lumanlab.parentcaringservice.refreshtoken.application.service;
+
+import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshToken;
+import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshTokenState;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenRepository;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenUnpublishedRevocationRepository;
+import com.lumanlab.parentcaringservice.user.domain.UserState;
+import com.lumanlab.parentcaringservice.user.port.inp.QueryUserState;
+import com.lumanlab.parentcaringservice.user.port.outp.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Redis에 저장된 리프레시 토큰 상태를 DB에 반영하는 클래스
+ * <p>
+ * DB에 없는 토큰은 새로 저장하고, 이미 있는 토큰은 취소 시간만 반영함
+ * 취소된 상태가 항상 우선하므로, 같은 토큰의 상태가 어떤 순서로 반영되어도 결과가 같음
+ * Redis에 반영하지 못할 수 있는 취소 상태는 같은 트랜잭션에서 미반영 취소 목록에 함께 기록함
+ */
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class RefreshTokenPersister {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenUnpublishedRevocationRepository refreshTokenUnpublishedRevocationRepository;
+    private final UserRepository userRepository;
+    private final QueryUserState queryUserState;
+
+    /**
+     * 이전 토큰의 취소와 새 토큰의 저장을 DB에 반영
+     * 이미 취소된 토큰인 경우 반영하지 않으며, 동시에 반영되는 경우 RefreshToken의 버전으로 나중에 반영되는 변경이 실패함
+     *
+     * @param revoked 취소된 이전 토큰의 상태
+     * @param renewed 새 토큰의 상태
+     * @throws OptimisticLockingFailureException 이전 토큰이 이미 취소된 경우
+     */
+    public void rotate(RefreshTokenState revoked, RefreshTokenState renewed) {
+        boolean alreadyRevoked = refreshTokenRepository.findByTokenId(revoked.tokenId())
+                .map(refreshToken -> refreshToken.getRevokedAt() != null)
+                .orElse(false);
+
+        if (alreadyRevoked) {
+            throw new OptimisticLockingFailureException("Refresh token has already been rotated.");
+        }
+
+        apply(List.of(revoked, renewed));
+    }
+
+    /**
+     * 이전 토큰의 취소와 새 토큰의 저장을 DB에 반영하고, 이전 토큰을 미반영 취소 목록에 기록
+     *
+     * @param revoked 취소된 이전 토큰의 상태
+     * @param renewed 새 토큰의 상태
+     * @throws OptimisticLockingFailureException 이전 토큰이 이미 취소된 경우
+     */
+    public void rotateUnpublished(RefreshTokenState revoked, RefreshTokenState renewed) {
+        rotate(revoked, renewed);
+        refreshTokenUnpublishedRevocationRepository.saveAll(List.of(revoked.tokenId()));
+    }
+
+    /**
+     * 리프레시 토큰 상태 목록을 DB에 반영하고, 취소된 토큰을 미반영 취소 목록에 기록
+     *
+     * @param states 반영할 상태 목록, 회전된 토큰은 이전 토큰의 상태가 먼저 위치함
+     */
+    public void applyUnpublished(List<RefreshTokenState> states) {
+        apply(states);
+
+        List<String> revokedTokenIds = states.stream()
+                .filter(state -> state.revokedAt() != null)
+                .map(RefreshTokenState::tokenId)
+                .toList();
+        if (!revokedTokenIds.isEmpty()) {
+            refreshTokenUnpublishedRevocationRepository.saveAll(revokedTokenIds);
+        }
+    }
+
+    /**
+     * 리프레시 토큰 상태 목록을 DB에 반영
+     * 이전 토큰과 새 토큰을 포함한 기존 행을 한 번의 쿼리로 조회함
+     *
+     * @param states 반영할 상태 목록, 회전된 토큰은 이전 토큰의 상태가 먼저 위치함
+     */
+    public void apply(List<RefreshTokenState> states) {
+        Set<String> tokenIds = new HashSet<>();
+        for (RefreshTokenState state : states) {
+            tokenIds.add(state.tokenId());
+            if (state.rotatedFromTokenId() != null) {
+                tokenIds.add(state.rotatedFromTokenId());
+            }
+        }
+
+        Map<String, RefreshToken> tokens = new HashMap<>();
+        for (RefreshToken refreshToken : refreshTokenRepository.findAllByTokenIdIn(tokenIds)) {
+            tokens.put(refreshToken.getTokenId(), refreshToken);
+        }
+
+        List<RefreshToken> created = new ArrayList<>();
+        for (RefreshTokenState state : states) {
+            RefreshToken existing = tokens.get(state.tokenId());
+
+            if (existing != null) {
+                if (state.revokedAt() != null) {
+                    existing.revokeAt(state.revokedAt());
+                }
+                continue;
+            }
+
+            RefreshToken rotatedFrom =
+                    state.rotatedFromTokenId() == null ? null : tokens.get(state.rotatedFromTokenId());
+            RefreshToken refreshToken =
+                    RefreshToken.from(state, userRepository.getReferenceById(state.userId()), rotatedFrom);
+
+            // 전체 세션 로그아웃 이후에 저장되는 토큰은 로그아웃 시간으로 취소하여 세션 목록에 나타나지 않도록 함
+            UserState userState = queryUserState.findUserState(state.userId());
+            if (state.revokedAt() == null && userState.isTokenInvalidated(state.issuedAt().toInstant())) {
+                refreshToken.revokeAt(userState.tokensInvalidBefore().atOffset(ZoneOffset.UTC));
+            }
+
+            tokens.put(state.tokenId(), refreshToken);
+            created.add(refreshToken);
+        }
+
+        refreshTokenRepository.saveAll(created);
+    }
+}
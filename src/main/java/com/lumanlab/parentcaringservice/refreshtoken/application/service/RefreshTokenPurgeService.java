@@ -0,0 +1,175 @@
+package com.lumanlab.parentcaringservice.refreshtoken.application.service;
+
+import com.lumanlab.parentcaringservice.refreshtoken.RefreshTokenPurgeProperties;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenPurgeRepository;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenPurgeRepository.PurgedRows;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+/**
+ * 만료, 취소된 리프레시 토큰을 삭제하는 클래스
+ * <p>
+ * 보관 기간(retention)이 지난 월별 파티션은 회전 체인 참조를 정리한 뒤 통째로 분리하여 삭제(또는 보관)하고,
+ * 파티션에 남아 있는 취소된 토큰이나 기본 파티션의 토큰은 batchSize 단위로 삭제함
+ * 만료된 토큰의 식별자 유일성 기록(refresh_token_token_id)도 함께 삭제함
+ * 각 문장은 별도로 커밋되므로, 중간에 실패하더라도 다음 실행에서 이어서 삭제함
+ */
+@Slf4j
+@Service
+public class RefreshTokenPurgeService {
+
+    private final RefreshTokenPurgeRepository refreshTokenPurgeRepository;
+    private final RefreshTokenPurgeProperties properties;
+
+    private final Timer purgeTimer;
+    private final Counter partitionsCounter;
+    private final Counter deletedRowsCounter;
+    private final Counter compactedRowsCounter;
+
+    public RefreshTokenPurgeService(RefreshTokenPurgeRepository refreshTokenPurgeRepository,
+                                    RefreshTokenPurgeProperties refreshTokenPurgeProperties,
+                                    MeterRegistry meterRegistry) {
+        this.refreshTokenPurgeRepository = refreshTokenPurgeRepository;
+        this.properties = refreshTokenPurgeProperties;
+
+        this.purgeTimer = Timer.builder("refresh.token.purge")
+                .description("리프레시 토큰 삭제 작업 시간")
+                .register(meterRegistry);
+        this.partitionsCounter = Counter.builder("refresh.token.purge.partitions")
+                .description("보관 기간이 지나 분리한 리프레시 토큰 파티션 개수")
+                .register(meterRegistry);
+        this.deletedRowsCounter = Counter.builder("refresh.token.purge.deleted")
+                .description("행 단위로 삭제한 리프레시 토큰 개수")
+                .register(meterRegistry);
+        this.compactedRowsCounter = Counter.builder("refresh.token.purge.compacted")
+                .description("삭제된 토큰을 참조하지 않도록 rotated_from을 정리한 리프레시 토큰 개수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 시간을 기준으로 만료, 취소된 리프레시 토큰을 삭제
+     *
+     * @return 삭제 결과
+     */
+    public PurgeResult purge() {
+        return purge(OffsetDateTime.now());
+    }
+
+    /**
+     * 주어진 시간을 기준으로 만료, 취소된 리프레시 토큰을 삭제
+     *
+     * @param now 기준 시간
+     * @return 삭제 결과
+     */
+    public PurgeResult purge(OffsetDateTime now) {
+        OffsetDateTime cutoff = now.minus(properties.getRetentionDuration());
+
+        return purgeTimer.record(() -> {
+            int partitions = 0;
+
+            if (refreshTokenPurgeRepository.isPartitioned()) {
+                createPartitions(now);
+                partitions = purgePartitions(cutoff);
+            }
+
+            PurgedRows rows = deleteRows(cutoff);
+            deleteTokenIds(cutoff);
+
+            return new PurgeResult(partitions, rows.deleted(), rows.compacted());
+        });
+    }
+
+    /**
+     * 현재 월부터 premakeMonths 이후까지의 파티션을 미리 생성
+     * 파티션이 없는 기간의 토큰은 기본 파티션에 저장되며, 해당 기간의 파티션을 생성할 수 없게 되므로 미리 생성함
+     */
+    private void createPartitions(OffsetDateTime now) {
+        YearMonth current = YearMonth.from(now.atZoneSameInstant(ZoneOffset.UTC));
+
+        for (int i = 0; i <= properties.getPremakeMonths(); i++) {
+            refreshTokenPurgeRepository.createPartition(current.plusMonths(i));
+        }
+    }
+
+    /**
+     * 모든 토큰의 만료 시간이 기준 시간 이전인 파티션을 분리
+     * 다른 파티션에서 rotated_from으로 참조하는 행을 먼저 정리하여, 분리된 파티션의 행을 참조하지 않도록 함
+     */
+    private int purgePartitions(OffsetDateTime cutoff) {
+        int partitions = 0;
+
+        for (YearMonth month : refreshTokenPurgeRepository.findPartitionMonths()) {
+            if (RefreshTokenPurgeRepository.upperBound(month).isAfter(cutoff)) {
+                break;
+            }
+
+            int compacted;
+            do {
+                compacted = refreshTokenPurgeRepository.compactReferencesTo(month, properties.getBatchSize());
+                compactedRowsCounter.increment(compacted);
+            } while (compacted > 0);
+
+            switch (properties.getPartitionPurgeMode()) {
+                case DROP -> refreshTokenPurgeRepository.dropPartition(month);
+                case ARCHIVE -> refreshTokenPurgeRepository.archivePartition(month);
+            }
+
+            partitionsCounter.increment();
+            partitions++;
+            log.info("리프레시 토큰 파티션 분리: month={}, mode={}", month, properties.getPartitionPurgeMode());
+        }
+
+        return partitions;
+    }
+
+    /**
+     * 기준 시간 이전에 만료되었거나 취소된 토큰을 batchSize 단위로 삭제
+     */
+    private PurgedRows deleteRows(OffsetDateTime cutoff) {
+        int deleted = 0;
+        int compacted = 0;
+        PurgedRows rows;
+
+        do {
+            rows = refreshTokenPurgeRepository.deleteExpiredRows(cutoff, properties.getBatchSize());
+
+            deleted += rows.deleted();
+            compacted += rows.compacted();
+            deletedRowsCounter.increment(rows.deleted());
+            compactedRowsCounter.increment(rows.compacted());
+
+            if (rows.deleted() > 0) {
+                log.debug("리프레시 토큰 배치 삭제 진행: deleted={}, compacted={}", deleted, compacted);
+            }
+        } while (rows.deleted() >= properties.getBatchSize());
+
+        return new PurgedRows(deleted, compacted);
+    }
+
+    /**
+     * 기준 시간 이전에 만료된 토큰의 식별자 기록을 batchSize 단위로 삭제
+     */
+    private void deleteTokenIds(OffsetDateTime cutoff) {
+        int deleted;
+
+        do {
+            deleted = refreshTokenPurgeRepository.deleteExpiredTokenIds(cutoff, properties.getBatchSize());
+        } while (deleted >= properties.getBatchSize());
+    }
+
+    /**
+     * 리프레시 토큰 삭제 결과
+     *
+     * @param partitions    분리한 파티션 개수
+     * @param deletedRows   행 단위로 삭제한 토큰 개수
+     * @param compactedRows 행 단위 삭제 시 rotated_from 참조를 제거한 토큰 개수
+     */
+    public record PurgeResult(int partitions, int deletedRows, int compactedRows) {}
+}
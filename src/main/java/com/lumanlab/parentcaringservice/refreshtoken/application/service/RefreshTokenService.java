@@ -1,30 +1,52 @@
 package com.lumanlab.parentcaringservice.refreshtoken.application.service;
 
 import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshToken;
+import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshTokenState;
 import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshTokenStatus;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenProvider;
 import com.lumanlab.parentcaringservice.refreshtoken.port.inp.QueryRefreshToken;
+import com.lumanlab.parentcaringservice.refreshtoken.port.inp.RefreshTokenSessionDto;
+import com.lumanlab.parentcaringservice.refreshtoken.port.inp.RefreshTokenSessionPage;
 import com.lumanlab.parentcaringservice.refreshtoken.port.inp.UpdateRefreshToken;
 import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenRepository;
 import com.lumanlab.parentcaringservice.security.encoder.RefreshTokenEncoder;
 import com.lumanlab.parentcaringservice.user.domain.User;
 import com.lumanlab.parentcaringservice.user.domain.UserAgent;
+import com.lumanlab.parentcaringservice.user.domain.UserStateChangedEvent;
+import com.lumanlab.parentcaringservice.user.port.inp.QueryUserState;
 import com.lumanlab.parentcaringservice.user.port.outp.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class RefreshTokenService implements QueryRefreshToken, UpdateRefreshToken {
 
+    public static final int MAX_SESSION_PAGE_SIZE = 100;
+    private static final char CURSOR_DELIMITER = '_';
+
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
     private final RefreshTokenEncoder refreshTokenEncoder;
+    private final RefreshTokenProvider refreshTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
+    private final QueryUserState queryUserState;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<RefreshToken> findByUser(Long userId) {
@@ -33,18 +55,46 @@ public class RefreshTokenService implements QueryRefreshToken, UpdateRefreshToke
         return refreshTokenRepository.findAllByUser(user);
     }
 
+    /**
+     * 사용자 ID와 리프레시 토큰 원문으로 ACTIVE 상태의 리프레시 토큰을 조회
+     * <p>
+     * 토큰 식별자(selector 또는 jti)로 단건 조회한 뒤 해시를 한 번만 비교하며,
+     * 식별자가 없는 이전 형식의 토큰은 식별자가 없는 ACTIVE 상태의 토큰만 대상으로 해시를 비교함
+     * DB에서 조회하므로, 아직 write-behind로 저장되지 않은 토큰은 조회되지 않음
+     *
+     * @throws IllegalArgumentException 일치하는 ACTIVE 상태의 리프레시 토큰이 없는 경우
+     */
     @Override
     public RefreshToken findByUserAndToken(Long userId, String token) {
-        User user = userRepository.findById(userId).orElseThrow();
+        String tokenId = refreshTokenProvider.extractTokenId(token);
 
-        List<RefreshToken> activeTokens = refreshTokenRepository.findAllByUser(user)
-                .stream()
-                .filter(item -> item.getStatus().equals(RefreshTokenStatus.ACTIVE))
-                .toList();
+        if (tokenId == null) {
+            return findLegacyToken(userId, token);
+        }
 
-        return activeTokens.stream()
-                .filter(item -> refreshTokenEncoder.matches(token, item.getTokenHash()))
-                .findFirst()
+        return findActiveByTokenId(tokenId, token)
+                .filter(item -> item.isOwnedBy(userId))
+                .orElseThrow(() -> new IllegalArgumentException("Refresh token is not valid."));
+    }
+
+    /**
+     * 토큰 식별자가 있는 리프레시 토큰 원문으로 토큰 소유자의 ID를 조회
+     * <p>
+     * 리프레시 토큰 저장소에서 토큰 식별자(selector 또는 jti)로 단건 조회한 뒤 해시를 한 번만 비교하므로,
+     * 사용자 ID 없이 토큰 소유자를 확인할 수 있음
+     *
+     * @throws IllegalArgumentException 토큰 식별자가 없거나, 일치하는 ACTIVE 상태의 리프레시 토큰이 없는 경우
+     */
+    @Override
+    public Long findOwnerIdByToken(String token) {
+        String tokenId = refreshTokenProvider.extractTokenId(token);
+
+        if (tokenId == null) {
+            throw new IllegalArgumentException("Refresh token is not valid.");
+        }
+
+        return findActiveStateByTokenId(tokenId, token)
+                .map(RefreshTokenState::userId)
                 .orElseThrow(() -> new IllegalArgumentException("Refresh token is not valid."));
     }
 
@@ -66,26 +116,94 @@ public class RefreshTokenService implements QueryRefreshToken, UpdateRefreshToke
         };
     }
 
+    /**
+     * ACTIVE 상태의 세션 목록을 발급 시간 역순으로 조회
+     * <p>
+     * 엔티티 대신 세션 정보만 조회하며, 마지막으로 조회한 세션의 발급 시간과 ID를 커서로 사용하여 다음 페이지를 조회하므로
+     * 사용자의 세션 이력이 많아도 페이지 크기만큼만 조회함
+     * 아직 write-behind로 DB에 저장되지 않은 세션은 조회되지 않음
+     *
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지인 경우 null
+     * @param size   페이지 크기, MAX_SESSION_PAGE_SIZE를 넘는 경우 MAX_SESSION_PAGE_SIZE로 조회
+     * @throws IllegalArgumentException 페이지 크기가 1보다 작거나, 커서 형식이 올바르지 않은 경우
+     */
     @Override
-    public void generate(Long userId, String tokenHash, String ip, UserAgent userAgent, OffsetDateTime issuedAt,
-                         OffsetDateTime expiredAt) {
-        User user = userRepository.findById(userId).orElseThrow();
+    public RefreshTokenSessionPage findActiveSessions(Long userId, String cursor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive.");
+        }
 
-        refreshTokenRepository.save(new RefreshToken(user, tokenHash, ip, userAgent, issuedAt, expiredAt));
+        int pageSize = Math.min(size, MAX_SESSION_PAGE_SIZE);
+        // 다음 페이지 존재 여부를 확인하기 위해 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+        OffsetDateTime now = OffsetDateTime.now();
+
+        List<RefreshTokenSessionDto> sessions;
+        if (cursor == null || cursor.isEmpty()) {
+            sessions = refreshTokenRepository.findActiveSessions(userId, now, limit);
+        } else {
+            SessionCursor sessionCursor = SessionCursor.decode(cursor);
+            sessions = refreshTokenRepository.findActiveSessionsAfter(userId, now, sessionCursor.issuedAt(),
+                    sessionCursor.id(), limit);
+        }
+
+        if (sessions.size() <= pageSize) {
+            return new RefreshTokenSessionPage(sessions, null);
+        }
+
+        List<RefreshTokenSessionDto> page = sessions.subList(0, pageSize);
+        RefreshTokenSessionDto last = page.getLast();
+
+        return new RefreshTokenSessionPage(List.copyOf(page), SessionCursor.encode(last.issuedAt(), last.id()));
     }
 
+    /**
+     * 리프레시 토큰을 저장
+     * <p>
+     * 토큰 식별자가 있는 토큰은 리프레시 토큰 저장소(Redis)에 저장하며, DB에는 write-behind 방식으로 저장됨
+     * 호출하는 쪽에서 이미 사용자를 조회했으므로 사용자를 다시 조회하지 않고 참조만 사용하며,
+     * 존재하지 않는 사용자는 DB 저장 시 외래 키 제약 조건으로 거부됨
+     */
     @Override
-    public void rotate(Long userId, String oldToken, String renewedTokenHash, String ip, UserAgent userAgent,
-                       OffsetDateTime issuedAt,
-                       OffsetDateTime expiredAt) {
-        RefreshToken refreshToken = findByUserAndToken(userId, oldToken);
+    public void generate(Long userId, String tokenId, String tokenHash, String ip, UserAgent userAgent,
+                         OffsetDateTime issuedAt, OffsetDateTime expiredAt) {
+        if (tokenId == null) {
+            User user = userRepository.getReferenceById(userId);
+            refreshTokenRepository.save(new RefreshToken(user, tokenHash, ip, userAgent, issuedAt, expiredAt));
+            return;
+        }
 
-        if (refreshToken == null) {
-            throw new NoSuchElementException("Refresh token is not found.");
+        refreshTokenStore.save(new RefreshTokenState(tokenId, userId, tokenHash, ip, userAgent, issuedAt,
+                expiredAt, null, null));
+    }
+
+    /**
+     * 리프레시 토큰을 회전
+     * <p>
+     * 토큰 식별자가 있는 토큰은 리프레시 토큰 저장소에서 조회하고, 이전 토큰의 취소와 새 토큰의 저장을 함께 반영함
+     * 토큰 식별자가 없는 이전 형식의 토큰은 DB에서 조회하여 회전함
+     *
+     * @throws IllegalArgumentException          일치하는 ACTIVE 상태의 리프레시 토큰이 없는 경우
+     * @throws OptimisticLockingFailureException 다른 요청이 같은 토큰을 먼저 회전한 경우
+     */
+    @Override
+    public void rotate(Long userId, String oldToken, String renewedTokenId, String renewedTokenHash, String ip,
+                       UserAgent userAgent, OffsetDateTime issuedAt, OffsetDateTime expiredAt) {
+        String tokenId = refreshTokenProvider.extractTokenId(oldToken);
+
+        if (tokenId == null) {
+            rotateLegacyToken(userId, oldToken, renewedTokenId, renewedTokenHash, issuedAt, expiredAt);
+            return;
         }
 
-        refreshTokenRepository.save(refreshToken.rotate(renewedTokenHash, issuedAt, expiredAt, refreshToken.getIp(),
-                refreshToken.getUserAgent()));
+        RefreshTokenState current = findActiveStateByTokenId(tokenId, oldToken)
+                .filter(state -> state.userId().equals(userId))
+                .orElseThrow(() -> new IllegalArgumentException("Refresh token is not valid."));
+
+        RefreshTokenState renewed = new RefreshTokenState(renewedTokenId, userId, renewedTokenHash, current.ip(),
+                current.userAgent(), issuedAt, expiredAt, null, current.tokenId());
+
+        refreshTokenStore.rotate(current.revoke(OffsetDateTime.now()), renewed);
     }
 
     @Override
@@ -97,5 +215,96 @@ public class RefreshTokenService implements QueryRefreshToken, UpdateRefreshToke
         refreshToken.checkUser(user);
 
         refreshToken.revoke();
+
+        // 다른 인스턴스에서도 취소 여부를 바로 확인할 수 있도록 리프레시 토큰 저장소에 반영
+        if (refreshToken.getTokenId() != null) {
+            refreshTokenStore.publishRevocation(refreshToken.toState());
+        }
+    }
+
+    /**
+     * 사용자의 모든 세션을 로그아웃 (전체 세션 로그아웃)
+     * <p>
+     * ACTIVE 상태의 리프레시 토큰을 한 번의 UPDATE 문으로 취소하고, 사용자에 토큰 무효화 기준 시간을 저장함
+     * 무효화 기준 시간은 사용자 상태 캐시 무효화 메시지로 모든 인스턴스에 전파되며,
+     * 이미 발급된 AccessToken과 아직 DB에 저장되지 않은(Redis에만 있는) 리프레시 토큰은 기준 시간으로 거부됨
+     *
+     * @return 취소된 리프레시 토큰 개수
+     */
+    @Override
+    public int revokeAll(Long userId) {
+        User user = userRepository.findById(userId).orElseThrow();
+        OffsetDateTime now = OffsetDateTime.now();
+
+        user.invalidateTokens(now);
+        eventPublisher.publishEvent(new UserStateChangedEvent(userId));
+
+        return refreshTokenRepository.revokeAllActiveByUserId(userId, now);
+    }
+
+    private void rotateLegacyToken(Long userId, String oldToken, String renewedTokenId, String renewedTokenHash,
+                                   OffsetDateTime issuedAt, OffsetDateTime expiredAt) {
+        RefreshToken refreshToken = findLegacyToken(userId, oldToken);
+
+        if (refreshToken == null) {
+            throw new NoSuchElementException("Refresh token is not found.");
+        }
+
+        refreshTokenRepository.save(refreshToken.rotate(renewedTokenId, renewedTokenHash, issuedAt, expiredAt,
+                refreshToken.getIp(), refreshToken.getUserAgent()));
+    }
+
+    private Optional<RefreshToken> findActiveByTokenId(String tokenId, String token) {
+        return refreshTokenRepository.findByTokenId(tokenId)
+                .filter(item -> item.getStatus() == RefreshTokenStatus.ACTIVE)
+                .filter(item -> !isInvalidated(item.getUser().getId(), item.getIssuedAt()))
+                .filter(item -> refreshTokenEncoder.matches(token, item.getTokenHash()));
+    }
+
+    private Optional<RefreshTokenState> findActiveStateByTokenId(String tokenId, String token) {
+        return refreshTokenStore.find(tokenId)
+                .filter(state -> state.getStatus() == RefreshTokenStatus.ACTIVE)
+                .filter(state -> !isInvalidated(state.userId(), state.issuedAt()))
+                .filter(state -> refreshTokenEncoder.matches(token, state.tokenHash()));
+    }
+
+    /**
+     * 전체 세션 로그아웃 이전에 발급된 토큰인지 캐시된 사용자 상태로 확인
+     */
+    private boolean isInvalidated(Long userId, OffsetDateTime issuedAt) {
+        return queryUserState.findUserState(userId).isTokenInvalidated(issuedAt.toInstant());
+    }
+
+    private RefreshToken findLegacyToken(Long userId, String token) {
+        return refreshTokenRepository.findActiveLegacyTokensByUserId(userId, OffsetDateTime.now())
+                .stream()
+                .filter(item -> refreshTokenEncoder.matches(token, item.getTokenHash()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Refresh token is not valid."));
+    }
+
+    /**
+     * 세션 목록 커서 (마지막으로 조회한 세션의 발급 시간과 ID)
+     * 클라이언트에는 Base64 URL 인코딩된 "발급 시간_ID" 문자열로 전달함
+     */
+    private record SessionCursor(OffsetDateTime issuedAt, Long id) {
+
+        private static String encode(OffsetDateTime issuedAt, Long id) {
+            String value = issuedAt.toInstant().toString() + CURSOR_DELIMITER + id;
+
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static SessionCursor decode(String cursor) {
+            try {
+                String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int delimiter = value.lastIndexOf(CURSOR_DELIMITER);
+
+                return new SessionCursor(Instant.parse(value.substring(0, delimiter)).atOffset(ZoneOffset.UTC),
+                        Long.valueOf(value.substring(delimiter + 1)));
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Session cursor is not valid.", e);
+            }
+        }
     }
 }
@@ -0,0 +1,316 @@
+package com.lumanlab.parentcaringservice.refreshtoken.application.service;
+
+import com.lumanlab.parentcaringservice.refreshtoken.RefreshTokenStoreProperties;
+import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshToken;
+import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshTokenState;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenRedisRepository;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenRepository;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenUnpublishedRevocationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 토큰 식별자가 있는 리프레시 토큰의 상태 저장소
+ * <p>
+ * Redis를 기본 저장소로 사용하며, 변경된 상태는 write-behind 방식으로 DB에 저장하여 감사 기록과 세션 목록 조회에 사용함
+ * 조회 시 Redis에 없는 토큰은 DB에서 읽어 Redis를 채움
+ * <p>
+ * Redis 장애가 발생한 경우 failoverRetryInterval 동안 DB 전용 모드로 전환하여 요청 스레드에서 바로 DB에 저장하며,
+ * 장애 중 취소된 토큰은 같은 트랜잭션에서 DB의 미반영 취소 목록에 기록하고 Redis가 복구된 후 Redis에 반영함
+ * 미반영 취소 목록이 비어 있지 않은 동안에는 모든 인스턴스가 Redis의 오래된 ACTIVE 상태 대신 DB의 취소 상태를 확인함
+ */
+@Slf4j
+@Service
+public class RefreshTokenStore {
+
+    private final RefreshTokenRedisRepository refreshTokenRedisRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenUnpublishedRevocationRepository refreshTokenUnpublishedRevocationRepository;
+    private final RefreshTokenWriteBehindWriter refreshTokenWriteBehindWriter;
+    private final RefreshTokenPersister refreshTokenPersister;
+    private final RefreshTokenStoreProperties properties;
+
+    private final AtomicBoolean redisUnavailable = new AtomicBoolean();
+    private final Counter failoverCounter;
+    private final Counter reconciledCounter;
+
+    private volatile long redisRetryAt;
+    // 미반영 취소 목록이 비어 있지 않은지 여부, 시작 직후에는 목록을 확인하기 전까지 DB의 취소 상태를 확인함
+    private volatile boolean unpublishedRevocations = true;
+
+    public RefreshTokenStore(RefreshTokenRedisRepository refreshTokenRedisRepository,
+                             RefreshTokenRepository refreshTokenRepository,
+                             RefreshTokenUnpublishedRevocationRepository refreshTokenUnpublishedRevocationRepository,
+                             RefreshTokenWriteBehindWriter refreshTokenWriteBehindWriter,
+                             RefreshTokenPersister refreshTokenPersister,
+                             RefreshTokenStoreProperties refreshTokenStoreProperties,
+                             MeterRegistry meterRegistry) {
+        this.refreshTokenRedisRepository = refreshTokenRedisRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenUnpublishedRevocationRepository = refreshTokenUnpublishedRevocationRepository;
+        this.refreshTokenWriteBehindWriter = refreshTokenWriteBehindWriter;
+        this.refreshTokenPersister = refreshTokenPersister;
+        this.properties = refreshTokenStoreProperties;
+
+        Gauge.builder("refresh.token.store.unpublished.revocations", this, store -> store.isReconciling() ? 1 : 0)
+                .description("Redis에 반영하지 못한 리프레시 토큰 취소가 있어 DB의 취소 상태를 확인하는 중인지 여부")
+                .register(meterRegistry);
+        this.failoverCounter = Counter.builder("refresh.token.store.failover")
+                .description("Redis 장애로 DB 전용 모드로 전환한 횟수")
+                .register(meterRegistry);
+        this.reconciledCounter = Counter.builder("refresh.token.store.reconciled")
+                .description("Redis 복구 후 Redis에 반영한 리프레시 토큰 취소 개수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 식별자로 리프레시 토큰 상태를 조회
+     * <p>
+     * Redis -> DB 순으로 조회하며, DB에서 읽은 상태는 Redis에 없는 경우에만 저장하여 더 최신 상태를 덮어쓰지 않음
+     * 미반영 취소 목록이 비어 있지 않은 동안에는 DB의 취소 상태를 먼저 확인함
+     *
+     * @param tokenId 토큰 식별자
+     * @return 리프레시 토큰 상태, 존재하지 않는 경우 빈 Optional
+     */
+    public Optional<RefreshTokenState> find(String tokenId) {
+        Optional<RefreshTokenState> stored = Optional.empty();
+        boolean reconciling = isReconciling();
+
+        if (reconciling) {
+            stored = refreshTokenRepository.findByTokenId(tokenId).map(RefreshToken::toState);
+            if (stored.filter(state -> state.revokedAt() != null).isPresent()) {
+                return stored;
+            }
+        }
+
+        if (isRedisAvailable()) {
+            try {
+                RefreshTokenState state = refreshTokenRedisRepository.find(tokenId);
+                onRedisSuccess();
+
+                if (state != null) {
+                    return Optional.of(state);
+                }
+            } catch (DataAccessException e) {
+                onRedisFailure(e);
+            }
+        }
+
+        if (!reconciling) {
+            stored = refreshTokenRepository.findByTokenId(tokenId).map(RefreshToken::toState);
+        }
+        stored.ifPresent(item -> writeRedis(() -> refreshTokenRedisRepository.saveIfAbsent(item)));
+
+        return stored;
+    }
+
+    /**
+     * 리프레시 토큰 상태를 저장
+     *
+     * @param state 저장할 상태
+     */
+    public void save(RefreshTokenState state) {
+        saveAll(List.of(state));
+    }
+
+    /**
+     * 여러 리프레시 토큰 상태를 함께 저장
+     * <p>
+     * Redis에 먼저 저장한 후 DB 저장 대기열에 추가하며, Redis를 사용할 수 없는 경우 요청 스레드에서 바로 DB에 저장함
+     *
+     * @param states 저장할 상태 목록, 회전된 토큰은 이전 토큰의 상태가 먼저 위치함
+     */
+    public void saveAll(List<RefreshTokenState> states) {
+        if (writeRedis(() -> refreshTokenRedisRepository.saveAll(states))) {
+            refreshTokenWriteBehindWriter.enqueueAll(states);
+            return;
+        }
+
+        if (!properties.isRedisEnabled()) {
+            refreshTokenPersister.apply(states);
+            return;
+        }
+
+        refreshTokenPersister.applyUnpublished(states);
+        if (states.stream().anyMatch(state -> state.revokedAt() != null)) {
+            unpublishedRevocations = true;
+        }
+    }
+
+    /**
+     * 이전 토큰의 취소와 새 토큰의 저장을 함께 반영
+     * <p>
+     * Redis에서는 이전 토큰의 키를 WATCH하고, DB 전용 모드에서는 RefreshToken의 버전으로 동시 회전을 확인함
+     * 미반영 취소 목록이 비어 있지 않은 동안에는 Redis의 상태를 신뢰할 수 없으므로 DB에서 확인한 후 Redis에 반영함
+     *
+     * @param revoked 취소된 이전 토큰의 상태
+     * @param renewed 새 토큰의 상태
+     * @throws OptimisticLockingFailureException 다른 요청이 이전 토큰을 먼저 회전하거나 취소한 경우
+     */
+    public void rotate(RefreshTokenState revoked, RefreshTokenState renewed) {
+        Boolean rotated = null;
+
+        if (!isReconciling() && isRedisAvailable()) {
+            try {
+                rotated = refreshTokenRedisRepository.rotate(revoked, renewed);
+                onRedisSuccess();
+            } catch (DataAccessException e) {
+                onRedisFailure(e);
+            }
+        }
+
+        if (rotated == null) {
+            if (!properties.isRedisEnabled()) {
+                refreshTokenPersister.rotate(revoked, renewed);
+                return;
+            }
+
+            refreshTokenPersister.rotateUnpublished(revoked, renewed);
+            publishUnpublished(List.of(revoked, renewed));
+            return;
+        }
+
+        if (!rotated) {
+            throw new OptimisticLockingFailureException("Refresh token has already been rotated.");
+        }
+
+        refreshTokenWriteBehindWriter.enqueueAll(List.of(revoked, renewed));
+    }
+
+    /**
+     * DB에서 취소된 리프레시 토큰의 상태를 Redis에 반영
+     * <p>
+     * Redis를 사용할 수 없는 경우 호출한 쪽의 트랜잭션에서 미반영 취소 목록에 기록하고, Redis가 복구된 후 반영함
+     *
+     * @param state 취소된 상태
+     */
+    public void publishRevocation(RefreshTokenState state) {
+        if (!properties.isRedisEnabled() || writeRedis(() -> refreshTokenRedisRepository.save(state))) {
+            return;
+        }
+
+        refreshTokenUnpublishedRevocationRepository.saveAll(List.of(state.tokenId()));
+        unpublishedRevocations = true;
+    }
+
+    /**
+     * 미반영 취소 목록의 상태를 DB에서 읽어 Redis에 반영하고 목록에서 삭제
+     * <p>
+     * 모든 인스턴스에서 주기적으로 실행하며, 목록이 비어 있는지 확인하여 DB의 취소 상태를 먼저 확인할지 결정함
+     * 장애 전에 Redis에 저장된 ACTIVE 상태가 남아 있으므로, DB의 취소된 상태로 덮어씀
+     *
+     * @return Redis에 반영한 취소 개수
+     */
+    public int reconcileUnpublishedRevocations() {
+        if (!properties.isRedisEnabled()) {
+            unpublishedRevocations = false;
+            return 0;
+        }
+
+        List<String> tokenIds = refreshTokenUnpublishedRevocationRepository.findTokenIds(
+                properties.getReconcileBatchSize());
+        if (tokenIds.isEmpty()) {
+            if (unpublishedRevocations) {
+                log.info("Redis에 반영하지 못한 리프레시 토큰 취소 없음, Redis 상태만 확인");
+            }
+            unpublishedRevocations = false;
+            return 0;
+        }
+
+        unpublishedRevocations = true;
+        if (!isRedisAvailable()) {
+            return 0;
+        }
+
+        // 목록에 기록된 토큰은 DB에 취소 상태가 있으며, 삭제 작업으로 이미 삭제된 토큰은 만료되어 Redis에 반영할 필요 없음
+        List<RefreshTokenState> states = refreshTokenRepository.findAllByTokenIdIn(tokenIds).stream()
+                .map(RefreshToken::toState)
+                .toList();
+        if (!writeRedis(() -> refreshTokenRedisRepository.saveAll(states))) {
+            return 0;
+        }
+
+        refreshTokenUnpublishedRevocationRepository.deleteAll(tokenIds);
+        reconciledCounter.increment(tokenIds.size());
+        log.info("Redis에 반영하지 못한 리프레시 토큰 취소 반영: {}건", tokenIds.size());
+
+        return tokenIds.size();
+    }
+
+    /**
+     * DB와 미반영 취소 목록에 반영한 상태를 바로 Redis에 반영하고, 성공한 경우 목록에서 삭제
+     * 실패한 경우 목록에 남은 취소는 {@link #reconcileUnpublishedRevocations()}에서 반영함
+     */
+    private void publishUnpublished(List<RefreshTokenState> states) {
+        if (!writeRedis(() -> refreshTokenRedisRepository.saveAll(states))) {
+            unpublishedRevocations = true;
+            return;
+        }
+
+        List<String> revokedTokenIds = states.stream()
+                .filter(state -> state.revokedAt() != null)
+                .map(RefreshTokenState::tokenId)
+                .toList();
+        refreshTokenUnpublishedRevocationRepository.deleteAll(revokedTokenIds);
+    }
+
+    /**
+     * Redis에 저장
+     *
+     * @return 저장에 성공한 경우 true, Redis를 사용할 수 없거나 저장에 실패한 경우 false
+     */
+    private boolean writeRedis(Runnable operation) {
+        if (!isRedisAvailable()) {
+            return false;
+        }
+
+        try {
+            operation.run();
+            onRedisSuccess();
+
+            return true;
+        } catch (DataAccessException e) {
+            onRedisFailure(e);
+
+            return false;
+        }
+    }
+
+    private boolean isReconciling() {
+        return properties.isRedisEnabled() && unpublishedRevocations;
+    }
+
+    private boolean isRedisAvailable() {
+        if (!properties.isRedisEnabled()) {
+            return false;
+        }
+
+        // 장애 이후 재시도 시간이 지난 경우 다시 Redis를 사용함
+        return !redisUnavailable.get() || System.nanoTime() - redisRetryAt >= 0;
+    }
+
+    private void onRedisFailure(DataAccessException e) {
+        redisRetryAt = System.nanoTime() + properties.getFailoverRetryIntervalDuration().toNanos();
+
+        if (redisUnavailable.compareAndSet(false, true)) {
+            failoverCounter.increment();
+            log.warn("Redis 장애로 리프레시 토큰 저장소를 DB 전용 모드로 전환: retryInterval={}",
+                    properties.getFailoverRetryIntervalDuration(), e);
+        }
+    }
+
+    private void onRedisSuccess() {
+        if (redisUnavailable.compareAndSet(true, false)) {
+            log.info("Redis 복구로 리프레시 토큰 저장소를 Redis 모드로 전환");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.lumanlab.parentcaringservice.refreshtoken.application.service;
+
+import com.lumanlab.parentcaringservice.batch.BoundedBatchWriter;
+import com.lumanlab.parentcaringservice.batch.OverflowPolicy;
+import com.lumanlab.parentcaringservice.refreshtoken.RefreshTokenStoreProperties;
+import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshTokenState;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis에 저장된 리프레시 토큰 상태를 비동기로 모아서 DB에 저장하는 클래스 (write-behind)
+ * <p>
+ * DB에만 있는 세션 목록과 감사 기록이 유실되지 않도록, 대기열이 가득 찬 경우 항상 요청 스레드에서 직접 저장함
+ */
+@Service
+public class RefreshTokenWriteBehindWriter extends BoundedBatchWriter<RefreshTokenState> {
+
+    public RefreshTokenWriteBehindWriter(RefreshTokenPersister refreshTokenPersister,
+                                         RefreshTokenStoreProperties refreshTokenStoreProperties,
+                                         MeterRegistry meterRegistry) {
+        super("refresh.token.write.behind", "리프레시 토큰 상태", refreshTokenStoreProperties.getWriteBehind(),
+                OverflowPolicy.CALLER_RUNS, refreshTokenPersister::apply,
+                state -> "tokenId=" + state.tokenId() + ", userId=" + state.userId(), meterRegistry);
+    }
+}
@@ -11,8 +11,17 @@ import org.springframework.util.StringUtils;
 
 import java.time.OffsetDateTime;
 
-/** RefreshToken 엔티티 **/
+/**
+ * RefreshToken 엔티티
+ * 파티션 테이블의 유일 인덱스는 파티션 키(expired_at)를 포함해야 하므로, token_id의 유일성은
+ * refresh_token_token_id 테이블과 행 추가 트리거로 보장함 (V6__refresh_token_token_id_uniqueness.sql)
+ **/
 @Entity
+@Table(indexes = {
+        @Index(name = "ux_refresh_token_token_id", columnList = "token_id, expired_at", unique = true),
+        @Index(name = "ix_refresh_token_user_id", columnList = "user_id"),
+        @Index(name = "ix_refresh_token_rotated_from", columnList = "rotated_from")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Getter
@@ -20,21 +29,29 @@ public class RefreshToken {
 
     /** ID **/
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_token_seq")
+    @SequenceGenerator(name = "refresh_token_seq", sequenceName = "refresh_token_seq", allocationSize = 50)
     private Long id;
 
+    /** RefreshToken 식별자 (jti), 식별자 도입 이전에 발급된 토큰은 null **/
+    @Column(length = 36)
+    private String tokenId;
+
     /** RefreshToken를 할당 받은 사용자 **/
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
     /** RefreshToken 해쉬 **/
-    @Column(length = 100, nullable = false, unique = true)
+    @Column(length = 100, nullable = false)
     private String tokenHash;
 
-    /** 이전 RefreshToken 참조 값 **/
-    @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "rotated_from")
+    /**
+     * 이전 RefreshToken 참조 값
+     * 파티션 단위로 오래된 토큰을 삭제하므로 외래키를 두지 않으며, 이전 토큰이 삭제되면 null로 정리됨
+     **/
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "rotated_from", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private RefreshToken rotatedFrom;
 
     /** 사용자 IP **/
@@ -57,9 +74,19 @@ public class RefreshToken {
     @Column(length = 20, nullable = false)
     private UserAgent userAgent;
 
+    /** 낙관적 잠금 버전, 동시에 같은 토큰을 회전하거나 취소하는 경우 나중에 반영되는 변경이 실패함 **/
+    @Version
+    private Long version;
+
     public RefreshToken(User user, String tokenHash, String ip, UserAgent userAgent, OffsetDateTime issuedAt,
                         OffsetDateTime expiredAt) {
+        this(user, null, tokenHash, ip, userAgent, issuedAt, expiredAt);
+    }
+
+    public RefreshToken(User user, String tokenId, String tokenHash, String ip, UserAgent userAgent,
+                        OffsetDateTime issuedAt, OffsetDateTime expiredAt) {
         this.user = user;
+        this.tokenId = tokenId;
         this.tokenHash = tokenHash;
         this.ip = ip;
         this.userAgent = userAgent;
@@ -94,6 +121,7 @@ public class RefreshToken {
      * 주어진 정보를 기반으로 기존 RefreshToken을 새롭게 갱신하는 메서드
      * 새로운 RefreshToken 객체를 생성하며, 기존 토큰은 무효화 상태로 변경됨
      *
+     * @param tokenId   새롭게 생성될 토큰의 식별자 (jti)
      * @param tokenHash 새롭게 생성될 토큰의 해시값
      * @param issuedAt  새 토큰의 발급 시간
      * @param expiredAt 새 토큰의 만료 시간
@@ -101,9 +129,9 @@ public class RefreshToken {
      * @param userAgent 새 토큰 생성 요청을 발행한 사용자 에이전트 정보
      * @return 갱신된 RefreshToken 객체
      */
-    public RefreshToken rotate(String tokenHash, OffsetDateTime issuedAt, OffsetDateTime expiredAt, String ip,
-                               UserAgent userAgent) {
-        var renewedToken = new RefreshToken(user, tokenHash, ip, userAgent, issuedAt, expiredAt);
+    public RefreshToken rotate(String tokenId, String tokenHash, OffsetDateTime issuedAt, OffsetDateTime expiredAt,
+                               String ip, UserAgent userAgent) {
+        var renewedToken = new RefreshToken(user, tokenId, tokenHash, ip, userAgent, issuedAt, expiredAt);
 
         renewedToken.rotatedFrom = this;
         revoke();
@@ -129,6 +157,58 @@ public class RefreshToken {
         this.revokedAt = OffsetDateTime.now();
     }
 
+    /**
+     * Redis에 저장된 상태로 RefreshToken을 생성하는 메서드
+     *
+     * @param state       리프레시 토큰 상태
+     * @param user        토큰을 할당 받은 사용자
+     * @param rotatedFrom 이전 RefreshToken, 없는 경우 null
+     * @return 생성된 RefreshToken
+     */
+    public static RefreshToken from(RefreshTokenState state, User user, RefreshToken rotatedFrom) {
+        var refreshToken = new RefreshToken(user, state.tokenId(), state.tokenHash(), state.ip(), state.userAgent(),
+                state.issuedAt(), state.expiredAt());
+
+        refreshToken.rotatedFrom = rotatedFrom;
+        refreshToken.revokedAt = state.revokedAt();
+
+        return refreshToken;
+    }
+
+    /**
+     * 현재 RefreshToken의 상태를 Redis에 저장하는 형태로 변환하는 메서드
+     *
+     * @return 리프레시 토큰 상태
+     */
+    public RefreshTokenState toState() {
+        return new RefreshTokenState(tokenId, user.getId(), tokenHash, ip, userAgent, issuedAt, expiredAt, revokedAt,
+                rotatedFrom == null ? null : rotatedFrom.getTokenId());
+    }
+
+    /**
+     * 주어진 시간으로 RefreshToken을 취소하는 메서드
+     * <p>
+     * 다른 인스턴스에서 먼저 취소한 결과를 반영하는 용도로, 이미 취소된 경우 기존 취소 시간을 유지함
+     *
+     * @param revokedAt 취소 시간
+     */
+    public void revokeAt(OffsetDateTime revokedAt) {
+        if (this.revokedAt == null) {
+            this.revokedAt = revokedAt;
+        }
+    }
+
+    /**
+     * 주어진 사용자 ID가 현재 RefreshToken의 사용자 ID와 일치하는지 여부를 반환하는 메서드
+     * 사용자 엔티티를 로딩하지 않고 외래키 값으로만 비교함
+     *
+     * @param userId 확인할 사용자 ID
+     * @return 일치하는 경우 true
+     */
+    public boolean isOwnedBy(Long userId) {
+        return user.getId().equals(userId);
+    }
+
     /**
      * 주어진 사용자가 현재 RefreshToken의 사용자와 일치하는지 확인하는 메서드
      * 사용자가 일치하지 않을 경우 IllegalArgumentException을 발생시킴
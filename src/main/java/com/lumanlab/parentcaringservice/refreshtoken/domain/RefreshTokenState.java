@@ -0,0 +1,51 @@
+package com.lumanlab.parentcaringservice.refreshtoken.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.lumanlab.parentcaringservice.user.domain.UserAgent;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Redis에 저장하는 리프레시 토큰 상태
+ * <p>
+ * 토큰 식별자(tokenId)를 키로 사용하며, DB의 RefreshToken 행과 같은 값을 가짐
+ *
+ * @param tokenId            토큰 식별자
+ * @param userId             토큰을 할당 받은 사용자 ID
+ * @param tokenHash          토큰 해시
+ * @param ip                 사용자 IP
+ * @param userAgent          사용자 클라이언트의 UserAgent
+ * @param issuedAt           발급 시간
+ * @param expiredAt          만료 시간
+ * @param revokedAt          취소된 시간, 취소되지 않은 경우 null
+ * @param rotatedFromTokenId 이전 토큰의 식별자, 회전으로 발급되지 않은 경우 null
+ */
+public record RefreshTokenState(String tokenId, Long userId, String tokenHash, String ip, UserAgent userAgent,
+                                OffsetDateTime issuedAt, OffsetDateTime expiredAt, OffsetDateTime revokedAt,
+                                String rotatedFromTokenId) {
+
+    /**
+     * 현재 시간을 기준으로 토큰 상태를 반환
+     *
+     * @return 취소되었거나 만료된 경우 EXPIRED, 그 외 ACTIVE
+     */
+    @JsonIgnore
+    public RefreshTokenStatus getStatus() {
+        if (revokedAt != null || expiredAt.isBefore(OffsetDateTime.now())) {
+            return RefreshTokenStatus.EXPIRED;
+        }
+
+        return RefreshTokenStatus.ACTIVE;
+    }
+
+    /**
+     * 주어진 시간에 취소된 상태를 반환
+     *
+     * @param revokedAt 취소 시간
+     * @return 취소된 상태
+     */
+    public RefreshTokenState revoke(OffsetDateTime revokedAt) {
+        return new RefreshTokenState(tokenId, userId, tokenHash, ip, userAgent, issuedAt, expiredAt, revokedAt,
+                rotatedFromTokenId);
+    }
+}
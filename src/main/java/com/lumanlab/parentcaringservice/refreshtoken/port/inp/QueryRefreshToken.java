@@ -9,5 +9,7 @@ import java.util.List;
 public interface QueryRefreshToken {
     List<RefreshToken> findByUser(Long userId);
     RefreshToken findByUserAndToken(Long userId, String token);
+    Long findOwnerIdByToken(String token);
     List<RefreshToken> findByUserAndStatus(Long userId, RefreshTokenStatus status, OffsetDateTime time);
+    RefreshTokenSessionPage findActiveSessions(Long userId, String cursor, int size);
 }
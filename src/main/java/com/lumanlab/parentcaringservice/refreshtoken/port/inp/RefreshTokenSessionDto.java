@@ -0,0 +1,5 @@
+package com.lumanlab.parentcaringservice.refreshtoken.port.inp;
+
+import java.time.OffsetDateTime;
+
+public record RefreshTokenSessionDto(Long id, String ip, OffsetDateTime issuedAt, OffsetDateTime expiredAt) {}
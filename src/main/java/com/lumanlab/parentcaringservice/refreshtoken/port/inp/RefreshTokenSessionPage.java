@@ -0,0 +1,11 @@
+package com.lumanlab.parentcaringservice.refreshtoken.port.inp;
+
+import java.util.List;
+
+/**
+ * 세션(ACTIVE 상태의 리프레시 토큰) 목록 페이지
+ *
+ * @param sessions   발급 시간 역순으로 정렬된 세션 목록
+ * @param nextCursor 다음 페이지 조회용 커서, 마지막 페이지인 경우 null
+ */
+public record RefreshTokenSessionPage(List<RefreshTokenSessionDto> sessions, String nextCursor) {}
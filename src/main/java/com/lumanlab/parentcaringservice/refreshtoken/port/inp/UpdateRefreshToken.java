@@ -5,11 +5,13 @@ import com.lumanlab.parentcaringservice.user.domain.UserAgent;
 import java.time.OffsetDateTime;
 
 public interface UpdateRefreshToken {
-    void generate(Long userId, String tokenHash, String ip, UserAgent userAgent, OffsetDateTime issuedAt,
-                  OffsetDateTime expiredAt);
+    void generate(Long userId, String tokenId, String tokenHash, String ip, UserAgent userAgent,
+                  OffsetDateTime issuedAt, OffsetDateTime expiredAt);
 
-    void rotate(Long userId, String oldToken, String renewedTokenHash, String ip, UserAgent userAgent,
-                OffsetDateTime issuedAt, OffsetDateTime expiredAt);
+    void rotate(Long userId, String oldToken, String renewedTokenId, String renewedTokenHash, String ip,
+                UserAgent userAgent, OffsetDateTime issuedAt, OffsetDateTime expiredAt);
 
     void revoke(Long userId, Long tokenId);
+
+    int revokeAll(Long userId);
 }
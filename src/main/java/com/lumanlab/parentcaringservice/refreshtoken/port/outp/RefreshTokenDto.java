@@ -2,4 +2,4 @@ package com.lumanlab.parentcaringservice.refreshtoken.port.outp;
 
 import java.time.OffsetDateTime;
 
-public record RefreshTokenDto(String token, String tokenHash, OffsetDateTime issuedAt, OffsetDateTime expiredAt) {}
+public record RefreshTokenDto(String token, String tokenId, String tokenHash, OffsetDateTime issuedAt, OffsetDateTime expiredAt) {}
@@ -4,4 +4,13 @@ import java.util.Map;
 
 public interface RefreshTokenProvider {
     RefreshTokenDto generateRefreshToken(Long userId, Map<String, Object> claims);
+
+    /**
+     * 리프레시 토큰에서 토큰 식별자(jti)를 추출
+     * 토큰 검증은 저장된 해시와의 비교로 수행하므로, 여기서는 서명을 검증하지 않음
+     *
+     * @param token 리프레시 토큰 문자열
+     * @return 토큰 식별자, 식별자가 없는 이전 형식의 토큰이거나 형식이 올바르지 않은 경우 null
+     */
+    String extractTokenId(String token);
 }
@@ -0,0 +1,171 @@
+package com.lumanlab.parentcaringservice.refreshtoken.port.outp;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 만료, 취소된 리프레시 토큰을 삭제하는 저장소
+ * <p>
+ * refresh_token 테이블은 expired_at 기준 월별 범위 파티션(refresh_token_pYYYYMM, UTC 기준)으로 나뉘며,
+ * 파티션 생성과 분리(DETACH), 삭제는 JPA로 표현할 수 없으므로 SQL로 직접 실행함
+ * 파티션으로 나뉘지 않은 테이블(004_refresh_token_partitioning.sql 실행 이전)은 행 단위 배치 삭제만 사용함
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenPurgeRepository {
+
+    private static final String TABLE_NAME = "refresh_token";
+    private static final String PARTITION_PREFIX = "refresh_token_p";
+    private static final String ARCHIVE_PREFIX = "refresh_token_archive_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * refresh_token 테이블이 파티션 테이블인지 확인
+     */
+    public boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))",
+                Boolean.class, TABLE_NAME);
+
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    /**
+     * 월별 파티션 목록을 조회 (기본 파티션 제외)
+     *
+     * @return 파티션 월 목록, 오래된 순
+     */
+    public List<YearMonth> findPartitionMonths() {
+        return jdbcTemplate.queryForList("""
+                        SELECT c.relname
+                        FROM pg_inherits i
+                        JOIN pg_class c ON c.oid = i.inhrelid
+                        WHERE i.inhparent = to_regclass(?) AND c.relname ~ '^refresh_token_p[0-9]{6}$'
+                        ORDER BY c.relname
+                        """, String.class, TABLE_NAME)
+                .stream()
+                .map(name -> YearMonth.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX))
+                .toList();
+    }
+
+    /**
+     * 월별 파티션을 생성, 이미 존재하는 경우 무시함
+     *
+     * @param month 파티션 월
+     */
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+                .formatted(partitionName(month), TABLE_NAME, lowerBound(month), upperBound(month)));
+    }
+
+    /**
+     * 파티션에 있는 토큰을 rotated_from으로 참조하는 다른 파티션의 토큰에서 참조를 제거
+     * 회전 체인의 이전 토큰이 삭제되어도 이후 토큰이 존재하지 않는 행을 참조하지 않도록 함
+     *
+     * @param month     파티션 월
+     * @param batchSize 한 번에 정리할 최대 행 개수
+     * @return 참조를 제거한 행 개수
+     */
+    public int compactReferencesTo(YearMonth month, int batchSize) {
+        return jdbcTemplate.update("""
+                UPDATE refresh_token SET rotated_from = NULL
+                WHERE id IN (
+                    SELECT child.id FROM refresh_token child
+                    WHERE child.rotated_from IN (SELECT id FROM %s) AND child.expired_at >= ?
+                    LIMIT ?
+                )
+                """.formatted(partitionName(month)), upperBound(month), batchSize);
+    }
+
+    /**
+     * 파티션을 분리한 후 삭제
+     *
+     * @param month 파티션 월
+     */
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE %s DETACH PARTITION %s".formatted(TABLE_NAME, partitionName(month)));
+        jdbcTemplate.execute("DROP TABLE %s".formatted(partitionName(month)));
+    }
+
+    /**
+     * 파티션을 분리한 후 보관용 테이블로 이름을 변경
+     *
+     * @param month 파티션 월
+     */
+    public void archivePartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE %s DETACH PARTITION %s".formatted(TABLE_NAME, partitionName(month)));
+        jdbcTemplate.execute("ALTER TABLE %s RENAME TO %s%s"
+                .formatted(partitionName(month), ARCHIVE_PREFIX, month.format(PARTITION_SUFFIX)));
+    }
+
+    /**
+     * 주어진 시간 이전에 만료되었거나 취소된 리프레시 토큰을 최대 batchSize개 삭제
+     * 삭제되는 토큰을 rotated_from으로 참조하는 토큰의 참조도 같은 문장에서 제거함
+     *
+     * @param cutoff    삭제 기준 시간
+     * @param batchSize 한 번에 삭제할 최대 행 개수
+     * @return 삭제한 행 개수와 참조를 제거한 행 개수
+     */
+    public PurgedRows deleteExpiredRows(OffsetDateTime cutoff, int batchSize) {
+        return jdbcTemplate.queryForObject("""
+                WITH purged AS (
+                    SELECT id FROM refresh_token WHERE expired_at < ? OR revoked_at < ? LIMIT ?
+                ), compacted AS (
+                    UPDATE refresh_token SET rotated_from = NULL
+                    WHERE rotated_from IN (SELECT id FROM purged) AND id NOT IN (SELECT id FROM purged)
+                    RETURNING id
+                ), deleted AS (
+                    DELETE FROM refresh_token WHERE id IN (SELECT id FROM purged) RETURNING id
+                )
+                SELECT (SELECT count(*) FROM deleted) AS deleted, (SELECT count(*) FROM compacted) AS compacted
+                """, (rs, rowNum) -> new PurgedRows(rs.getInt("deleted"), rs.getInt("compacted")),
+                cutoff, cutoff, batchSize);
+    }
+
+    /**
+     * 주어진 시간 이전에 만료된 토큰의 식별자 기록을 최대 batchSize개 삭제
+     * 만료 시간이 지난 토큰 식별자는 다시 사용되지 않으므로, 유일성 확인용 기록을 유지할 필요가 없음
+     *
+     * @param cutoff    삭제 기준 시간
+     * @param batchSize 한 번에 삭제할 최대 행 개수
+     * @return 삭제한 행 개수
+     */
+    public int deleteExpiredTokenIds(OffsetDateTime cutoff, int batchSize) {
+        return jdbcTemplate.update("""
+                DELETE FROM refresh_token_token_id
+                WHERE token_id IN (SELECT token_id FROM refresh_token_token_id WHERE expired_at < ? LIMIT ?)
+                """, cutoff, batchSize);
+    }
+
+    /**
+     * 파티션의 상한 경계 (다음 달 1일 0시, UTC)
+     */
+    public static OffsetDateTime upperBound(YearMonth month) {
+        return lowerBound(month.plusMonths(1));
+    }
+
+    private static OffsetDateTime lowerBound(YearMonth month) {
+        return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    /**
+     * 배치 삭제 결과
+     *
+     * @param deleted   삭제한 행 개수
+     * @param compacted rotated_from 참조를 제거한 행 개수
+     */
+    public record PurgedRows(int deleted, int compacted) {}
+}
@@ -0,0 +1,207 @@
+package com.lumanlab.parentcaringservice.refreshtoken.port.outp;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshTokenState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 리프레시 토큰 상태를 Redis에 저장하는 저장소
+ * <p>
+ * 토큰 식별자별로 상태를 JSON 문자열로 저장하며, 만료 시간까지만 유지되도록 TTL을 설정함
+ * 취소된 토큰도 만료 시간까지 유지하여, 모든 인스턴스에서 취소 여부를 바로 확인할 수 있도록 함
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenRedisRepository {
+
+    private static final String REFRESH_TOKEN_PREFIX = "refresh:token:";
+    private static final String PURGE_LOCK_KEY = "refresh:token:purge:lock";
+
+    // 잠금을 획득한 인스턴스만 잠금을 해제할 수 있도록, 값이 같은 경우에만 삭제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final RedisTemplate<String, String> stringLiteralRedisTemplate;
+
+    /**
+     * 리프레시 토큰 상태를 조회
+     *
+     * @param tokenId 토큰 식별자
+     * @return 저장된 상태, 데이터가 존재하지 않을 경우 null을 반환함
+     */
+    public RefreshTokenState find(String tokenId) {
+        String value = stringLiteralRedisTemplate.opsForValue().get(REFRESH_TOKEN_PREFIX + tokenId);
+
+        return value == null ? null : deserialize(value);
+    }
+
+    /**
+     * 리프레시 토큰 상태를 저장 (이미 존재하는 경우 덮어씀)
+     *
+     * @param state 저장할 상태
+     */
+    public void save(RefreshTokenState state) {
+        Duration ttl = ttl(state);
+        if (ttl == null) {
+            return;
+        }
+
+        stringLiteralRedisTemplate.opsForValue().set(REFRESH_TOKEN_PREFIX + state.tokenId(), serialize(state), ttl);
+    }
+
+    /**
+     * 리프레시 토큰 상태가 없는 경우에만 저장
+     * DB에서 읽은 상태로 Redis를 채울 때, 다른 인스턴스에서 먼저 저장한 최신 상태를 덮어쓰지 않도록 사용
+     *
+     * @param state 저장할 상태
+     */
+    public void saveIfAbsent(RefreshTokenState state) {
+        Duration ttl = ttl(state);
+        if (ttl == null) {
+            return;
+        }
+
+        stringLiteralRedisTemplate.opsForValue()
+                .setIfAbsent(REFRESH_TOKEN_PREFIX + state.tokenId(), serialize(state), ttl);
+    }
+
+    /**
+     * 여러 리프레시 토큰 상태를 하나의 트랜잭션(MULTI/EXEC)으로 저장
+     * 토큰 회전 시 이전 토큰의 취소와 새 토큰의 저장이 함께 반영되도록 사용
+     *
+     * @param states 저장할 상태 목록
+     */
+    public void saveAll(List<RefreshTokenState> states) {
+        stringLiteralRedisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                RedisOperations<String, String> redisOperations = (RedisOperations<String, String>) operations;
+
+                redisOperations.multi();
+                for (RefreshTokenState state : states) {
+                    Duration ttl = ttl(state);
+                    if (ttl != null) {
+                        redisOperations.opsForValue()
+                                .set(REFRESH_TOKEN_PREFIX + state.tokenId(), serialize(state), ttl);
+                    }
+                }
+
+                return redisOperations.exec();
+            }
+        });
+    }
+
+    /**
+     * 이전 토큰의 취소와 새 토큰의 저장을 하나의 트랜잭션으로 반영하며, 이전 토큰이 이미 취소된 경우 반영하지 않음
+     * 이전 토큰의 키를 WATCH하여, 조회 이후 다른 요청이 먼저 변경한 경우에도 반영하지 않음 (낙관적 잠금)
+     *
+     * @param revoked 취소된 이전 토큰의 상태
+     * @param renewed 새 토큰의 상태
+     * @return 반영한 경우 true, 이전 토큰이 이미 취소되었거나 다른 요청이 먼저 변경한 경우 false
+     */
+    public boolean rotate(RefreshTokenState revoked, RefreshTokenState renewed) {
+        String currentKey = REFRESH_TOKEN_PREFIX + revoked.tokenId();
+
+        List<Object> results = stringLiteralRedisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                RedisOperations<String, String> redisOperations = (RedisOperations<String, String>) operations;
+
+                redisOperations.watch(currentKey);
+
+                String value = redisOperations.opsForValue().get(currentKey);
+                RefreshTokenState current = value == null ? null : deserialize(value);
+                if (current != null && current.revokedAt() != null) {
+                    redisOperations.unwatch();
+                    return null;
+                }
+
+                redisOperations.multi();
+                for (RefreshTokenState state : List.of(revoked, renewed)) {
+                    Duration ttl = ttl(state);
+                    if (ttl != null) {
+                        redisOperations.opsForValue()
+                                .set(REFRESH_TOKEN_PREFIX + state.tokenId(), serialize(state), ttl);
+                    }
+                }
+
+                return redisOperations.exec();
+            }
+        });
+
+        // WATCH한 키가 변경되어 트랜잭션이 취소된 경우 빈 결과를 반환함
+        return results != null && !results.isEmpty();
+    }
+
+    /**
+     * 리프레시 토큰 삭제 작업 잠금을 획득 (SET NX)
+     *
+     * @param owner 잠금을 획득하는 인스턴스의 식별 값
+     * @param ttl   잠금 유지 시간
+     * @return 잠금을 획득한 경우 true
+     */
+    public boolean tryLockPurge(String owner, Duration ttl) {
+        return Boolean.TRUE.equals(stringLiteralRedisTemplate.opsForValue().setIfAbsent(PURGE_LOCK_KEY, owner, ttl));
+    }
+
+    /**
+     * 리프레시 토큰 삭제 작업 잠금을 해제, 다른 인스턴스가 획득한 잠금은 해제하지 않음
+     *
+     * @param owner 잠금을 획득한 인스턴스의 식별 값
+     */
+    public void unlockPurge(String owner) {
+        stringLiteralRedisTemplate.execute(UNLOCK_SCRIPT, List.of(PURGE_LOCK_KEY), owner);
+    }
+
+    /**
+     * 만료 시간까지 남은 시간을 TTL로 사용하며, 이미 만료된 경우 저장하지 않음
+     */
+    private Duration ttl(RefreshTokenState state) {
+        Duration ttl = Duration.between(OffsetDateTime.now(), state.expiredAt());
+
+        return ttl.isNegative() || ttl.isZero() ? null : ttl;
+    }
+
+    private String serialize(RefreshTokenState state) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(state);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize refresh token state", e);
+        }
+    }
+
+    private RefreshTokenState deserialize(String value) {
+        try {
+            return OBJECT_MAPPER.readValue(value, RefreshTokenState.class);
+        } catch (JsonProcessingException e) {
+            log.warn("잘못된 형식의 리프레시 토큰 상태: {}", e.getMessage());
+            return null;
+        }
+    }
+}
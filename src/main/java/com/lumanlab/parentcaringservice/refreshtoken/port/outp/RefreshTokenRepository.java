@@ -1,17 +1,33 @@
 package com.lumanlab.parentcaringservice.refreshtoken.port.outp;
 
 import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshToken;
+import com.lumanlab.parentcaringservice.refreshtoken.port.inp.RefreshTokenSessionDto;
 import com.lumanlab.parentcaringservice.user.domain.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
     List<RefreshToken> findAllByUser(User user);
 
+    Optional<RefreshToken> findByTokenId(String tokenId);
+
+    List<RefreshToken> findAllByTokenIdIn(Collection<String> tokenIds);
+
+    /**
+     * 토큰 식별자(jti)가 없는 이전 형식의 ACTIVE 상태 리프레시 토큰 조회
+     */
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.user.id = :userId AND rt.tokenId IS NULL " +
+            "AND rt.revokedAt IS NULL AND rt.expiredAt > :currentTime")
+    List<RefreshToken> findActiveLegacyTokensByUserId(Long userId, OffsetDateTime currentTime);
+
     /**
      * ACTIVE 상태의 리프레시 토큰 조회
      */
@@ -25,4 +41,35 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     @Query("SELECT rt FROM RefreshToken rt WHERE rt.user = :user " +
             "AND (rt.revokedAt IS NOT NULL OR rt.expiredAt <= :currentTime)")
     List<RefreshToken> findExpiredTokensByUser(User user, OffsetDateTime currentTime);
+
+    /**
+     * 사용자의 ACTIVE 상태 리프레시 토큰을 한 번의 UPDATE 문으로 모두 취소
+     * 영속성 컨텍스트를 거치지 않으므로, 실행 전에 변경 사항을 반영하고 실행 후에 영속성 컨텍스트를 비움
+     *
+     * @return 취소된 리프레시 토큰 개수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RefreshToken rt SET rt.revokedAt = :revokedAt, rt.version = rt.version + 1 " +
+            "WHERE rt.user.id = :userId AND rt.revokedAt IS NULL AND rt.expiredAt > :revokedAt")
+    int revokeAllActiveByUserId(Long userId, OffsetDateTime revokedAt);
+
+    /**
+     * ACTIVE 상태의 세션 첫 페이지 조회 (발급 시간, ID 역순)
+     */
+    @Query("SELECT new com.lumanlab.parentcaringservice.refreshtoken.port.inp.RefreshTokenSessionDto(" +
+            "rt.id, rt.ip, rt.issuedAt, rt.expiredAt) FROM RefreshToken rt " +
+            "WHERE rt.user.id = :userId AND rt.revokedAt IS NULL AND rt.expiredAt > :currentTime " +
+            "ORDER BY rt.issuedAt DESC, rt.id DESC")
+    List<RefreshTokenSessionDto> findActiveSessions(Long userId, OffsetDateTime currentTime, Limit limit);
+
+    /**
+     * ACTIVE 상태의 세션 중 주어진 발급 시간, ID 이후 페이지 조회 (발급 시간, ID 역순)
+     */
+    @Query("SELECT new com.lumanlab.parentcaringservice.refreshtoken.port.inp.RefreshTokenSessionDto(" +
+            "rt.id, rt.ip, rt.issuedAt, rt.expiredAt) FROM RefreshToken rt " +
+            "WHERE rt.user.id = :userId AND rt.revokedAt IS NULL AND rt.expiredAt > :currentTime " +
+            "AND (rt.issuedAt < :issuedAt OR (rt.issuedAt = :issuedAt AND rt.id < :id)) " +
+            "ORDER BY rt.issuedAt DESC, rt.id DESC")
+    List<RefreshTokenSessionDto> findActiveSessionsAfter(Long userId, OffsetDateTime currentTime,
+                                                         OffsetDateTime issuedAt, Long id, Limit limit);
 }
@@ -0,0 +1,53 @@
+package com.lumanlab.parentcaringservice.refreshtoken.port.outp;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Redis에 반영하지 못한 리프레시 토큰 취소 목록 저장소
+ * <p>
+ * 취소 상태 자체는 refresh_token 테이블에 있으므로 토큰 식별자만 저장하며,
+ * Redis 장애 중 취소된 토큰을 DB에 반영하는 트랜잭션에서 함께 기록하여 인스턴스가 재시작되어도 유실되지 않도록 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenUnpublishedRevocationRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 취소된 토큰 식별자를 기록, 이미 기록된 식별자는 무시함
+     *
+     * @param tokenIds 토큰 식별자 목록
+     */
+    public void saveAll(Collection<String> tokenIds) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO refresh_token_unpublished_revocation (token_id) VALUES (?) ON CONFLICT DO NOTHING",
+                tokenIds, tokenIds.size(), (ps, tokenId) -> ps.setString(1, tokenId));
+    }
+
+    /**
+     * Redis에 반영할 토큰 식별자를 조회
+     *
+     * @param limit 최대 조회 개수
+     * @return 토큰 식별자 목록, 없는 경우 빈 목록
+     */
+    public List<String> findTokenIds(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT token_id FROM refresh_token_unpublished_revocation LIMIT ?", String.class, limit);
+    }
+
+    /**
+     * Redis에 반영한 토큰 식별자를 삭제
+     *
+     * @param tokenIds 토큰 식별자 목록
+     */
+    public void deleteAll(Collection<String> tokenIds) {
+        jdbcTemplate.batchUpdate("DELETE FROM refresh_token_unpublished_revocation WHERE token_id = ?",
+                tokenIds, tokenIds.size(), (ps, tokenId) -> ps.setString(1, tokenId));
+    }
+}
@@ -0,0 +1,60 @@
+package com.lumanlab.parentcaringservice.scheduler;
+
+import com.lumanlab.parentcaringservice.refreshtoken.RefreshTokenPurgeProperties;
+import com.lumanlab.parentcaringservice.refreshtoken.application.service.RefreshTokenPurgeService;
+import com.lumanlab.parentcaringservice.refreshtoken.application.service.RefreshTokenPurgeService.PurgeResult;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeScheduler {
+
+    private final RefreshTokenPurgeService refreshTokenPurgeService;
+    private final RefreshTokenRedisRepository refreshTokenRedisRepository;
+    private final RefreshTokenPurgeProperties refreshTokenPurgeProperties;
+
+    @Scheduled(fixedDelayString = "#{${refresh-token.purge.interval}}",
+            initialDelayString = "#{${refresh-token.purge.interval}}", timeUnit = TimeUnit.SECONDS)
+    public void purge() {
+        if (!refreshTokenPurgeProperties.isEnabled()) {
+            return;
+        }
+
+        // 여러 인스턴스 중 하나만 실행
+        String owner = UUID.randomUUID().toString();
+        try {
+            if (!refreshTokenRedisRepository.tryLockPurge(owner,
+                    refreshTokenPurgeProperties.getLockTimeoutDuration())) {
+                log.debug("다른 인스턴스에서 리프레시 토큰 삭제 작업 실행 중");
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("리프레시 토큰 삭제 작업 잠금 획득 실패, 다음 주기에 다시 실행: {}", e.getMessage());
+            return;
+        }
+
+        log.info("리프레시 토큰 삭제 스케줄 시작");
+        try {
+            PurgeResult result = refreshTokenPurgeService.purge();
+            log.info("리프레시 토큰 삭제 스케줄 완료: partitions={}, deletedRows={}, compactedRows={}",
+                    result.partitions(), result.deletedRows(), result.compactedRows());
+        } catch (Exception e) {
+            log.error("리프레시 토큰 삭제 중 오류 발생", e);
+        } finally {
+            try {
+                refreshTokenRedisRepository.unlockPurge(owner);
+            } catch (DataAccessException e) {
+                log.warn("리프레시 토큰 삭제 작업 잠금 해제 실패, 잠금 유지 시간 이후 해제됨: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.lumanlab.parentcaringservice.scheduler;
+
+import com.lumanlab.parentcaringservice.refreshtoken.application.service.RefreshTokenStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenRevocationReconcileScheduler {
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    // 모든 인스턴스에서 실행하며, 같은 취소를 여러 인스턴스가 함께 반영해도 결과가 같음
+    @Scheduled(fixedDelayString = "#{${refresh-token.store.reconcile-interval}}", timeUnit = TimeUnit.MILLISECONDS)
+    public void reconcile() {
+        try {
+            refreshTokenStore.reconcileUnpublishedRevocations();
+        } catch (Exception e) {
+            log.error("Redis에 반영하지 못한 리프레시 토큰 취소 반영 중 오류 발생", e);
+        }
+    }
+}
@@ -1,42 +1,249 @@
 package com.lumanlab.parentcaringservice.security;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
+import com.lumanlab.parentcaringservice.impersonationlog.domain.ImpersonationLog;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.ContentCachingRequestWrapper;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 
+/**
+ * 임퍼소네이션 활동 내역(method, endpoint, payload) JSON 생성
+ * <p>
+ * 요청 본문을 JSON 트리로 만들지 않고 JsonParser에서 JsonGenerator로 토큰 단위로 복사하며,
+ * 출력 버퍼는 ImpersonationLog.ACTION_DETAILS_LENGTH 길이로 제한됨
+ * 본문이 올바른 JSON이 아니거나 길이를 넘는 경우 본문을 문자열로 저장하며, 길이에 맞게 잘린 경우 "truncated": true를 추가함
+ */
 @Component
-@RequiredArgsConstructor
 public class ActionDetailsExtractor {
 
-    private final ObjectMapper objectMapper;
+    /**
+     * 요청 본문 캐시 제한 (바이트)
+     * 활동 내역 최대 길이보다 긴 본문은 어차피 잘리므로 그 이상은 캐싱하지 않음
+     */
+    public static final int BODY_CACHE_LIMIT = ImpersonationLog.ACTION_DETAILS_LENGTH;
 
-    public String extractActionDetails(HttpServletRequest request) {
-        ContentCachingRequestWrapper wrapper = (ContentCachingRequestWrapper) request;
+    private static final int MAX_LENGTH = ImpersonationLog.ACTION_DETAILS_LENGTH;
+    private static final String PAYLOAD_SUFFIX = "\"}";
+    private static final String TRUNCATED_SUFFIX = "\",\"truncated\":true}";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
 
-        String method = wrapper.getMethod();
-        String endpoint = wrapper.getRequestURI();
-        String payload = new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8);
+    private final JsonFactory jsonFactory;
 
-        ObjectNode detailsNode = objectMapper.createObjectNode();
-        detailsNode.put("method", method);
-        detailsNode.put("endpoint", endpoint);
+    public ActionDetailsExtractor(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 요청 처리 중 캐싱된 본문으로 임퍼소네이션 활동 내역을 생성
+     *
+     * @param request 요청 처리 이후의 캐싱 요청 객체
+     * @return ACTION_DETAILS_LENGTH 이하 길이의 활동 내역 JSON 문자열
+     */
+    public String extractActionDetails(ContentCachingRequestWrapper request) {
+        byte[] body = request.getContentAsByteArray();
+
+        // 캐시 제한으로 본문 일부만 보관된 경우, JSON 파싱을 시도하지 않음
+        // chunked 요청은 Content-Length가 -1이므로 캐싱된 길이가 캐시 제한에 도달했는지도 확인
+        boolean bodyTruncated = request.getContentLengthLong() > body.length || body.length >= BODY_CACHE_LIMIT;
+
+        return serialize(request.getMethod(), request.getRequestURI(), body, bodyTruncated);
+    }
 
-        try {
-            if (!payload.isEmpty()) {
-                detailsNode.set("payload", objectMapper.readTree(payload));
+    /**
+     * 활동 내역 JSON 생성
+     *
+     * @param method        HTTP 메서드
+     * @param endpoint      요청 URI
+     * @param body          요청 본문
+     * @param bodyTruncated 본문이 잘린 상태인지 여부
+     * @return ACTION_DETAILS_LENGTH 이하 길이의 활동 내역 JSON 문자열
+     */
+    public String serialize(String method, String endpoint, byte[] body, boolean bodyTruncated) {
+        CappedWriter writer = new CappedWriter(MAX_LENGTH);
+
+        if (!bodyTruncated) {
+            try {
+                writeDetails(writer, method, endpoint, body);
+
+                return writer.toString();
+            } catch (IOException e) {
+                // 길이 초과 또는 JSON이 아닌 본문인 경우 문자열로 저장
+                writer.reset();
+            }
+        }
+
+        return writeStringDetails(writer, method, endpoint, body, bodyTruncated);
+    }
+
+    private void writeDetails(Writer writer, String method, String endpoint, byte[] body) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeStringField("method", method);
+            generator.writeStringField("endpoint", endpoint);
+            generator.writeFieldName("payload");
+
+            if (body.length == 0) {
+                generator.writeNull();
             } else {
-                detailsNode.putNull("payload");
+                copyPayload(generator, body);
+            }
+
+            generator.writeEndObject();
+        }
+    }
+
+    private void copyPayload(JsonGenerator generator, byte[] body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() == null) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.copyCurrentStructure(parser);
+
+            // 하나의 JSON 값 이후에 다른 내용이 있으면 JSON 본문이 아님
+            if (parser.nextToken() != null) {
+                throw new IOException("JSON 값 이후에 추가 내용이 있습니다");
             }
-        } catch (IOException e) {
-            detailsNode.put("payload", payload);
         }
+    }
+
+    /**
+     * 본문을 이스케이프된 문자열로 길이 제한까지만 기록
+     * endpoint가 너무 긴 경우 endpoint도 잘라서 기록
+     */
+    private String writeStringDetails(CappedWriter writer, String method, String endpoint, byte[] body,
+                                      boolean bodyTruncated) {
+        StringBuilder out = writer.buffer();
+        int limit = MAX_LENGTH - TRUNCATED_SUFFIX.length();
+        boolean completed;
+
+        out.append("{\"method\":\"");
+        completed = appendEscaped(out, method, limit);
+        out.append("\",\"endpoint\":\"");
+        completed &= appendEscaped(out, endpoint, limit - "\",\"payload\":\"".length());
+        out.append("\",\"payload\":\"");
+        completed &= appendEscaped(out, new String(body, StandardCharsets.UTF_8), limit);
+        out.append(completed && !bodyTruncated ? PAYLOAD_SUFFIX : TRUNCATED_SUFFIX);
+
+        return out.toString();
+    }
 
-        return detailsNode.toString();
+    /**
+     * JSON 문자열 규칙에 맞게 이스케이프하며, 이스케이프 시퀀스와 서로게이트 쌍이 잘리지 않도록 limit 길이까지만 추가
+     *
+     * @return 값 전체를 추가한 경우 true, 잘린 경우 false
+     */
+    private static boolean appendEscaped(StringBuilder out, String value, int limit) {
+        if (value == null) {
+            return true;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (Character.isHighSurrogate(c)) {
+                if (i + 1 >= value.length() || out.length() + 2 > limit) {
+                    return false;
+                }
+                out.append(c).append(value.charAt(++i));
+                continue;
+            }
+
+            int escapedLength = (c == '"' || c == '\\') ? 2 : (c < 0x20 ? 6 : 1);
+            if (out.length() + escapedLength > limit) {
+                return false;
+            }
+
+            if (escapedLength == 1) {
+                out.append(c);
+            } else if (escapedLength == 2) {
+                out.append('\\').append(c);
+            } else {
+                out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 최대 길이를 넘는 쓰기 요청 시 예외를 발생시키는 Writer
+     */
+    private static final class CappedWriter extends Writer {
+
+        private final StringBuilder buffer;
+        private final int limit;
+
+        private CappedWriter(int limit) {
+            this.buffer = new StringBuilder(limit);
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            ensureCapacity(len);
+            buffer.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            ensureCapacity(len);
+            buffer.append(str, off, off + len);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            ensureCapacity(1);
+            buffer.append((char) c);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private void ensureCapacity(int len) throws IOException {
+            if (buffer.length() + len > limit) {
+                throw new LimitExceededException();
+            }
+        }
+
+        private StringBuilder buffer() {
+            return buffer;
+        }
+
+        private void reset() {
+            buffer.setLength(0);
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+
+    /**
+     * 길이 초과 신호용 예외, 스택 트레이스를 생성하지 않음
+     */
+    private static final class LimitExceededException extends IOException {
+
+        private LimitExceededException() {
+            super("활동 내역 길이 초과");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
     }
 }
@@ -1,37 +1,125 @@
 package com.lumanlab.parentcaringservice.security;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenDto;
 import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenProvider;
 import com.lumanlab.parentcaringservice.security.encoder.RefreshTokenEncoder;
 import com.lumanlab.parentcaringservice.security.jwt.JwtProperties;
 import com.lumanlab.parentcaringservice.security.jwt.application.service.JwtTokenService;
+import com.lumanlab.parentcaringservice.security.jwt.domain.RefreshTokenFormat;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.security.SecureRandom;
 import java.time.OffsetDateTime;
+import java.util.Base64;
 import java.util.Map;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class DefaultRefreshTokenProvider implements RefreshTokenProvider {
 
+    private static final int SELECTOR_BYTES = 16;
+    private static final int VERIFIER_BYTES = 32;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final Base64.Encoder BASE64_URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
     private final RefreshTokenEncoder refreshTokenEncoder;
     private final JwtProperties jwtProperties;
     private final JwtTokenService jwtTokenService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 리프레시 토큰을 생성하는 메서드
+     * <p>
+     * OPAQUE 형식은 난수 selector(128bit)와 verifier(256bit)를 이어 붙인 토큰을 생성하며, selector를 토큰 식별자로 사용함
+     * OPAQUE 형식은 DB에 저장된 해시로만 검증하므로, 클레임 정보는 JWT 형식에서만 사용됨
      *
-     * @return RefreshTokenDto 객체로, 생성된 토큰, 발급 시점, 만료 시점을 포함함
+     * @return RefreshTokenDto 객체로, 생성된 토큰, 토큰 식별자, 발급 시점, 만료 시점을 포함함
      */
     public RefreshTokenDto generateRefreshToken(Long userId, Map<String, Object> claims) {
         OffsetDateTime issuedAt = OffsetDateTime.now();
         OffsetDateTime expiredAt = issuedAt.plusSeconds(jwtProperties.getRefreshToken().getExpirationTime());
 
-        // Refresh Token을 JWT 방식으로 생성
-        String token = jwtTokenService.generateRefreshToken(userId, claims);
+        String tokenId;
+        String token;
+
+        if (jwtProperties.getRefreshToken().getFormat() == RefreshTokenFormat.OPAQUE) {
+            tokenId = randomBase64Url(SELECTOR_BYTES);
+            token = tokenId + "." + randomBase64Url(VERIFIER_BYTES);
+        } else {
+            // Refresh Token을 JWT 방식으로 생성하며, 저장된 토큰을 단건 조회할 수 있도록 jti를 포함
+            tokenId = UUID.randomUUID().toString();
+            token = jwtTokenService.generateRefreshToken(userId, tokenId, claims);
+        }
+
+        return new RefreshTokenDto(token, tokenId, generateHashedToken(token), issuedAt, expiredAt);
+    }
+
+    /**
+     * 리프레시 토큰에서 토큰 식별자를 추출하는 메서드
+     * <p>
+     * OPAQUE 형식(selector.verifier)은 selector를, JWT 형식은 payload의 jti 클레임을 반환함
+     * 토큰 원문은 저장된 해시와 비교하여 검증하므로, 서명 검증 없이 조회용 식별자만 읽음
+     *
+     * @param token 리프레시 토큰 문자열
+     * @return 토큰 식별자, 없거나 형식이 올바르지 않은 경우 null
+     */
+    public String extractTokenId(String token) {
+        if (token == null) {
+            return null;
+        }
+
+        int firstDot = token.indexOf('.');
+        if (firstDot <= 0) {
+            return null;
+        }
+
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (secondDot < 0) {
+            return token.substring(0, firstDot);
+        }
+
+        return extractJwtTokenId(token, firstDot + 1, secondDot);
+    }
+
+    /**
+     * JWT 리프레시 토큰의 payload에서 jti 클레임을 추출하는 메서드
+     */
+    private String extractJwtTokenId(String token, int payloadStart, int payloadEnd) {
+        try (JsonParser parser = objectMapper.createParser(
+                Base64.getUrlDecoder().decode(token.substring(payloadStart, payloadEnd)))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if (Claims.ID.equals(fieldName)) {
+                    return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                }
+
+                parser.skipChildren();
+            }
+
+            return null;
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String randomBase64Url(int numBytes) {
+        byte[] bytes = new byte[numBytes];
+        SECURE_RANDOM.nextBytes(bytes);
 
-        return new RefreshTokenDto(token, generateHashedToken(token), issuedAt, expiredAt);
+        return BASE64_URL_ENCODER.encodeToString(bytes);
     }
 
     /**
@@ -0,0 +1,73 @@
+package com.lumanlab.parentcaringservice.security.domain;
+
+import com.lumanlab.parentcaringservice.user.domain.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.*;
+
+/**
+ * JWT roleMask 클레임 값별 역할 셋과 권한 목록 조회 테이블
+ * <p>
+ * 가능한 모든 비트마스크 조합에 대해 변경 불가능한 역할 셋과 권한 목록을 클래스 로딩 시점에 한 번만 생성하여,
+ * 요청마다 역할 문자열 파싱과 권한 객체 생성을 하지 않도록 함
+ * 역할이 없는 경우(0)는 기존과 동일하게 기본 역할(PARENT)을 부여
+ */
+public final class RoleAuthorityTable {
+
+    public static final String ROLE_MASK_CLAIM = "roleMask";
+
+    private static final int ALL_ROLES_MASK = UserRole.toMask(EnumSet.allOf(UserRole.class));
+    private static final List<Set<UserRole>> ROLES;
+    private static final List<List<GrantedAuthority>> AUTHORITIES;
+
+    static {
+        List<Set<UserRole>> roles = new ArrayList<>(ALL_ROLES_MASK + 1);
+        List<List<GrantedAuthority>> authorities = new ArrayList<>(ALL_ROLES_MASK + 1);
+
+        for (int mask = 0; mask <= ALL_ROLES_MASK; mask++) {
+            EnumSet<UserRole> roleSet = EnumSet.noneOf(UserRole.class);
+            for (UserRole role : UserRole.values()) {
+                if ((mask & role.getMask()) != 0) {
+                    roleSet.add(role);
+                }
+            }
+
+            if (roleSet.isEmpty()) {
+                // 역할 정보가 없으면 기본 역할(PARENT) 부여
+                roleSet.add(UserRole.PARENT);
+            }
+
+            roles.add(Collections.unmodifiableSet(roleSet));
+            authorities.add(roleSet.stream()
+                    .<GrantedAuthority>map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
+                    .toList());
+        }
+
+        ROLES = List.copyOf(roles);
+        AUTHORITIES = List.copyOf(authorities);
+    }
+
+    private RoleAuthorityTable() {
+    }
+
+    /**
+     * 비트마스크에 해당하는 역할 셋 조회
+     *
+     * @param mask 역할 비트마스크, 정의되지 않은 비트는 무시됨
+     * @return 변경 불가능한 역할 셋
+     */
+    public static Set<UserRole> roles(int mask) {
+        return ROLES.get(mask & ALL_ROLES_MASK);
+    }
+
+    /**
+     * 비트마스크에 해당하는 권한 목록 조회
+     *
+     * @param mask 역할 비트마스크, 정의되지 않은 비트는 무시됨
+     * @return 변경 불가능한 권한 목록
+     */
+    public static List<GrantedAuthority> authorities(int mask) {
+        return AUTHORITIES.get(mask & ALL_ROLES_MASK);
+    }
+}
@@ -0,0 +1,31 @@
+package com.lumanlab.parentcaringservice.security.domain;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 서명 검증이 완료된 AccessToken 정보
+ * <p>
+ * 토큰 만료 시간(exp)까지 캐시에 보관되어, 같은 토큰으로 들어오는 요청의 서명 검증과 권한 생성을 생략하는데 사용
+ */
+public record VerifiedAccessToken(UserPrincipal principal, Collection<? extends GrantedAuthority> authorities,
+                                  Instant issuedAt, Instant expiresAt) {
+
+    public VerifiedAccessToken {
+        // 여러 요청에서 공유되므로 변경 불가능한 컬렉션으로 보관
+        authorities = List.copyOf(authorities);
+    }
+
+    /**
+     * 토큰이 주어진 시점 기준으로 아직 만료되지 않았는지 확인
+     *
+     * @param now 기준 시간
+     * @return 만료 시간이 기준 시간 이후라면 true
+     */
+    public boolean isAliveAt(Instant now) {
+        return expiresAt != null && expiresAt.isAfter(now);
+    }
+}
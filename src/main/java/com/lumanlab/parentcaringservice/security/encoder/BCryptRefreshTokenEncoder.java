@@ -0,0 +1,39 @@
+package com.lumanlab.parentcaringservice.security.encoder;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * SHA-256으로 해시한 토큰을 다시 BCrypt로 해시하는 이전 방식의 인코더
+ * <p>
+ * 이전에 저장된 해시(접두사 없이 $2로 시작)를 검증하기 위해서만 사용
+ */
+class BCryptRefreshTokenEncoder implements RefreshTokenEncoder {
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+
+    public String encode(String rawToken) {
+        // JWT 토큰을 먼저 SHA-256으로 해시하여 길이를 줄임
+        String preHashed = preHash(rawToken);
+        return encoder.encode(preHashed);
+    }
+
+    public boolean matches(String rawToken, String encodedToken) {
+        String preHashed = preHash(rawToken);
+        return encoder.matches(preHashed, encodedToken);
+    }
+
+    private String preHash(String input) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashBytes = digest.digest(input.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hashBytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -1,36 +1,40 @@
 package com.lumanlab.parentcaringservice.security.encoder;
 
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import com.lumanlab.parentcaringservice.security.jwt.JwtProperties;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.Base64;
-
+/**
+ * 저장된 해시의 접두사로 인코더를 선택하는 리프레시 토큰 인코더
+ * <p>
+ * 새로 저장하는 해시는 {hmac-sha256} 접두사를 붙인 HMAC-SHA256 해시를 사용하며,
+ * 접두사가 없는 이전 BCrypt 해시는 검증만 지원함
+ * 리프레시 토큰은 회전 시 새 해시로 저장되므로, 이전 해시는 다음 회전 시점에 HMAC-SHA256 해시로 바뀜
+ */
 @Component
 public class DefaultRefreshTokenEncoder implements RefreshTokenEncoder {
 
-    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+    private static final String HMAC_SHA256_PREFIX = "{hmac-sha256}";
+
+    private final RefreshTokenEncoder hmacEncoder;
+    private final RefreshTokenEncoder legacyEncoder = new BCryptRefreshTokenEncoder();
+
+    public DefaultRefreshTokenEncoder(JwtProperties jwtProperties) {
+        this.hmacEncoder = new HmacRefreshTokenEncoder(jwtProperties.getRefreshToken().getPepper());
+    }
 
     public String encode(String rawToken) {
-        // JWT 토큰을 먼저 SHA-256으로 해시하여 길이를 줄임
-        String preHashed = preHash(rawToken);
-        return encoder.encode(preHashed);
+        return HMAC_SHA256_PREFIX + hmacEncoder.encode(rawToken);
     }
 
     public boolean matches(String rawToken, String encodedToken) {
-        String preHashed = preHash(rawToken);
-        return encoder.matches(preHashed, encodedToken);
-    }
+        if (rawToken == null || encodedToken == null) {
+            return false;
+        }
 
-    private String preHash(String input) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashBytes = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(hashBytes);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not available", e);
+        if (encodedToken.startsWith(HMAC_SHA256_PREFIX)) {
+            return hmacEncoder.matches(rawToken, encodedToken.substring(HMAC_SHA256_PREFIX.length()));
         }
+
+        return legacyEncoder.matches(rawToken, encodedToken);
     }
 }
@@ -0,0 +1,61 @@
+package com.lumanlab.parentcaringservice.security.encoder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * 서버에만 보관하는 pepper를 키로 사용하는 HMAC-SHA256 인코더
+ * <p>
+ * 리프레시 토큰은 서버에서 생성한 충분히 긴 난수 값을 포함하므로, 느린 해시 없이 키가 있는 해시만으로
+ * DB 유출 시 토큰 원문을 복원할 수 없음
+ */
+class HmacRefreshTokenEncoder implements RefreshTokenEncoder {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_PEPPER_LENGTH = 32;
+
+    private final ThreadLocal<Mac> mac;
+
+    HmacRefreshTokenEncoder(String pepper) {
+        if (pepper == null || pepper.getBytes(StandardCharsets.UTF_8).length < MIN_PEPPER_LENGTH) {
+            throw new IllegalStateException("Refresh token pepper must be at least " + MIN_PEPPER_LENGTH + " bytes");
+        }
+
+        SecretKeySpec key = new SecretKeySpec(pepper.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> createMac(key));
+    }
+
+    public String encode(String rawToken) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hmac(rawToken));
+    }
+
+    public boolean matches(String rawToken, String encodedToken) {
+        byte[] expected;
+        try {
+            expected = Base64.getUrlDecoder().decode(encodedToken);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+
+        // 비교 시간으로 해시 값을 추측할 수 없도록 상수 시간 비교
+        return MessageDigest.isEqual(hmac(rawToken), expected);
+    }
+
+    private byte[] hmac(String rawToken) {
+        return mac.get().doFinal(rawToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Mac createMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 algorithm not available", e);
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.lumanlab.parentcaringservice.security.filter;
 
 import com.lumanlab.parentcaringservice.impersonationlog.domain.ImpersonationType;
-import com.lumanlab.parentcaringservice.impersonationlog.port.inp.UpdateImpersonationLog;
+import com.lumanlab.parentcaringservice.impersonationlog.port.inp.EnqueueImpersonationLog;
 import com.lumanlab.parentcaringservice.security.ActionDetailsExtractor;
+import com.lumanlab.parentcaringservice.security.domain.RoleAuthorityTable;
 import com.lumanlab.parentcaringservice.security.domain.UserPrincipal;
+import com.lumanlab.parentcaringservice.security.domain.VerifiedAccessToken;
 import com.lumanlab.parentcaringservice.security.jwt.application.service.JwtTokenService;
+import com.lumanlab.parentcaringservice.security.jwt.application.service.VerifiedAccessTokenCache;
 import com.lumanlab.parentcaringservice.user.domain.UserRole;
-import com.lumanlab.parentcaringservice.user.port.outp.UserRepository;
+import com.lumanlab.parentcaringservice.user.domain.UserState;
+import com.lumanlab.parentcaringservice.user.port.inp.QueryUserState;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -17,15 +21,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
 
 import java.io.IOException;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.time.Instant;
+import java.util.List;
 
 /**
  * JWT 인증 필터
@@ -42,13 +47,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenService jwtTokenService;
-    private final UserRepository userRepository;
-    private final UpdateImpersonationLog updateImpersonationLog;
+    private final VerifiedAccessTokenCache verifiedAccessTokenCache;
+    private final QueryUserState queryUserState;
+    private final EnqueueImpersonationLog enqueueImpersonationLog;
     private final ActionDetailsExtractor actionDetailsExtractor;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        UserPrincipal impersonationPrincipal = null;
+
         try {
             String token = extractToken(request);
 
@@ -62,14 +70,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                     UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
 
-                    // 어드민 임퍼소네이션인 경우, 저장
+                    // 어드민 임퍼소네이션인 경우, 요청 처리 이후에 활동 내역을 저장
                     if (principal.isImpersonation()) {
-                        String ip = request.getRemoteAddr();
-                        String actionDetails = actionDetailsExtractor.extractActionDetails(request);
-
-                        updateImpersonationLog.register(
-                                principal.impersonatorId(), principal.id(), ip, ImpersonationType.ACTION, actionDetails
-                        );
+                        impersonationPrincipal = principal;
                     }
 
                     log.debug("JWT 토큰 인증 성공: {}", authentication.getName());
@@ -83,7 +86,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             SecurityContextHolder.clearContext();
         }
 
-        filterChain.doFilter(request, response);
+        if (impersonationPrincipal == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 임퍼소네이션 요청만 본문을 캐싱하며, 요청 처리 중 읽히는 본문을 로그에 저장할 수 있는 길이까지만 보관
+        ContentCachingRequestWrapper cachingRequest =
+                new ContentCachingRequestWrapper(request, ActionDetailsExtractor.BODY_CACHE_LIMIT);
+
+        try {
+            filterChain.doFilter(cachingRequest, response);
+        } finally {
+            registerImpersonationAction(impersonationPrincipal, cachingRequest);
+        }
+    }
+
+    /**
+     * 임퍼소네이션 활동 내역을 비동기로 저장
+     * 로그 저장 실패가 요청 처리 결과에 영향을 주지 않도록 예외는 기록만 함
+     */
+    private void registerImpersonationAction(UserPrincipal principal, ContentCachingRequestWrapper request) {
+        try {
+            String ip = request.getRemoteAddr();
+            String actionDetails = actionDetailsExtractor.extractActionDetails(request);
+
+            enqueueImpersonationLog.enqueue(
+                    principal.impersonatorId(), principal.id(), ip, ImpersonationType.ACTION, actionDetails
+            );
+        } catch (Exception e) {
+            log.error("임퍼소네이션 활동 내역 저장 실패: impersonatorId={}, userId={}",
+                    principal.impersonatorId(), principal.id(), e);
+        }
     }
 
     /**
@@ -104,11 +138,52 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     /**
      * JWT 토큰을 검증하고 인증 객체를 생성
+     * <p>
+     * 이미 검증된 토큰인 경우 캐시된 검증 결과를 사용하여 서명 검증과 권한 생성을 생략
      *
      * @param token JWT 토큰 문자열
      * @return 생성된 인증 객체, 토큰이 유효하지 않은 경우 null
      */
     private Authentication authenticateToken(String token) {
+        VerifiedAccessToken verified = verifiedAccessTokenCache.get(token);
+
+        if (verified == null) {
+            verified = verifyToken(token);
+
+            if (verified == null) {
+                return null;
+            }
+
+            verifiedAccessTokenCache.put(token, verified);
+        }
+
+        // 캐시된 사용자 상태로 존재 여부와 탈퇴 여부, 토큰 무효화 여부를 확인
+        UserPrincipal principal = verified.principal();
+        UserState userState = queryUserState.findUserState(principal.id());
+        if (!userState.isAuthenticatable()) {
+            log.debug("존재하지 않거나 탈퇴한 User ID 입니다: {}", principal.id());
+
+            return null;
+        }
+
+        // 전체 세션 로그아웃 이전에 발급된 토큰인지 확인
+        if (userState.isTokenInvalidated(verified.issuedAt())) {
+            log.debug("전체 세션 로그아웃으로 무효화된 토큰입니다: {}", principal.id());
+
+            return null;
+        }
+
+        // 캐시된 principal과 authorities로 Authentication 객체를 생성
+        return new UsernamePasswordAuthenticationToken(principal, null, verified.authorities());
+    }
+
+    /**
+     * JWT 토큰의 서명을 검증하고, 클레임을 기반으로 검증 결과를 생성
+     *
+     * @param token JWT 토큰 문자열
+     * @return 생성된 검증 결과, 토큰에 사용자 정보가 없는 경우 null
+     */
+    private VerifiedAccessToken verifyToken(String token) {
         try {
             Claims claims = jwtTokenService.validateJwtToken(token);
             String userIdStr = claims.getSubject();
@@ -120,26 +195,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
 
             Long userId = Long.parseLong(userIdStr);
-            if (!userRepository.existsById(userId)) {
-                log.debug("존재하지 않는 User ID 입니다");
-
-                return null;
-            }
 
-            // JWT에서 UserRole Set을 추출
-            Set<UserRole> userRoles = extractUserRoles(claims);
+            // JWT에서 역할 비트마스크를 추출
+            int roleMask = extractRoleMask(claims);
 
             // JWT에서 ImpersonatorId를 추출
             Long impersonatorId = claims.get("impersonatorId") == null ? null : ((Number) claims.get("impersonatorId")).longValue();
 
-            // UserPrincipal 객체를 생성
-            UserPrincipal principal = new UserPrincipal(userId, userRoles, impersonatorId);
+            // 미리 생성된 역할 셋과 권한 목록으로 UserPrincipal 객체를 생성
+            UserPrincipal principal = new UserPrincipal(userId, RoleAuthorityTable.roles(roleMask), impersonatorId);
+            List<GrantedAuthority> authorities = RoleAuthorityTable.authorities(roleMask);
 
-            // UserRole Set을 기반으로 GrantedAuthority 컬렉션을 생성
-            Collection<SimpleGrantedAuthority> authorities = createAuthoritiesFromRoles(userRoles);
+            Instant issuedAt = claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant();
+            Instant expiresAt = claims.getExpiration() == null ? null : claims.getExpiration().toInstant();
 
-            // 생성된 principal과 authorities로 Authentication 객체를 생성
-            return new UsernamePasswordAuthenticationToken(principal, null, authorities);
+            return new VerifiedAccessToken(principal, authorities, issuedAt, expiresAt);
         } catch (JwtException e) {
             log.debug("JWT 토큰 검증 실패: {}", e.getMessage());
             throw e;
@@ -147,50 +217,41 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * JWT 클레임에서 사용자의 역할 정보를 추출하여 UserRole 셋을 반환함
+     * JWT 클레임에서 사용자의 역할 비트마스크를 추출함
+     * <p>
+     * roleMask 클레임이 없는 이전 형식의 토큰은 roles 문자열 클레임(예: "[PARENT, ADMIN]")을 파싱하여 변환
      *
      * @param claims JWT 클레임을 포함하는 객체
-     * @return 추출된 UserRole 셋, 역할 정보가 없으면 기본 역할(PARENT)을 포함한 셋 반환
+     * @return 추출된 역할 비트마스크, 역할 정보가 없으면 0 (기본 역할 PARENT)
      */
-    private Set<UserRole> extractUserRoles(Claims claims) {
+    private int extractRoleMask(Claims claims) {
+        if (claims.get(RoleAuthorityTable.ROLE_MASK_CLAIM) instanceof Number roleMask) {
+            return roleMask.intValue();
+        }
+
+        return extractLegacyRoleMask(claims);
+    }
+
+    private int extractLegacyRoleMask(Claims claims) {
         String rolesString = sanitizeRolesString((String) claims.get("roles"));
 
         if (!StringUtils.hasText(rolesString)) {
-            // 역할 정보가 없으면 기본 역할(PARENT) 부여
-            return Set.of(UserRole.PARENT);
+            return 0;
         }
 
-        return Arrays.stream(rolesString.split(","))
-                .map(String::trim)
-                .map(roleName -> {
-                    try {
-                        return UserRole.valueOf(roleName);
-                    } catch (IllegalArgumentException e) {
-                        log.warn("유효하지 않은 사용자 역할: {}", roleName);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-    }
-
-    /**
-     * 유저 역할(Role) 셋을 기반으로 Spring Security에서 사용하는 권한(Authority) 정보 컬렉션을 생성합니다
-     *
-     * @param roles 유저 역할을 나타내는 UserRole 객체의 셋
-     * @return 생성된 SimpleGrantedAuthority 컬렉션. 역할 셋이 없거나 null 일 경우 기본 역할(ROLE_PARENT)을 포함한 컬렉션 반환
-     */
-    private Collection<SimpleGrantedAuthority> createAuthoritiesFromRoles(Set<UserRole> roles) {
-        if (roles == null || roles.isEmpty()) {
-            return List.of(new SimpleGrantedAuthority("ROLE_PARENT"));
+        int roleMask = 0;
+        for (String roleName : rolesString.split(",")) {
+            try {
+                roleMask |= UserRole.valueOf(roleName.trim()).getMask();
+            } catch (IllegalArgumentException e) {
+                log.warn("유효하지 않은 사용자 역할: {}", roleName);
+            }
         }
 
-        return roles.stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
-                .collect(Collectors.toList());
+        return roleMask;
     }
 
     private String sanitizeRolesString(String roles) {
-        return roles.replaceAll("[\\[\\]]", "");
+        return roles == null ? null : roles.replaceAll("[\\[\\]]", "");
     }
 }
@@ -1,5 +1,7 @@
 package com.lumanlab.parentcaringservice.security.jwt;
 
+import com.lumanlab.parentcaringservice.security.jwt.domain.JwkAlgorithm;
+import com.lumanlab.parentcaringservice.security.jwt.domain.RefreshTokenFormat;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -19,6 +21,7 @@ public class JwtProperties {
     @Data
     public static class AccessToken {
         private long expirationTime; // 초 단위
+        private long cacheMaximumSize = 10_000; // 검증된 토큰 캐시 최대 개수
 
         public Duration getExpirationDuration() {
             return Duration.ofSeconds(expirationTime);
@@ -32,6 +35,8 @@ public class JwtProperties {
     @Data
     public static class RefreshToken {
         private long expirationTime; // 초 단위
+        private String pepper; // 리프레시 토큰 HMAC 해시 키 (32바이트 이상)
+        private RefreshTokenFormat format = RefreshTokenFormat.OPAQUE; // 새로 발급하는 리프레시 토큰 형식
 
         public Duration getExpirationDuration() {
             return Duration.ofSeconds(expirationTime);
@@ -47,6 +52,7 @@ public class JwtProperties {
         private long rotationInterval; // 초 단위
         private int maxKeys;
         private long gracePeriod; // 그레이스 기간 (초 단위)
+        private JwkAlgorithm algorithm = JwkAlgorithm.RS256; // 새로 생성하는 키의 서명 알고리즘
 
         public Duration getRotationIntervalDuration() {
             return Duration.ofSeconds(rotationInterval);
@@ -1,8 +1,12 @@
 package com.lumanlab.parentcaringservice.security.jwt.application.service;
 
+import com.lumanlab.parentcaringservice.security.jwt.domain.JwkAlgorithm;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.math.BigInteger;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
 import java.security.interfaces.RSAPublicKey;
 import java.util.*;
 
@@ -10,22 +14,36 @@ import java.util.*;
 @RequiredArgsConstructor
 public class JwkJsonGenerator {
 
-    public Map<String, Object> generateJwkSet(Map<String, RSAPublicKey> publicKeys) {
+    private static final int P256_COORDINATE_LENGTH = 32;
+    private static final int ED25519_PUBLIC_KEY_LENGTH = 32;
+
+    /**
+     * 공개키 목록으로 JWK Set을 생성
+     * <p>
+     * 키마다 공개키 타입에 맞는 kty/alg를 사용하므로, 알고리즘 전환 중에는 서로 다른 알고리즘의 키가 함께 포함됨
+     *
+     * @param publicKeys 키 ID별 공개키
+     * @return JWK Set
+     */
+    public Map<String, Object> generateJwkSet(Map<String, PublicKey> publicKeys) {
         List<Map<String, Object>> keys = new ArrayList<>();
 
-        for (Map.Entry<String, RSAPublicKey> entry : publicKeys.entrySet()) {
+        for (Map.Entry<String, PublicKey> entry : publicKeys.entrySet()) {
             String keyId = entry.getKey();
-            RSAPublicKey publicKey = entry.getValue();
+            PublicKey publicKey = entry.getValue();
+            JwkAlgorithm algorithm = JwkAlgorithm.from(publicKey);
 
             Map<String, Object> jwk = new HashMap<>();
-            jwk.put("kty", "RSA");
+            jwk.put("kty", algorithm.getKeyType());
             jwk.put("use", "sig");
-            jwk.put("alg", "RS256");
+            jwk.put("alg", algorithm.name());
             jwk.put("kid", keyId);
 
-            // RSA 공개키의 modulus와 exponent를 Base64 URL 인코딩
-            jwk.put("n", base64UrlEncode(publicKey.getModulus().toByteArray()));
-            jwk.put("e", base64UrlEncode(publicKey.getPublicExponent().toByteArray()));
+            switch (algorithm) {
+                case RS256 -> putRsaParameters(jwk, (RSAPublicKey) publicKey);
+                case ES256 -> putEcParameters(jwk, (ECPublicKey) publicKey);
+                case EdDSA -> putOkpParameters(jwk, publicKey);
+            }
 
             keys.add(jwk);
         }
@@ -36,10 +54,43 @@ public class JwkJsonGenerator {
         return jwkSet;
     }
 
+    private void putRsaParameters(Map<String, Object> jwk, RSAPublicKey publicKey) {
+        // RSA 공개키의 modulus와 exponent를 Base64 URL 인코딩
+        jwk.put("n", base64UrlEncode(removeLeadingZeros(publicKey.getModulus().toByteArray())));
+        jwk.put("e", base64UrlEncode(removeLeadingZeros(publicKey.getPublicExponent().toByteArray())));
+    }
+
+    private void putEcParameters(Map<String, Object> jwk, ECPublicKey publicKey) {
+        // EC 좌표는 곡선 크기에 맞춰 고정 길이로 인코딩 (RFC 7518 6.2.1.2)
+        jwk.put("crv", "P-256");
+        jwk.put("x", base64UrlEncode(toFixedLength(publicKey.getW().getAffineX(), P256_COORDINATE_LENGTH)));
+        jwk.put("y", base64UrlEncode(toFixedLength(publicKey.getW().getAffineY(), P256_COORDINATE_LENGTH)));
+    }
+
+    private void putOkpParameters(Map<String, Object> jwk, PublicKey publicKey) {
+        // Ed25519 X.509 인코딩의 마지막 32바이트가 원본 공개키 (RFC 8037 2)
+        byte[] encoded = publicKey.getEncoded();
+
+        jwk.put("crv", "Ed25519");
+        jwk.put("x", base64UrlEncode(
+                Arrays.copyOfRange(encoded, encoded.length - ED25519_PUBLIC_KEY_LENGTH, encoded.length)));
+    }
+
     private String base64UrlEncode(byte[] data) {
         return Base64.getUrlEncoder()
                 .withoutPadding()
-                .encodeToString(removeLeadingZeros(data));
+                .encodeToString(data);
+    }
+
+    private byte[] toFixedLength(BigInteger value, int length) {
+        byte[] data = removeLeadingZeros(value.toByteArray());
+        if (data.length == length) {
+            return data;
+        }
+
+        byte[] result = new byte[length];
+        System.arraycopy(data, 0, result, length - data.length, data.length);
+        return result;
     }
 
     private byte[] removeLeadingZeros(byte[] data) {
@@ -1,6 +1,7 @@
 package com.lumanlab.parentcaringservice.security.jwt.application.service;
 
 import com.lumanlab.parentcaringservice.security.jwt.JwtProperties;
+import com.lumanlab.parentcaringservice.security.jwt.domain.JwkAlgorithm;
 import com.lumanlab.parentcaringservice.security.jwt.domain.JwkData;
 import com.lumanlab.parentcaringservice.security.jwt.domain.JwkMetadata;
 import com.lumanlab.parentcaringservice.security.jwt.port.outp.JwkRedisRepository;
@@ -8,17 +9,22 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.math.BigInteger;
 import java.security.KeyFactory;
 import java.security.KeyPair;
-import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 import java.security.spec.InvalidKeySpecException;
-import java.security.spec.RSAPrivateKeySpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPrivateCrtKeySpec;
 import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -30,7 +36,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * <p>
  * 주요 기능:
  * - 현재 사용 중인 키 조회 및 관리
- * - RSA 키 생성 및 로테이션
+ * - 서명 키(RS256, ES256, EdDSA) 생성 및 로테이션
  * - 키 데이터를 Redis 저장소에 저장/로드
  * - 공개 JWK 집합(JWK Set)을 생성
  * - 키 메타데이터 관리
@@ -42,6 +48,9 @@ public class JwkManager {
     private final JwkRedisRepository jwkRepository;
     private final JwtProperties jwtProperties;
     private final JwkJsonGenerator jwkJsonGenerator;
+    private final VerifiedAccessTokenCache verifiedAccessTokenCache;
+    private final JwtParserRegistry jwtParserRegistry;
+    private final JwsHeaderKeyIdExtractor jwsHeaderKeyIdExtractor;
 
     private final Map<String, KeyPair> keyCache = new ConcurrentHashMap<>();
 
@@ -49,10 +58,14 @@ public class JwkManager {
     private volatile String currentKeyId;
 
     public JwkManager(JwkRedisRepository jwkRepository, JwtProperties jwtProperties,
-                      JwkJsonGenerator jwkJsonGenerator) {
+                      JwkJsonGenerator jwkJsonGenerator, VerifiedAccessTokenCache verifiedAccessTokenCache,
+                      JwtParserRegistry jwtParserRegistry, JwsHeaderKeyIdExtractor jwsHeaderKeyIdExtractor) {
         this.jwkRepository = jwkRepository;
         this.jwtProperties = jwtProperties;
         this.jwkJsonGenerator = jwkJsonGenerator;
+        this.verifiedAccessTokenCache = verifiedAccessTokenCache;
+        this.jwtParserRegistry = jwtParserRegistry;
+        this.jwsHeaderKeyIdExtractor = jwsHeaderKeyIdExtractor;
 
         initializeKeys();
     }
@@ -66,19 +79,17 @@ public class JwkManager {
         if (keyPair == null) {
             keyPair = loadKeyFromRedis(keyId);
             if (keyPair != null) {
-                keyCache.put(keyId, keyPair);
+                cacheKey(keyId, keyPair);
             }
         }
         return keyPair;
     }
 
     public Map<String, Object> getPublicJwkSet() {
-        Map<String, RSAPublicKey> publicKeys = new HashMap<>();
+        Map<String, PublicKey> publicKeys = new HashMap<>();
 
         for (Map.Entry<String, KeyPair> entry : keyCache.entrySet()) {
-            String keyId = entry.getKey();
-            RSAPublicKey publicKey = (RSAPublicKey) entry.getValue().getPublic();
-            publicKeys.put(keyId, publicKey);
+            publicKeys.put(entry.getKey(), entry.getValue().getPublic());
         }
 
         return jwkJsonGenerator.generateJwkSet(publicKeys);
@@ -89,6 +100,8 @@ public class JwkManager {
         generateNewKey();
         cleanupOldKeys();
         updateMetadata();
+        // 키가 교체되거나 제거되었으므로, 이전 키 기준으로 검증된 토큰 캐시를 비움
+        verifiedAccessTokenCache.invalidateAll();
         log.info("키 로테이션 완료: 새 키 ID = {}", currentKeyId);
     }
 
@@ -123,6 +136,14 @@ public class JwkManager {
         } else {
             currentKeyId = storedKeyId;
             loadKeysFromRedis();
+
+            // 설정된 서명 알고리즘이 변경된 경우 새 알고리즘으로 키를 생성하고, 기존 키는 그레이스 기간 동안 검증에 사용
+            KeyPair currentKeyPair = keyCache.get(currentKeyId);
+            JwkAlgorithm configuredAlgorithm = jwtProperties.getKey().getAlgorithm();
+            if (currentKeyPair == null || JwkAlgorithm.from(currentKeyPair.getPublic()) != configuredAlgorithm) {
+                log.info("서명 알고리즘 변경으로 새로운 키 생성: {}", configuredAlgorithm);
+                generateNewKey();
+            }
         }
 
         // 메타데이터 업데이트
@@ -132,10 +153,10 @@ public class JwkManager {
     private void generateNewKey() {
         try {
             String keyId = "key-" + Instant.now().toEpochMilli();
-            KeyPair keyPair = generateRsaKeyPair();
+            KeyPair keyPair = jwtProperties.getKey().getAlgorithm().generateKeyPair();
 
             // 캐시에 저장
-            keyCache.put(keyId, keyPair);
+            cacheKey(keyId, keyPair);
 
             // Redis에 저장
             saveKeyToRedis(keyId, keyPair);
@@ -152,27 +173,20 @@ public class JwkManager {
         }
     }
 
-    private KeyPair generateRsaKeyPair() throws NoSuchAlgorithmException {
-        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
-        keyPairGenerator.initialize(2048);
-        return keyPairGenerator.generateKeyPair();
-    }
-
     private void saveKeyToRedis(String keyId, KeyPair keyPair) {
-        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
-        RSAPrivateKey privateKey = (RSAPrivateKey) keyPair.getPrivate();
+        JwkAlgorithm algorithm = JwkAlgorithm.from(keyPair.getPublic());
 
         Instant now = Instant.now();
         // 그레이스 기간을 포함한 만료 시간 계산
         Instant expiresAt = now.plus(jwtProperties.getKey().getRotationIntervalDuration())
                 .plus(jwtProperties.getKey().getGracePeriodDuration());
 
+        // PKCS#8 인코딩은 RSA 키의 CRT 파라미터까지 포함하므로, 복원한 키도 CRT 최적화를 사용해 서명함
         JwkData keyData = JwkData.builder()
                 .keyId(keyId)
-                .publicModulus(publicKey.getModulus().toString())
-                .publicExponent(publicKey.getPublicExponent().toString())
-                .privateModulus(privateKey.getModulus().toString())
-                .privateExponent(privateKey.getPrivateExponent().toString())
+                .algorithm(algorithm)
+                .encodedPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()))
+                .encodedPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()))
                 .createdAt(now)
                 .expiresAt(expiresAt)
                 .active(true)
@@ -194,6 +208,10 @@ public class JwkManager {
                 return null;
             }
 
+            if (keyData.isLegacyRsaFormat()) {
+                return migrateLegacyRsaKey(keyData);
+            }
+
             return reconstructKeyPair(keyData);
 
         } catch (Exception e) {
@@ -202,25 +220,78 @@ public class JwkManager {
         }
     }
 
-    private KeyPair reconstructKeyPair(JwkData keyData) {
+    /**
+     * 이전 형식(modulus, exponent 문자열)으로 저장된 RSA 키를 CRT 키로 복원하고, PKCS#8 형식으로 다시 저장
+     */
+    private KeyPair migrateLegacyRsaKey(JwkData keyData) {
+        KeyPair keyPair = reconstructLegacyRsaKeyPair(keyData);
+        if (keyPair == null) {
+            return null;
+        }
+
+        JwkData migrated = JwkData.builder()
+                .keyId(keyData.getKeyId())
+                .algorithm(JwkAlgorithm.RS256)
+                .encodedPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()))
+                .encodedPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()))
+                .createdAt(keyData.getCreatedAt())
+                .expiresAt(keyData.getExpiresAt())
+                .active(keyData.isActive())
+                .build();
+
+        // 기존 키의 남은 만료 시간을 유지
+        Duration remainingTtl = keyData.getExpiresAt() != null
+                ? Duration.between(Instant.now(), keyData.getExpiresAt())
+                : null;
+        if (remainingTtl == null || !remainingTtl.isNegative()) {
+            jwkRepository.saveKeyData(migrated, remainingTtl);
+            log.info("이전 형식의 RSA 키를 PKCS#8 형식으로 변환: {}", keyData.getKeyId());
+        }
+
+        return keyPair;
+    }
+
+    private KeyPair reconstructLegacyRsaKeyPair(JwkData keyData) {
         try {
             KeyFactory keyFactory = KeyFactory.getInstance("RSA");
 
+            BigInteger modulus = new BigInteger(keyData.getPublicModulus());
+            BigInteger publicExponent = new BigInteger(keyData.getPublicExponent());
+            BigInteger privateExponent = new BigInteger(keyData.getPrivateExponent());
+
             // 공개키 복원
-            RSAPublicKeySpec publicKeySpec = new RSAPublicKeySpec(new java.math.BigInteger(keyData.getPublicModulus()),
-                    new java.math.BigInteger(keyData.getPublicExponent()));
-            RSAPublicKey publicKey = (RSAPublicKey) keyFactory.generatePublic(publicKeySpec);
-
-            // 개인키 복원
-            RSAPrivateKeySpec privateKeySpec =
-                    new RSAPrivateKeySpec(new java.math.BigInteger(keyData.getPrivateModulus()),
-                            new java.math.BigInteger(keyData.getPrivateExponent()));
+            RSAPublicKey publicKey =
+                    (RSAPublicKey) keyFactory.generatePublic(new RSAPublicKeySpec(modulus, publicExponent));
+
+            // 개인키 복원 (CRT 파라미터 복원)
+            RSAPrivateCrtKeySpec privateKeySpec =
+                    RsaCrtKeyRecovery.recover(modulus, publicExponent, privateExponent);
             RSAPrivateKey privateKey = (RSAPrivateKey) keyFactory.generatePrivate(privateKeySpec);
 
             return new KeyPair(publicKey, privateKey);
 
-        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
-            log.error("키 복원 중 오류 발생", e);
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException | IllegalArgumentException e) {
+            log.error("키 복원 중 오류 발생: {}", keyData.getKeyId(), e);
+            return null;
+        }
+    }
+
+    /**
+     * X.509/PKCS#8 인코딩으로 저장된 키 쌍을 복원
+     */
+    private KeyPair reconstructKeyPair(JwkData keyData) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(keyData.getAlgorithmOrDefault().getKeyFactoryAlgorithm());
+
+            PublicKey publicKey = keyFactory.generatePublic(
+                    new X509EncodedKeySpec(Base64.getDecoder().decode(keyData.getEncodedPublicKey())));
+            PrivateKey privateKey = keyFactory.generatePrivate(
+                    new PKCS8EncodedKeySpec(Base64.getDecoder().decode(keyData.getEncodedPrivateKey())));
+
+            return new KeyPair(publicKey, privateKey);
+
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException | IllegalArgumentException e) {
+            log.error("키 복원 중 오류 발생: {}", keyData.getKeyId(), e);
             return null;
         }
     }
@@ -230,7 +301,7 @@ public class JwkManager {
         if (currentKeyId != null) {
             KeyPair keyPair = loadKeyFromRedis(currentKeyId);
             if (keyPair != null) {
-                keyCache.put(currentKeyId, keyPair);
+                cacheKey(currentKeyId, keyPair);
             }
         }
 
@@ -240,7 +311,7 @@ public class JwkManager {
             if (!keyCache.containsKey(keyId)) {
                 KeyPair keyPair = loadKeyFromRedis(keyId);
                 if (keyPair != null) {
-                    keyCache.put(keyId, keyPair);
+                    cacheKey(keyId, keyPair);
                 }
             }
         }
@@ -311,6 +382,8 @@ public class JwkManager {
         // 키 제거 실행
         for (String keyId : keysToRemove) {
             keyCache.remove(keyId);
+            jwtParserRegistry.remove(keyId);
+            jwsHeaderKeyIdExtractor.evict(keyId);
             jwkRepository.deleteKeyData(keyId);
             log.info("그레이스 기간이 지난 키 제거: {}", keyId);
         }
@@ -321,6 +394,14 @@ public class JwkManager {
         log.info("키 정리 완료 - 제거된 키: {}, 활성 키: {}", keysToRemove.size(), keyCache.size());
     }
 
+    /**
+     * 키를 캐시에 저장하고, 해당 키의 서명 검증용 JwtParser를 미리 생성하여 등록
+     */
+    private void cacheKey(String keyId, KeyPair keyPair) {
+        keyCache.put(keyId, keyPair);
+        jwtParserRegistry.register(keyId, keyPair.getPublic());
+    }
+
     private void updateMetadata() {
         Set<String> activeKeyIds = new HashSet<>(keyCache.keySet());
 
@@ -0,0 +1,181 @@
+package com.lumanlab.parentcaringservice.security.jwt.application.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * JWS 헤더에서 JWK 키 ID(kid)를 추출하는 클래스
+ * <p>
+ * 같은 키로 서명된 토큰은 헤더 세그먼트가 동일하므로, 서명 검증이 완료된 헤더 세그먼트를 기억해두고
+ * 이후 요청에서는 토큰의 헤더 영역을 문자열 비교만으로 매칭하여 kid를 할당 없이 반환함
+ * <p>
+ * 처음 보는 헤더는 스레드별로 재사용하는 버퍼에 Base64URL 디코딩한 뒤, Jackson 스트리밍 파서로 kid만 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwsHeaderKeyIdExtractor {
+
+    private static final String KEY_ID_FIELD = "kid";
+    private static final int MAX_KNOWN_HEADERS = 32;
+    private static final int MAX_HEADER_LENGTH = 1024; // Base64URL 인코딩된 헤더 최대 길이
+    private static final byte[] BASE64_URL_DECODE_TABLE = createBase64UrlDecodeTable();
+
+    private final ObjectMapper objectMapper;
+
+    private final ThreadLocal<byte[]> headerBuffer =
+            ThreadLocal.withInitial(() -> new byte[MAX_HEADER_LENGTH * 3 / 4]);
+
+    private volatile KnownHeader[] knownHeaders = new KnownHeader[0];
+
+    /**
+     * 주어진 JWT 토큰의 헤더에서 JWK 키 ID(kid)를 추출
+     *
+     * @param jwtToken JWK 키 ID를 추출할 대상 JWT 토큰 문자열
+     * @return 추출된 JWK 키 ID 문자열. 토큰이 적절한 형식이 아니거나 kid가 없으면 null 반환
+     */
+    public String extract(String jwtToken) {
+        if (jwtToken == null) {
+            return null;
+        }
+
+        int headerLength = jwtToken.indexOf('.');
+        if (headerLength <= 0 || headerLength > MAX_HEADER_LENGTH || jwtToken.indexOf('.', headerLength + 1) < 0) {
+            return null;
+        }
+
+        String keyId = findKnownKeyId(jwtToken, headerLength);
+        if (keyId != null) {
+            return keyId;
+        }
+
+        return parseKeyId(jwtToken, headerLength);
+    }
+
+    /**
+     * 서명 검증이 완료된 토큰의 헤더 세그먼트를 기억
+     * <p>
+     * 서명된 헤더만 등록되므로 임의로 조작된 헤더가 캐시를 채울 수 없으며, 최대 개수를 초과하면 가장 오래된 헤더부터 제거
+     *
+     * @param jwtToken 서명 검증이 완료된 JWT 토큰 문자열
+     * @param keyId    토큰 헤더의 JWK 키 ID
+     */
+    public void remember(String jwtToken, String keyId) {
+        int headerLength = jwtToken.indexOf('.');
+        if (headerLength <= 0 || headerLength > MAX_HEADER_LENGTH || findKnownKeyId(jwtToken, headerLength) != null) {
+            return;
+        }
+
+        synchronized (this) {
+            KnownHeader[] current = knownHeaders;
+            int from = current.length >= MAX_KNOWN_HEADERS ? 1 : 0;
+
+            KnownHeader[] updated = Arrays.copyOfRange(current, from, current.length + 1);
+            updated[updated.length - 1] = new KnownHeader(jwtToken.substring(0, headerLength), keyId);
+            knownHeaders = updated;
+        }
+    }
+
+    /**
+     * 주어진 JWK 키 ID로 서명된 헤더 세그먼트를 모두 제거
+     *
+     * @param keyId 제거된 JWK 키 ID
+     */
+    public synchronized void evict(String keyId) {
+        knownHeaders = Arrays.stream(knownHeaders)
+                .filter(header -> !header.keyId().equals(keyId))
+                .toArray(KnownHeader[]::new);
+    }
+
+    private String findKnownKeyId(String jwtToken, int headerLength) {
+        for (KnownHeader header : knownHeaders) {
+            String segment = header.segment();
+            if (segment.length() == headerLength && jwtToken.regionMatches(0, segment, 0, headerLength)) {
+                return header.keyId();
+            }
+        }
+        return null;
+    }
+
+    private String parseKeyId(String jwtToken, int headerLength) {
+        byte[] buffer = headerBuffer.get();
+
+        int decodedLength = decodeBase64Url(jwtToken, headerLength, buffer);
+        if (decodedLength < 0) {
+            return null;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(buffer, 0, decodedLength)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean isKeyId = KEY_ID_FIELD.equals(parser.currentName());
+                JsonToken value = parser.nextToken();
+
+                if (isKeyId) {
+                    return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                }
+                parser.skipChildren();
+            }
+
+            return null;
+
+        } catch (IOException e) {
+            log.debug("JWT 토큰에서 JWK 키 ID 추출 중 오류 발생", e);
+            return null;
+        }
+    }
+
+    /**
+     * 토큰의 앞부분(헤더 세그먼트)을 Base64URL 디코딩하여 버퍼에 기록
+     *
+     * @return 디코딩된 바이트 수, 올바른 Base64URL 문자열이 아니면 -1
+     */
+    private static int decodeBase64Url(String source, int length, byte[] destination) {
+        int bits = 0;
+        int bitCount = 0;
+        int position = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = source.charAt(i);
+            int value = c < BASE64_URL_DECODE_TABLE.length ? BASE64_URL_DECODE_TABLE[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+
+            bits = (bits << 6) | value;
+            bitCount += 6;
+
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                destination[position++] = (byte) (bits >> bitCount);
+            }
+        }
+
+        // 패딩 없는 Base64URL에서 남은 비트가 6비트 이상이면 잘못된 길이
+        return bitCount >= 6 ? -1 : position;
+    }
+
+    private static byte[] createBase64UrlDecodeTable() {
+        byte[] table = new byte[128];
+        Arrays.fill(table, (byte) -1);
+
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            table[alphabet.charAt(i)] = (byte) i;
+        }
+        return table;
+    }
+
+    private record KnownHeader(String segment, String keyId) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.lumanlab.parentcaringservice.security.jwt.application.service;
+
+import com.lumanlab.parentcaringservice.security.jwt.JwtProperties;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.PublicKey;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWK 키 ID(kid)별로 미리 생성된 JwtParser 저장소
+ * <p>
+ * JwtParser는 불변 객체이며 스레드에 안전하므로, 키가 로드되거나 교체될 때 한 번만 생성하여
+ * 요청마다 파서, 역직렬화기, 검증 체인을 다시 만드는 비용을 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtParserRegistry {
+
+    private final JwtProperties jwtProperties;
+
+    private final Map<String, JwtParser> parsers = new ConcurrentHashMap<>();
+
+    /**
+     * 주어진 키 ID에 해당하는 JwtParser를 조회
+     *
+     * @param keyId JWK 키 ID
+     * @return 등록된 JwtParser, 등록되지 않은 키 ID인 경우 null
+     */
+    public JwtParser get(String keyId) {
+        return parsers.get(keyId);
+    }
+
+    /**
+     * 주어진 공개키로 JwtParser를 생성하여 등록
+     *
+     * @param keyId     JWK 키 ID
+     * @param publicKey 서명 검증에 사용할 공개키
+     * @return 등록된 JwtParser
+     */
+    public JwtParser register(String keyId, PublicKey publicKey) {
+        JwtParser parser = Jwts.parser()
+                .verifyWith(publicKey)
+                .requireIssuer(jwtProperties.getIssuer())
+                .build();
+
+        parsers.put(keyId, parser);
+        log.debug("JwtParser 등록 완료: keyId={}", keyId);
+
+        return parser;
+    }
+
+    /**
+     * 주어진 키 ID에 해당하는 JwtParser를 제거
+     *
+     * @param keyId JWK 키 ID
+     */
+    public void remove(String keyId) {
+        parsers.remove(keyId);
+        log.debug("JwtParser 제거 완료: keyId={}", keyId);
+    }
+}
@@ -1,19 +1,14 @@
 package com.lumanlab.parentcaringservice.security.jwt.application.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lumanlab.parentcaringservice.security.jwt.JwtProperties;
+import com.lumanlab.parentcaringservice.security.jwt.domain.JwkAlgorithm;
 import io.jsonwebtoken.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.security.KeyPair;
-import java.security.PrivateKey;
-import java.security.PublicKey;
 import java.time.Instant;
-import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
 
@@ -28,8 +23,9 @@ import java.util.Map;
 public class JwtTokenService {
 
     private final JwkManager jwkManager;
+    private final JwtParserRegistry jwtParserRegistry;
+    private final JwsHeaderKeyIdExtractor jwsHeaderKeyIdExtractor;
     private final JwtProperties jwtProperties;
-    private final ObjectMapper objectMapper;
 
     /**
      * JWT 액세스 토큰을 생성하는 메서드
@@ -42,21 +38,22 @@ public class JwtTokenService {
         Instant now = Instant.now();
         Instant expiration = now.plus(jwtProperties.getAccessToken().getExpirationDuration());
 
-        return generateJwtToken(userId, claims, now, expiration);
+        return generateJwtToken(userId, null, claims, now, expiration);
     }
 
     /**
      * 사용자 ID와 클레임 정보를 기반으로 JWT 리프레시 토큰을 생성하는 메서드
      *
-     * @param userId JWT 토큰에 포함될 사용자 ID
-     * @param claims 추가적으로 토큰에 포함될 클레임 정보. null일 경우 빈 데이터로 처리됨
+     * @param userId  JWT 토큰에 포함될 사용자 ID
+     * @param tokenId JWT 토큰에 포함될 토큰 식별자 (jti)
+     * @param claims  추가적으로 토큰에 포함될 클레임 정보. null일 경우 빈 데이터로 처리됨
      * @return 생성된 JWT 리프레시 토큰 문자열
      */
-    public String generateRefreshToken(Long userId, Map<String, Object> claims) {
+    public String generateRefreshToken(Long userId, String tokenId, Map<String, Object> claims) {
         Instant now = Instant.now();
         Instant expiration = now.plus(jwtProperties.getRefreshToken().getExpirationDuration());
 
-        return generateJwtToken(userId, claims, now, expiration);
+        return generateJwtToken(userId, tokenId, claims, now, expiration);
     }
 
     /**
@@ -67,32 +64,26 @@ public class JwtTokenService {
      * @throws JwtException 유효하지 않은 토큰, 만료된 토큰, 서명 오류 등 검증 실패 시 발생
      */
     public Claims validateJwtToken(String jwtToken) {
-        try {
-            String jwkKeyId = extractJwkKeyIdFromJwt(jwtToken);
-            if (jwkKeyId == null) {
-                throw new JwtException("JWT 토큰에서 JWK 키 ID를 찾을 수 없습니다");
-            }
-
-            KeyPair jwkKeyPair = jwkManager.getKeyPair(jwkKeyId);
-            if (jwkKeyPair == null) {
-                throw new JwtException("유효하지 않은 JWK 키 ID입니다: " + jwkKeyId);
-            }
-
-            PublicKey jwkPublicKey = jwkKeyPair.getPublic();
+        String jwkKeyId = jwsHeaderKeyIdExtractor.extract(jwtToken);
+        if (jwkKeyId == null) {
+            throw new JwtException("JWT 토큰에서 JWK 키 ID를 찾을 수 없습니다");
+        }
 
-            return Jwts.parser()
-                    .verifyWith(jwkPublicKey)
-                    .requireIssuer(jwtProperties.getIssuer())
-                    .build()
+        try {
+            Claims claims = getJwtParser(jwkKeyId)
                     .parseSignedClaims(jwtToken)
                     .getPayload();
 
+            // 서명 검증이 완료된 헤더만 기억하여, 이후 같은 헤더의 kid를 파싱 없이 조회
+            jwsHeaderKeyIdExtractor.remember(jwtToken, jwkKeyId);
+
+            return claims;
+
         } catch (ExpiredJwtException e) {
             log.debug("만료된 JWT 토큰: {}", e.getMessage());
 
             // Grace 기간 내에 존재하는 JWT 토큰인지 확인
-            String jwkKeyId = extractJwkKeyIdFromJwt(jwtToken);
-            if (jwkKeyId != null && jwkManager.isKeyInGracePeriod(jwkKeyId)) {
+            if (jwkManager.isKeyInGracePeriod(jwkKeyId)) {
                 log.warn("Grace 기간 내에 존재하는 토큰: {}", jwkKeyId);
                 return e.getClaims();
             }
@@ -128,53 +119,56 @@ public class JwtTokenService {
     }
 
     /**
-     * 주어진 JWT 토큰의 헤더에서 JWK(Key ID, kid)를 추출
+     * 주어진 JWK 키 ID에 해당하는 JwtParser를 조회
+     * <p>
+     * 키 로드 시점에 미리 생성된 파서를 사용하며, 다른 인스턴스에서 생성된 키처럼 아직 등록되지 않은 경우
+     * Redis에서 키를 로드하면서 파서를 함께 등록함
      *
-     * @param jwtToken JWK 키 ID를 추출할 대상 JWT 토큰 문자열
-     * @return 추출된 JWK 키 ID 문자열. 토큰이 적절한 형식이 아니거나 kid가 없으면 null 반환
+     * @param jwkKeyId JWK 키 ID
+     * @return 해당 키로 서명을 검증하는 JwtParser
+     * @throws JwtException 유효하지 않은 JWK 키 ID인 경우
      */
-    private String extractJwkKeyIdFromJwt(String jwtToken) {
-        try {
-            String[] chunks = jwtToken.split("\\.");
-            if (chunks.length != 3) {
-                return null;
-            }
-
-            byte[] headerBytes = Base64.getUrlDecoder().decode(chunks[0]);
-            JsonNode headerNode = objectMapper.readTree(headerBytes);
-
-            JsonNode kidNode = headerNode.get("kid");
-            return kidNode != null ? kidNode.asText() : null;
+    private JwtParser getJwtParser(String jwkKeyId) {
+        JwtParser jwtParser = jwtParserRegistry.get(jwkKeyId);
+        if (jwtParser != null) {
+            return jwtParser;
+        }
 
-        } catch (IllegalArgumentException | IOException e) {
-            log.debug("JWT 토큰에서 JWK 키 ID 추출 중 오류 발생", e);
-            return null;
+        KeyPair jwkKeyPair = jwkManager.getKeyPair(jwkKeyId);
+        if (jwkKeyPair == null) {
+            throw new JwtException("유효하지 않은 JWK 키 ID입니다: " + jwkKeyId);
         }
+
+        return jwtParserRegistry.register(jwkKeyId, jwkKeyPair.getPublic());
     }
 
     /**
      * JWT 토큰을 생성하는 메서드
      *
      * @param userId     JWT 토큰에 포함될 사용자 ID
+     * @param tokenId    JWT 토큰에 포함될 토큰 식별자 (jti). null일 경우 포함하지 않음
      * @param claims     추가적으로 토큰에 포함될 클레임 정보. null일 경우 빈 데이터로 처리됨
      * @param now        토큰의 발급 시간 (issuedAt으로 설정)
      * @param expiration 토큰의 만료 시간 (expiration으로 설정)
      * @return 생성된 JWT 토큰 문자열
      */
-    private String generateJwtToken(Long userId, Map<String, Object> claims, Instant now, Instant expiration) {
+    private String generateJwtToken(Long userId, String tokenId, Map<String, Object> claims, Instant now,
+                                    Instant expiration) {
         String jwkKeyId = jwkManager.getCurrentKeyId();
-        PrivateKey jwkPrivateKey = jwkManager.getCurrentKeyPair().getPrivate();
+        KeyPair jwkKeyPair = jwkManager.getCurrentKeyPair();
+        JwkAlgorithm jwkAlgorithm = JwkAlgorithm.from(jwkKeyPair.getPublic());
 
         Map claimsMap = claims == null ? Map.of() : claims;
 
         return Jwts.builder()
-                .setHeader(Map.of("alg", "RS256", "typ", "JWT", "kid", jwkKeyId))
+                .header().type("JWT").keyId(jwkKeyId).and()
                 .issuer(jwtProperties.getIssuer())
+                .id(tokenId)
                 .subject(String.valueOf(userId))
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiration))
                 .claims(claimsMap)
-                .signWith(jwkPrivateKey, SignatureAlgorithm.RS256)
+                .signWith(jwkKeyPair.getPrivate(), jwkAlgorithm.getSignatureAlgorithm())
                 .compact();
     }
 }
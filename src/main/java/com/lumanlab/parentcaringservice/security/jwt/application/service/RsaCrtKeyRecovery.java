@@ -0,0 +1,79 @@
+package com.lumanlab.parentcaringservice.security.jwt.application.service;
+
+import java.math.BigInteger;
+import java.security.spec.RSAPrivateCrtKeySpec;
+
+/**
+ * modulus(n), 공개 지수(e), 비밀 지수(d)만 저장된 RSA 개인키에서 CRT 파라미터(p, q, dP, dQ, qInv)를 복원
+ * <p>
+ * CRT 파라미터가 없는 RSA 개인키는 서명 시 중국인의 나머지 정리 최적화를 사용하지 못하므로,
+ * 이전 형식으로 저장된 키를 불러올 때 n을 소인수분해하여 CRT 키로 변환함 (NIST SP 800-56B Appendix C)
+ */
+final class RsaCrtKeyRecovery {
+
+    private static final int MAX_ATTEMPTS = 100;
+    private static final BigInteger TWO = BigInteger.valueOf(2);
+
+    private RsaCrtKeyRecovery() {
+    }
+
+    /**
+     * RSA 키의 n, e, d로부터 CRT 개인키 스펙을 생성
+     *
+     * @param modulus         modulus (n)
+     * @param publicExponent  공개 지수 (e)
+     * @param privateExponent 비밀 지수 (d)
+     * @return CRT 파라미터를 포함한 개인키 스펙
+     * @throws IllegalArgumentException 주어진 값으로 소인수분해할 수 없는 경우
+     */
+    static RSAPrivateCrtKeySpec recover(BigInteger modulus, BigInteger publicExponent, BigInteger privateExponent) {
+        BigInteger p = findPrimeFactor(modulus, publicExponent, privateExponent);
+        BigInteger q = modulus.divide(p);
+
+        // 관례상 p > q가 되도록 정렬
+        if (p.compareTo(q) < 0) {
+            BigInteger temp = p;
+            p = q;
+            q = temp;
+        }
+
+        BigInteger primeExponentP = privateExponent.mod(p.subtract(BigInteger.ONE));
+        BigInteger primeExponentQ = privateExponent.mod(q.subtract(BigInteger.ONE));
+        BigInteger crtCoefficient = q.modInverse(p);
+
+        return new RSAPrivateCrtKeySpec(modulus, publicExponent, privateExponent, p, q, primeExponentP,
+                primeExponentQ, crtCoefficient);
+    }
+
+    private static BigInteger findPrimeFactor(BigInteger n, BigInteger e, BigInteger d) {
+        // k = d * e - 1 = 2^s * t (t는 홀수)
+        BigInteger k = d.multiply(e).subtract(BigInteger.ONE);
+        if (k.testBit(0)) {
+            throw new IllegalArgumentException("RSA 키 파라미터가 올바르지 않습니다");
+        }
+
+        int s = k.getLowestSetBit();
+        BigInteger t = k.shiftRight(s);
+        BigInteger nMinusOne = n.subtract(BigInteger.ONE);
+
+        BigInteger g = TWO;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++, g = g.add(BigInteger.ONE)) {
+            BigInteger x = g.modPow(t, n);
+
+            for (int i = 0; i < s; i++) {
+                if (x.equals(BigInteger.ONE) || x.equals(nMinusOne)) {
+                    break;
+                }
+
+                BigInteger y = x.modPow(TWO, n);
+                if (y.equals(BigInteger.ONE)) {
+                    // x는 1의 비자명한 제곱근이므로 gcd(x - 1, n)이 n의 인수
+                    return x.subtract(BigInteger.ONE).gcd(n);
+                }
+                x = y;
+            }
+        }
+
+        throw new IllegalArgumentException("RSA modulus를 소인수분해할 수 없습니다");
+    }
+}
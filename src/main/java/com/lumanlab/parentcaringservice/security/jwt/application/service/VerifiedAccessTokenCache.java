@@ -0,0 +1,125 @@
+package com.lumanlab.parentcaringservice.security.jwt.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.lumanlab.parentcaringservice.security.domain.VerifiedAccessToken;
+import com.lumanlab.parentcaringservice.security.jwt.JwtProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 서명 검증이 완료된 AccessToken 캐시
+ * <p>
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하며, 각 항목은 토큰의 만료 시간(exp)까지만 유지됨
+ * 최대 개수를 초과하면 사용 빈도가 낮은 항목부터 제거되고, JWK 키가 교체되면 전체 항목을 비움
+ */
+@Slf4j
+@Component
+public class VerifiedAccessTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified-access-token";
+
+    private final Cache<String, VerifiedAccessToken> cache;
+
+    public VerifiedAccessTokenCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        Cache<String, VerifiedAccessToken> verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getAccessToken().getCacheMaximumSize())
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        // 히트/미스, 제거 건수 등의 메트릭 등록
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokenCache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에 저장된 검증 결과를 조회
+     *
+     * @param token AccessToken 원문
+     * @return 검증 결과, 캐시에 없거나 이미 만료된 경우 null
+     */
+    public VerifiedAccessToken get(String token) {
+        VerifiedAccessToken verified = cache.getIfPresent(digest(token));
+
+        if (verified == null || !verified.isAliveAt(Instant.now())) {
+            return null;
+        }
+
+        return verified;
+    }
+
+    /**
+     * 검증 결과를 캐시에 저장
+     * <p>
+     * 이미 만료된 토큰(그레이스 기간으로 허용된 토큰 등)은 저장하지 않음
+     *
+     * @param token    AccessToken 원문
+     * @param verified 검증 결과
+     */
+    public void put(String token, VerifiedAccessToken verified) {
+        if (!verified.isAliveAt(Instant.now())) {
+            return;
+        }
+
+        cache.put(digest(token), verified);
+    }
+
+    /**
+     * 캐시에 저장된 모든 검증 결과를 제거
+     * <p>
+     * JWK 키가 교체되거나 제거된 경우 호출
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+
+        log.info("검증된 AccessToken 캐시 초기화 완료");
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashBytes = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hashBytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    /**
+     * 캐시 항목을 토큰의 만료 시간(exp)까지만 유지하도록 하는 만료 정책
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedAccessToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedAccessToken value, long currentTime) {
+            return remainingNanos(value);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedAccessToken value, long currentTime,
+                                      long currentDuration) {
+            return remainingNanos(value);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedAccessToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long remainingNanos(VerifiedAccessToken value) {
+            Duration remaining = Duration.between(Instant.now(), value.expiresAt());
+
+            return remaining.isNegative() ? 0 : remaining.toNanos();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.lumanlab.parentcaringservice.security.jwt.domain;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.function.Supplier;
+
+/**
+ * JWT 서명에 사용하는 JWK 알고리즘
+ * <p>
+ * RS256 : RSA 2048 (기존 키와 호환)
+ * ES256 : ECDSA P-256
+ * EdDSA : Ed25519
+ */
+@Getter
+@RequiredArgsConstructor
+public enum JwkAlgorithm {
+    RS256("RSA", "RSA", Jwts.SIG.RS256, () -> Jwts.SIG.RS256.keyPair().build()),
+    ES256("EC", "EC", Jwts.SIG.ES256, () -> Jwts.SIG.ES256.keyPair().build()),
+    EdDSA("OKP", "Ed25519", Jwts.SIG.EdDSA, () -> Jwks.CRV.Ed25519.keyPair().build());
+
+    /**
+     * JWK의 kty 값
+     */
+    private final String keyType;
+
+    /**
+     * 키 복원 시 사용하는 JCA KeyFactory 알고리즘 이름
+     */
+    private final String keyFactoryAlgorithm;
+
+    private final SignatureAlgorithm signatureAlgorithm;
+
+    @Getter(AccessLevel.NONE)
+    private final Supplier<KeyPair> keyPairGenerator;
+
+    /**
+     * 알고리즘에 맞는 새로운 키 쌍을 생성
+     */
+    public KeyPair generateKeyPair() {
+        return keyPairGenerator.get();
+    }
+
+    /**
+     * 공개키 타입으로 알고리즘을 판별
+     *
+     * @param publicKey 공개키
+     * @return 공개키에 해당하는 알고리즘
+     * @throws IllegalArgumentException 지원하지 않는 공개키 타입인 경우
+     */
+    public static JwkAlgorithm from(PublicKey publicKey) {
+        if (publicKey instanceof RSAPublicKey) {
+            return RS256;
+        }
+        if (publicKey instanceof ECPublicKey) {
+            return ES256;
+        }
+        if (publicKey instanceof EdECPublicKey) {
+            return EdDSA;
+        }
+
+        throw new IllegalArgumentException("지원하지 않는 공개키 타입입니다: " + publicKey.getAlgorithm());
+    }
+}
@@ -1,6 +1,7 @@
 package com.lumanlab.parentcaringservice.security.jwt.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,22 +11,45 @@ import java.time.Instant;
 
 /**
  * Redis에 저장되는 JWK 키 데이터
+ * <p>
+ * 공개키는 X.509, 개인키는 PKCS#8 인코딩(Base64)으로 저장
+ * modulus, exponent 필드는 이전 형식으로 저장된 RSA 키를 읽기 위해서만 사용
  */
 @Data
+@JsonIgnoreProperties(ignoreUnknown = true)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class JwkData {
 
     private String keyId;
+    private JwkAlgorithm algorithm;
     private String publicModulus;
     private String publicExponent;
     private String privateModulus;
     private String privateExponent;
+    private String encodedPublicKey;
+    private String encodedPrivateKey;
     private Instant createdAt;
     private Instant expiresAt;
     private boolean active;
 
+    /**
+     * 키의 서명 알고리즘 조회 (알고리즘 정보가 없는 기존 키는 RS256)
+     */
+    @JsonIgnore
+    public JwkAlgorithm getAlgorithmOrDefault() {
+        return algorithm != null ? algorithm : JwkAlgorithm.RS256;
+    }
+
+    /**
+     * 이전 형식(modulus, exponent 문자열)으로 저장된 RSA 키인지 확인
+     */
+    @JsonIgnore
+    public boolean isLegacyRsaFormat() {
+        return encodedPrivateKey == null && privateExponent != null;
+    }
+
     /**
      * 키가 만료되었는지 확인
      */
@@ -0,0 +1,11 @@
+package com.lumanlab.parentcaringservice.security.jwt.domain;
+
+/**
+ * 새로 발급하는 리프레시 토큰의 형식
+ */
+public enum RefreshTokenFormat {
+    /** 난수 selector와 verifier로 구성된 토큰 (selector.verifier), DB에 저장된 해시로만 검증 */
+    OPAQUE,
+    /** 서명된 JWT 토큰 */
+    JWT
+}
@@ -0,0 +1,63 @@
+package com.lumanlab.parentcaringservice.security.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * 현재 장비에서 목표 시간 안에 해시할 수 있는 가장 높은 BCrypt 강도를 측정하는 클래스
+ * <p>
+ * BCrypt는 강도가 1 증가할 때마다 해시 시간이 약 2배가 되므로, 최소 강도부터 측정하여
+ * 다음 강도의 예상 시간이 목표 시간을 넘기 전까지 강도를 올림
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES = 2;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    /**
+     * 목표 시간 안에 해시할 수 있는 가장 높은 강도를 반환
+     *
+     * @param properties BCrypt 설정
+     * @return 최소 강도와 최대 강도 사이의 강도, 최소 강도도 목표 시간을 넘는 경우 최소 강도
+     */
+    public static int calibrate(PasswordHashProperties.Bcrypt properties) {
+        long targetNanos = properties.getTargetLatencyDuration().toNanos();
+        int strength = properties.getMinStrength();
+
+        // JIT 컴파일 전의 측정값이 섞이지 않도록 한 번 먼저 실행
+        measure(strength);
+        long elapsed = measure(strength);
+
+        while (strength < properties.getMaxStrength() && elapsed * 2 <= targetNanos) {
+            strength++;
+            elapsed = measure(strength);
+        }
+
+        log.info("BCrypt 강도 측정 완료: strength={}, elapsed={}ms, target={}ms",
+                strength, Duration.ofNanos(elapsed).toMillis(), properties.getTargetLatency());
+
+        return strength;
+    }
+
+    /**
+     * 여러 번 해시하여 가장 짧은 시간을 반환 (다른 작업으로 인한 지연 제외)
+     */
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+
+        return best;
+    }
+}
@@ -0,0 +1,54 @@
+package com.lumanlab.parentcaringservice.security.password;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "password-hash")
+public class PasswordHashProperties {
+
+    private Executor executor = new Executor();
+    private Bcrypt bcrypt = new Bcrypt();
+
+    @Data
+    public static class Executor {
+        private int threads = 0; // 해시 전용 스레드 개수, 0 이하인 경우 CPU 코어 개수 사용
+        private int queueCapacity = 64; // 대기열 최대 크기, 가득 찬 경우 바로 거절
+        private long waitTimeout = 3000; // 요청 스레드가 해시 결과를 기다리는 최대 시간 (밀리초 단위)
+        private long retryAfter = 1; // 거절 시 Retry-After 헤더로 안내하는 재시도 대기 시간 (초 단위)
+        private long shutdownTimeout = 5; // 종료 시 진행 중인 작업을 기다리는 시간 (초 단위)
+
+        public int getThreadCount() {
+            return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        }
+
+        public Duration getWaitTimeoutDuration() {
+            return Duration.ofMillis(waitTimeout);
+        }
+
+        public Duration getRetryAfterDuration() {
+            return Duration.ofSeconds(retryAfter);
+        }
+
+        public Duration getShutdownTimeoutDuration() {
+            return Duration.ofSeconds(shutdownTimeout);
+        }
+    }
+
+    @Data
+    public static class Bcrypt {
+        private boolean calibrate = true; // 시작 시 해시 시간을 측정하여 강도(work factor)를 결정
+        private int strength = 10; // 측정하지 않는 경우 사용하는 강도
+        private int minStrength = 10; // 측정 시 최소 강도
+        private int maxStrength = 14; // 측정 시 최대 강도
+        private long targetLatency = 250; // 해시 한 번에 허용하는 목표 시간 (밀리초 단위)
+
+        public Duration getTargetLatencyDuration() {
+            return Duration.ofMillis(targetLatency);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.lumanlab.parentcaringservice.security.password;
+
+import com.lumanlab.parentcaringservice.exception.PasswordHashRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시와 검증을 전용 스레드 풀에서 수행하는 클래스
+ * <p>
+ * 요청 스레드에서 bcrypt를 직접 수행하면 로그인 요청이 몰릴 때 모든 요청 스레드가 CPU를 점유하게 되므로,
+ * CPU 코어 개수만큼의 스레드와 크기가 제한된 대기열에서만 해시를 수행함
+ * 대기열이 가득 찼거나 제한 시간 안에 결과를 받지 못한 경우 {@link PasswordHashRejectedException}으로 바로 거절함
+ */
+@Slf4j
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashProperties.Executor properties;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer queueWaitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter queueFullCounter;
+    private final Counter timeoutCounter;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordHashProperties passwordHashProperties,
+                          MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.properties = passwordHashProperties.getExecutor();
+
+        int threads = properties.getThreadCount();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("password.hash.queue.depth", executor, item -> item.getQueue().size())
+                .description("해시 대기 중인 비밀번호 작업 개수")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해시 중인 비밀번호 작업 개수")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("password.hash.queue.wait")
+                .description("비밀번호 해시 작업의 대기열 대기 시간")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hash.duration")
+                .description("비밀번호 해시 수행 시간")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.duration")
+                .description("비밀번호 해시 수행 시간")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.queueFullCounter = Counter.builder("password.hash.rejected")
+                .description("거절된 비밀번호 해시 작업 개수")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("password.hash.rejected")
+                .description("거절된 비밀번호 해시 작업 개수")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+
+        log.info("비밀번호 해시 스레드 풀 시작: threads={}, queueCapacity={}", threads, properties.getQueueCapacity());
+    }
+
+    /**
+     * 비밀번호를 해시
+     *
+     * @throws PasswordHashRejectedException 대기열이 가득 찼거나 제한 시간 안에 해시하지 못한 경우
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호가 해시된 비밀번호와 일치하는지 확인
+     *
+     * @throws PasswordHashRejectedException 대기열이 가득 찼거나 제한 시간 안에 검증하지 못한 경우
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 해시된 비밀번호를 현재 설정으로 다시 해시해야 하는지 확인
+     * 해시 형식만 확인하므로 요청 스레드에서 바로 수행함
+     *
+     * @return 이전 형식이거나 현재 강도보다 낮은 강도로 해시된 경우 true
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+
+        if (!executor.awaitTermination(properties.getShutdownTimeoutDuration().toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("비밀번호 해시 스레드 풀 종료 대기 시간 초과: {}건 취소", executor.shutdownNow().size());
+        }
+    }
+
+    private <T> T execute(Timer hashTimer, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            queueFullCounter.increment();
+            throw new PasswordHashRejectedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.",
+                    properties.getRetryAfterDuration());
+        }
+
+        try {
+            return future.get(properties.getWaitTimeout(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 대기열에 있는 작업은 실행되지 않도록 취소
+            future.cancel(true);
+            timeoutCounter.increment();
+            throw new PasswordHashRejectedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.",
+                    properties.getRetryAfterDuration());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hash.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hash failed.", e.getCause());
+        }
+    }
+}
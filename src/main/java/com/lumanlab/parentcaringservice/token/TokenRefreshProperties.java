@@ -0,0 +1,34 @@
+package com.lumanlab.parentcaringservice.token;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "token-refresh")
+public class TokenRefreshProperties {
+
+    private long idempotencyWindow = 10; // 같은 리프레시 토큰으로 요청 시 같은 갱신 결과를 반환하는 시간 (초 단위)
+    private long lockTimeout = 10; // 갱신 잠금 유지 시간, waitTimeout보다 길어야 함 (초 단위)
+    private long waitTimeout = 5000; // 다른 요청의 갱신 결과를 기다리는 최대 시간 (밀리초 단위)
+    private long pollInterval = 50; // 다른 요청의 갱신 결과를 확인하는 주기 (밀리초 단위)
+
+    public Duration getIdempotencyWindowDuration() {
+        return Duration.ofSeconds(idempotencyWindow);
+    }
+
+    public Duration getLockTimeoutDuration() {
+        return Duration.ofSeconds(lockTimeout);
+    }
+
+    public Duration getWaitTimeoutDuration() {
+        return Duration.ofMillis(waitTimeout);
+    }
+
+    public Duration getPollIntervalDuration() {
+        return Duration.ofMillis(pollInterval);
+    }
+}
@@ -2,7 +2,7 @@ package com.lumanlab.parentcaringservice.token.adapter.in.web;
 
 import com.lumanlab.parentcaringservice.token.adapter.in.web.view.req.RefreshAccessTokenViewReq;
 import com.lumanlab.parentcaringservice.token.adapter.in.web.view.res.RefreshAccessTokenViewRes;
-import com.lumanlab.parentcaringservice.token.application.service.TokenAppService;
+import com.lumanlab.parentcaringservice.token.application.service.TokenRefreshCoordinator;
 import com.lumanlab.parentcaringservice.token.application.service.dto.RefreshAccessTokenDto;
 import com.lumanlab.parentcaringservice.user.domain.UserAgent;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,7 +14,7 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/token")
 public class TokenApi {
 
-    private final TokenAppService tokenAppService;
+    private final TokenRefreshCoordinator tokenRefreshCoordinator;
 
     @PostMapping("/refresh")
     public RefreshAccessTokenViewRes refreshAccessToken(@RequestHeader("User-Agent") UserAgent userAgent,
@@ -22,7 +22,7 @@ public class TokenApi {
                                                         HttpServletRequest request) {
         String ip = request.getRemoteAddr();
 
-        RefreshAccessTokenDto dto = tokenAppService.refreshAccessToken(req.refreshToken(), userAgent, ip);
+        RefreshAccessTokenDto dto = tokenRefreshCoordinator.refreshAccessToken(req.refreshToken(), userAgent, ip);
 
         return new RefreshAccessTokenViewRes(dto);
     }
@@ -1,44 +1,66 @@
 package com.lumanlab.parentcaringservice.token.application.service;
 
+import com.lumanlab.parentcaringservice.refreshtoken.port.inp.QueryRefreshToken;
 import com.lumanlab.parentcaringservice.refreshtoken.port.inp.UpdateRefreshToken;
 import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenDto;
 import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenProvider;
+import com.lumanlab.parentcaringservice.security.domain.RoleAuthorityTable;
 import com.lumanlab.parentcaringservice.security.jwt.application.service.JwtTokenService;
 import com.lumanlab.parentcaringservice.token.application.service.dto.RefreshAccessTokenDto;
-import com.lumanlab.parentcaringservice.user.domain.User;
 import com.lumanlab.parentcaringservice.user.domain.UserAgent;
+import com.lumanlab.parentcaringservice.user.domain.UserAuthSnapshot;
 import com.lumanlab.parentcaringservice.user.port.inp.QueryUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
 
+/**
+ * 토큰 유즈케이스
+ * <p>
+ * 토큰 서명 동안 DB 커넥션을 점유하지 않도록 클래스 단위로 트랜잭션을 열지 않으며, DB 작업은 각 포트의 짧은 트랜잭션에서 수행함
+ * (리프레시 토큰 폐기와 신규 저장은 {@link UpdateRefreshToken#rotate} 하나의 트랜잭션에서 처리됨)
+ */
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class TokenAppService {
 
     private final JwtTokenService jwtTokenService;
+    private final QueryRefreshToken queryRefreshToken;
     private final UpdateRefreshToken updateRefreshToken;
     private final RefreshTokenProvider refreshTokenProvider;
     private final QueryUser queryUser;
 
     public RefreshAccessTokenDto refreshAccessToken(String refreshToken, UserAgent userAgent, String ip) {
-        // 현재 refreshToken이 유효한지 조회
-        Long userId = Long.valueOf(jwtTokenService.extractSubject(refreshToken));
-        // 실제로 존재하는 유저인지 체크
-        User user = queryUser.findById(userId);
+        // 현재 refreshToken의 소유자 조회
+        Long userId = findRefreshTokenOwnerId(refreshToken);
+        // 실제로 존재하는 유저인지 체크 (역할 목록까지 한 번에 조회)
+        UserAuthSnapshot user = queryUser.findAuthSnapshotById(userId);
+
+        Map<String, Object> claims = Map.of(RoleAuthorityTable.ROLE_MASK_CLAIM, user.roleMask());
 
         // 신규 accessToken 생성
-        String accessToken = jwtTokenService.generateAccessToken(userId, Map.of("roles", user.getRolesString()));
+        String accessToken = jwtTokenService.generateAccessToken(userId, claims);
 
         // 신규 refreshToken 생성
-        RefreshTokenDto refreshTokenDto =
-                refreshTokenProvider.generateRefreshToken(user.getId(), Map.of("roles", user.getRolesString()));
-        updateRefreshToken.rotate(user.getId(), refreshToken, refreshTokenDto.tokenHash(), ip, userAgent,
-                refreshTokenDto.issuedAt(), refreshTokenDto.expiredAt());
+        RefreshTokenDto refreshTokenDto = refreshTokenProvider.generateRefreshToken(user.id(), claims);
+        updateRefreshToken.rotate(user.id(), refreshToken, refreshTokenDto.tokenId(), refreshTokenDto.tokenHash(),
+                ip, userAgent, refreshTokenDto.issuedAt(), refreshTokenDto.expiredAt());
 
         return new RefreshAccessTokenDto(accessToken, refreshTokenDto);
     }
+
+    /**
+     * 리프레시 토큰의 소유자 ID를 조회
+     * <p>
+     * 토큰 식별자가 있는 토큰은 저장된 리프레시 토큰으로 검증하며,
+     * 토큰 식별자가 없는 이전 JWT 리프레시 토큰은 만료될 때까지 서명 검증 후 subject를 사용함
+     */
+    private Long findRefreshTokenOwnerId(String refreshToken) {
+        if (refreshTokenProvider.extractTokenId(refreshToken) == null) {
+            return Long.valueOf(jwtTokenService.extractSubject(refreshToken));
+        }
+
+        return queryRefreshToken.findOwnerIdByToken(refreshToken);
+    }
 }
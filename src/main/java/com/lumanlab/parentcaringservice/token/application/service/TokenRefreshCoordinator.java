@@ -0,0 +1,161 @@
+package com.lumanlab.parentcaringservice.token.application.service;
+
+import com.lumanlab.parentcaringservice.security.encoder.RefreshTokenEncoder;
+import com.lumanlab.parentcaringservice.token.TokenRefreshProperties;
+import com.lumanlab.parentcaringservice.token.application.service.dto.RefreshAccessTokenDto;
+import com.lumanlab.parentcaringservice.token.port.outp.TokenRefreshRedisRepository;
+import com.lumanlab.parentcaringservice.user.domain.UserAgent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * 같은 리프레시 토큰으로 동시에 들어온 액세스 토큰 갱신 요청을 하나로 합치는 클래스
+ * <p>
+ * 이전 리프레시 토큰의 해시를 키로 Redis 잠금(SET NX)을 획득한 요청만 토큰을 회전하고, 갱신 결과를 idempotencyWindow 동안 저장함
+ * 잠금을 획득하지 못한 요청은 갱신 결과가 저장될 때까지 최대 waitTimeout 동안 기다린 뒤 같은 토큰 쌍을 반환함
+ * 잠금 유지 시간은 waitTimeout보다 길어야 하며, 같으면 기다리던 요청이 잠금 만료와 동시에 직접 회전하여 회전이 중복될 수 있음
+ * <p>
+ * 토큰 회전은 트랜잭션 밖에서 호출하므로, 갱신 결과는 회전이 커밋된 이후에 저장되며
+ * 결과를 기다리는 요청은 DB 커넥션을 점유하지 않음
+ * Redis를 사용할 수 없는 경우 잠금 없이 바로 회전함
+ */
+@Slf4j
+@Service
+public class TokenRefreshCoordinator {
+
+    private final TokenAppService tokenAppService;
+    private final TokenRefreshRedisRepository tokenRefreshRedisRepository;
+    private final RefreshTokenEncoder refreshTokenEncoder;
+    private final TokenRefreshProperties properties;
+
+    private final Counter coalescedCounter;
+    private final Counter lockTimeoutCounter;
+
+    public TokenRefreshCoordinator(TokenAppService tokenAppService,
+                                   TokenRefreshRedisRepository tokenRefreshRedisRepository,
+                                   RefreshTokenEncoder refreshTokenEncoder,
+                                   TokenRefreshProperties tokenRefreshProperties,
+                                   MeterRegistry meterRegistry) {
+        this.tokenAppService = tokenAppService;
+        this.tokenRefreshRedisRepository = tokenRefreshRedisRepository;
+        this.refreshTokenEncoder = refreshTokenEncoder;
+        this.properties = tokenRefreshProperties;
+
+        if (properties.getLockTimeoutDuration().compareTo(properties.getWaitTimeoutDuration()) <= 0) {
+            throw new IllegalStateException("token-refresh.lock-timeout must be greater than wait-timeout: lockTimeout="
+                    + properties.getLockTimeoutDuration() + ", waitTimeout=" + properties.getWaitTimeoutDuration());
+        }
+
+        this.coalescedCounter = Counter.builder("token.refresh.coalesced")
+                .description("다른 요청의 갱신 결과를 재사용한 액세스 토큰 갱신 요청 수")
+                .register(meterRegistry);
+        this.lockTimeoutCounter = Counter.builder("token.refresh.lock.timeout")
+                .description("다른 요청의 갱신 결과를 기다리다 시간이 초과된 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 리프레시 토큰으로 액세스 토큰과 리프레시 토큰을 갱신
+     *
+     * @throws ConcurrencyFailureException 다른 요청의 갱신 결과를 제한 시간 내에 받지 못했거나,
+     *                                     잠금 없이 동시에 회전되어 충돌한 경우
+     */
+    public RefreshAccessTokenDto refreshAccessToken(String refreshToken, UserAgent userAgent, String ip) {
+        String key = refreshTokenEncoder.encode(refreshToken);
+        String owner = UUID.randomUUID().toString();
+
+        boolean locked;
+        try {
+            RefreshAccessTokenDto result = tokenRefreshRedisRepository.findResult(key);
+            if (result != null) {
+                coalescedCounter.increment();
+                return result;
+            }
+
+            locked = tokenRefreshRedisRepository.tryLock(key, owner, properties.getLockTimeoutDuration());
+        } catch (DataAccessException e) {
+            log.warn("토큰 갱신 잠금 사용 불가, 잠금 없이 갱신: {}", e.getMessage());
+
+            return tokenAppService.refreshAccessToken(refreshToken, userAgent, ip);
+        }
+
+        if (!locked) {
+            RefreshAccessTokenDto result = awaitResult(key);
+
+            // 먼저 갱신한 요청이 실패한 경우, 같은 검증을 거치도록 직접 회전
+            return result != null ? result : tokenAppService.refreshAccessToken(refreshToken, userAgent, ip);
+        }
+
+        try {
+            RefreshAccessTokenDto result = tokenAppService.refreshAccessToken(refreshToken, userAgent, ip);
+            saveResult(key, result);
+
+            return result;
+        } finally {
+            unlock(key, owner);
+        }
+    }
+
+    /**
+     * 잠금을 획득한 요청의 갱신 결과를 기다림
+     *
+     * @return 갱신 결과, 잠금이 결과 없이 해제되었거나 Redis를 사용할 수 없는 경우 null
+     * @throws ConcurrencyFailureException 제한 시간 내에 결과가 저장되지 않은 경우
+     */
+    private RefreshAccessTokenDto awaitResult(String key) {
+        long deadline = System.nanoTime() + properties.getWaitTimeoutDuration().toNanos();
+        long pollIntervalMillis = properties.getPollIntervalDuration().toMillis();
+
+        while (System.nanoTime() - deadline < 0) {
+            try {
+                Thread.sleep(pollIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ConcurrencyFailureException("Interrupted while waiting for token refresh.", e);
+            }
+
+            try {
+                boolean locked = tokenRefreshRedisRepository.isLocked(key);
+
+                // 잠금이 해제된 경우에도 해제 직전에 저장된 결과가 있을 수 있으므로, 잠금 확인 후 결과를 조회
+                RefreshAccessTokenDto result = tokenRefreshRedisRepository.findResult(key);
+                if (result != null) {
+                    coalescedCounter.increment();
+                    return result;
+                }
+
+                if (!locked) {
+                    return null;
+                }
+            } catch (DataAccessException e) {
+                log.warn("토큰 갱신 결과 조회 실패: {}", e.getMessage());
+                return null;
+            }
+        }
+
+        lockTimeoutCounter.increment();
+        throw new ConcurrencyFailureException("Token refresh is already in progress.");
+    }
+
+    private void saveResult(String key, RefreshAccessTokenDto result) {
+        try {
+            tokenRefreshRedisRepository.saveResult(key, result, properties.getIdempotencyWindowDuration());
+        } catch (DataAccessException e) {
+            log.warn("토큰 갱신 결과 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void unlock(String key, String owner) {
+        try {
+            tokenRefreshRedisRepository.unlock(key, owner);
+        } catch (DataAccessException e) {
+            log.warn("토큰 갱신 잠금 해제 실패, 잠금 유지 시간 이후 해제됨: {}", e.getMessage());
+        }
+    }
+}
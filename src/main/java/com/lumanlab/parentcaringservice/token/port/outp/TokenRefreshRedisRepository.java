@@ -0,0 +1,106 @@
+package com.lumanlab.parentcaringservice.token.port.outp;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.lumanlab.parentcaringservice.token.application.service.dto.RefreshAccessTokenDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 리프레시 토큰 갱신 잠금과 갱신 결과를 Redis에 저장하는 저장소
+ * <p>
+ * 키는 이전 리프레시 토큰의 해시를 사용하므로, 이전 토큰을 가진 요청만 갱신 결과를 조회할 수 있음
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TokenRefreshRedisRepository {
+
+    private static final String LOCK_PREFIX = "token:refresh:lock:";
+    private static final String RESULT_PREFIX = "token:refresh:result:";
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    // 잠금을 획득한 요청만 잠금을 해제할 수 있도록, 값이 같은 경우에만 삭제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> stringLiteralRedisTemplate;
+
+    /**
+     * 갱신 잠금을 획득 (SET NX)
+     *
+     * @param key   이전 리프레시 토큰의 해시
+     * @param owner 잠금을 획득하는 요청의 식별 값
+     * @param ttl   잠금 유지 시간
+     * @return 잠금을 획득한 경우 true
+     */
+    public boolean tryLock(String key, String owner, Duration ttl) {
+        return Boolean.TRUE.equals(stringLiteralRedisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + key, owner, ttl));
+    }
+
+    /**
+     * 갱신 잠금 존재 여부를 확인
+     *
+     * @param key 이전 리프레시 토큰의 해시
+     * @return 다른 요청이 갱신 중인 경우 true
+     */
+    public boolean isLocked(String key) {
+        return Boolean.TRUE.equals(stringLiteralRedisTemplate.hasKey(LOCK_PREFIX + key));
+    }
+
+    /**
+     * 갱신 잠금을 해제, 다른 요청이 획득한 잠금은 해제하지 않음
+     *
+     * @param key   이전 리프레시 토큰의 해시
+     * @param owner 잠금을 획득한 요청의 식별 값
+     */
+    public void unlock(String key, String owner) {
+        stringLiteralRedisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_PREFIX + key), owner);
+    }
+
+    /**
+     * 갱신 결과를 저장
+     *
+     * @param key    이전 리프레시 토큰의 해시
+     * @param result 갱신 결과
+     * @param ttl    결과 유지 시간
+     */
+    public void saveResult(String key, RefreshAccessTokenDto result, Duration ttl) {
+        try {
+            stringLiteralRedisTemplate.opsForValue()
+                    .set(RESULT_PREFIX + key, OBJECT_MAPPER.writeValueAsString(result), ttl);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize token refresh result", e);
+        }
+    }
+
+    /**
+     * 갱신 결과를 조회
+     *
+     * @param key 이전 리프레시 토큰의 해시
+     * @return 갱신 결과, 데이터가 존재하지 않을 경우 null을 반환함
+     */
+    public RefreshAccessTokenDto findResult(String key) {
+        String value = stringLiteralRedisTemplate.opsForValue().get(RESULT_PREFIX + key);
+
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return OBJECT_MAPPER.readValue(value, RefreshAccessTokenDto.class);
+        } catch (JsonProcessingException e) {
+            log.warn("잘못된 형식의 토큰 갱신 결과: {}", e.getMessage());
+            return null;
+        }
+    }
+}
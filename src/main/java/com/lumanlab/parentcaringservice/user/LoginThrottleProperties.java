@@ -0,0 +1,23 @@
+package com.lumanlab.parentcaringservice.user;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "login-throttle")
+public class LoginThrottleProperties {
+
+    private boolean enabled = true; // false인 경우 로그인 시도 횟수를 제한하지 않음
+    private long window = 60; // 시도 횟수를 세는 구간 (초 단위)
+    private int maxAttemptsPerEmail = 10; // 구간 내 이메일별 최대 로그인 시도 횟수
+    private int maxAttemptsPerIp = 100; // 구간 내 IP별 최대 로그인 시도 횟수
+    private long localCacheSize = 10_000; // 차단된 키를 기억하는 로컬 캐시 최대 개수
+
+    public Duration getWindowDuration() {
+        return Duration.ofSeconds(window);
+    }
+}
@@ -0,0 +1,41 @@
+package com.lumanlab.parentcaringservice.user;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "user-state")
+public class UserStateProperties {
+
+    private Cache cache = new Cache();
+    private Invalidation invalidation = new Invalidation();
+
+    @Data
+    public static class Cache {
+        private long maximumSize = 10_000; // 로컬 캐시 최대 개수
+        private long localTtl = 60; // 로컬 캐시 유지 시간, 무효화 메시지를 받지 못한 경우 오래된 상태가 유지되는 최대 시간 (초 단위)
+        private long redisTtl = 300; // Redis 캐시 유지 시간, 무효화에 실패한 경우 오래된 상태가 유지되는 최대 시간 (초 단위)
+
+        public Duration getLocalTtlDuration() {
+            return Duration.ofSeconds(localTtl);
+        }
+
+        public Duration getRedisTtlDuration() {
+            return Duration.ofSeconds(redisTtl);
+        }
+    }
+
+    @Data
+    public static class Invalidation {
+        private int maxAttempts = 3; // 무효화 최대 시도 횟수
+        private long retryBackoff = 100; // 무효화 재시도 간격 (밀리초 단위)
+
+        public Duration getRetryBackoffDuration() {
+            return Duration.ofMillis(retryBackoff);
+        }
+    }
+}
@@ -8,7 +8,6 @@ import com.lumanlab.parentcaringservice.user.adapter.in.web.view.res.*;
 import com.lumanlab.parentcaringservice.user.application.service.UserAppService;
 import com.lumanlab.parentcaringservice.user.application.service.dto.UserLoginDto;
 import com.lumanlab.parentcaringservice.user.domain.UserAgent;
-import com.lumanlab.parentcaringservice.user.port.inp.QueryUser;
 import com.lumanlab.parentcaringservice.user.port.inp.UpdateUser;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -20,7 +19,6 @@ import org.springframework.web.bind.annotation.*;
 public class UserApi {
 
     private final UserContext userContext;
-    private final QueryUser queryUser;
     private final UpdateUser updateUser;
     private final UserAppService userAppService;
 
@@ -28,7 +26,7 @@ public class UserApi {
     public GetUserProfileViewRes getUserProfile() {
         Long userId = userContext.getCurrentUserIdOrThrow();
 
-        return new GetUserProfileViewRes(queryUser.findById(userId));
+        return new GetUserProfileViewRes(userAppService.getUserProfile(userId));
     }
 
     @PostMapping("/register")
@@ -1,6 +1,6 @@
 package com.lumanlab.parentcaringservice.user.adapter.in.web.view.res;
 
-import com.lumanlab.parentcaringservice.user.domain.User;
+import com.lumanlab.parentcaringservice.user.application.service.dto.UserProfileDto;
 import com.lumanlab.parentcaringservice.user.domain.UserRole;
 import com.lumanlab.parentcaringservice.user.domain.UserStatus;
 
@@ -8,8 +8,7 @@ import java.util.List;
 
 public record GetUserProfileViewRes(Long userId, String email, UserStatus status, List<UserRole> roles,
                                     Boolean mfaEnabled) {
-    public GetUserProfileViewRes(User user) {
-        this(user.getId(), user.getEmail(), user.getStatus(), user.getRoles().stream().toList(),
-                user.getMfaEnabled());
+    public GetUserProfileViewRes(UserProfileDto dto) {
+        this(dto.userId(), dto.email(), dto.status(), dto.roles(), dto.mfaEnabled());
     }
 }
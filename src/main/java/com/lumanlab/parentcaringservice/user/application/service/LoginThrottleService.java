@@ -0,0 +1,160 @@
+package com.lumanlab.parentcaringservice.user.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lumanlab.parentcaringservice.exception.LoginAttemptThrottledException;
+import com.lumanlab.parentcaringservice.user.LoginThrottleProperties;
+import com.lumanlab.parentcaringservice.user.port.outp.LoginAttemptRedisRepository;
+import com.lumanlab.parentcaringservice.user.port.outp.LoginAttemptRedisRepository.AcquireResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 로그인 시도 횟수 제한
+ * <p>
+ * 이메일별, IP별 로그인 시도 횟수를 Redis 슬라이딩 윈도우로 제한하여,
+ * 무차별 대입 요청이 사용자 조회와 비밀번호 검증(bcrypt)까지 도달하지 않도록 함
+ * 차단된 키는 다시 시도할 수 있는 시간까지 로컬 캐시에 기억하여, 차단 중인 요청은 Redis 조회 없이 거절함
+ * Redis를 사용할 수 없는 경우 로컬 캐시로만 확인하고 요청을 허용함
+ */
+@Slf4j
+@Service
+public class LoginThrottleService {
+
+    private static final String EMAIL = "email";
+    private static final String IP = "ip";
+
+    private final LoginAttemptRedisRepository loginAttemptRedisRepository;
+    private final LoginThrottleProperties properties;
+    private final MeterRegistry meterRegistry;
+    // 차단된 키 -> 다시 시도할 수 있는 시간 (epoch 밀리초)
+    private final Cache<String, Long> blockedKeys;
+
+    public LoginThrottleService(LoginAttemptRedisRepository loginAttemptRedisRepository,
+                                LoginThrottleProperties loginThrottleProperties, MeterRegistry meterRegistry) {
+        this.loginAttemptRedisRepository = loginAttemptRedisRepository;
+        this.properties = loginThrottleProperties;
+        this.meterRegistry = meterRegistry;
+        // 차단 시간은 구간보다 길 수 없으므로 구간이 지나면 제거
+        this.blockedKeys = Caffeine.newBuilder()
+                .maximumSize(loginThrottleProperties.getLocalCacheSize())
+                .expireAfterWrite(loginThrottleProperties.getWindowDuration())
+                .build();
+    }
+
+    /**
+     * 로그인 시도 횟수를 확인하고, 제한 이내인 경우 시도를 기록
+     *
+     * @param email 로그인 요청 이메일
+     * @param ip    로그인 요청 IP
+     * @throws LoginAttemptThrottledException 이메일 또는 IP의 로그인 시도 횟수가 제한을 초과한 경우
+     */
+    public void checkAttempt(String email, String ip) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        String emailKey = emailKey(email);
+        String ipKey = IP + ":" + ip;
+
+        // 이미 차단된 키는 Redis를 조회하지 않고 거절
+        rejectIfBlocked(emailKey, EMAIL);
+        rejectIfBlocked(ipKey, IP);
+
+        AcquireResult result;
+        try {
+            result = loginAttemptRedisRepository.tryAcquire(List.of(emailKey, ipKey),
+                    List.of(properties.getMaxAttemptsPerEmail(), properties.getMaxAttemptsPerIp()),
+                    properties.getWindowDuration());
+        } catch (DataAccessException e) {
+            log.warn("Redis에서 로그인 시도 횟수 확인 실패, 제한 없이 허용", e);
+            return;
+        }
+
+        if (result.allowed()) {
+            return;
+        }
+
+        String key = result.rejectedIndex() == 0 ? emailKey : ipKey;
+        String type = result.rejectedIndex() == 0 ? EMAIL : IP;
+
+        blockedKeys.put(key, System.currentTimeMillis() + result.retryAfter().toMillis());
+        throw reject(type, "redis", result.retryAfter());
+    }
+
+    /**
+     * 로그인에 성공한 이메일의 시도 기록을 삭제
+     * IP는 여러 사용자가 공유할 수 있으므로 삭제하지 않음
+     *
+     * @param email 로그인에 성공한 이메일
+     */
+    public void reset(String email) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        String emailKey = emailKey(email);
+        blockedKeys.invalidate(emailKey);
+
+        try {
+            loginAttemptRedisRepository.delete(emailKey);
+        } catch (DataAccessException e) {
+            log.warn("Redis에서 로그인 시도 기록 삭제 실패", e);
+        }
+    }
+
+    private void rejectIfBlocked(String key, String type) {
+        Long blockedUntil = blockedKeys.getIfPresent(key);
+        if (blockedUntil == null) {
+            return;
+        }
+
+        long remaining = blockedUntil - System.currentTimeMillis();
+        if (remaining <= 0) {
+            blockedKeys.invalidate(key);
+            return;
+        }
+
+        throw reject(type, "local", Duration.ofMillis(remaining));
+    }
+
+    private LoginAttemptThrottledException reject(String type, String source, Duration retryAfter) {
+        Counter.builder("login.throttle.rejected")
+                .description("시도 횟수 제한으로 거절된 로그인 요청 개수")
+                .tag("key", type)
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment();
+
+        // Retry-After는 초 단위이므로 올림 처리
+        long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+
+        return new LoginAttemptThrottledException("로그인 시도 횟수를 초과했습니다. 잠시 후 다시 시도해 주세요.",
+                Duration.ofSeconds(seconds));
+    }
+
+    /**
+     * Redis 키에 이메일 원문이 남지 않도록 정규화한 이메일의 SHA-256 해시를 사용
+     */
+    private String emailKey(String email) {
+        String normalized = email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return EMAIL + ":" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available.", e);
+        }
+    }
+}
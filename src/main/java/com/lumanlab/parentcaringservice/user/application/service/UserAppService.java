@@ -1,7 +1,6 @@
 package com.lumanlab.parentcaringservice.user.application.service;
 
 import com.lumanlab.parentcaringservice.exception.*;
-import com.lumanlab.parentcaringservice.oauth2.domain.OAuth2Link;
 import com.lumanlab.parentcaringservice.oauth2.domain.OAuth2Provider;
 import com.lumanlab.parentcaringservice.oauth2.port.inp.QueryOAuth2Link;
 import com.lumanlab.parentcaringservice.oauth2.port.inp.UpdateOAuth2Link;
@@ -10,33 +9,44 @@ import com.lumanlab.parentcaringservice.oauth2.port.outp.UserProfileResponse;
 import com.lumanlab.parentcaringservice.refreshtoken.application.service.RefreshTokenService;
 import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenDto;
 import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenProvider;
+import com.lumanlab.parentcaringservice.security.domain.RoleAuthorityTable;
 import com.lumanlab.parentcaringservice.security.jwt.application.service.JwtTokenService;
+import com.lumanlab.parentcaringservice.security.password.PasswordHasher;
 import com.lumanlab.parentcaringservice.totp.application.service.NonceService;
 import com.lumanlab.parentcaringservice.totp.application.service.TotpProvider;
 import com.lumanlab.parentcaringservice.totp.application.service.TotpService;
 import com.lumanlab.parentcaringservice.totp.application.service.dto.GenerateTotpDto;
 import com.lumanlab.parentcaringservice.user.application.service.dto.UserLoginDto;
+import com.lumanlab.parentcaringservice.user.application.service.dto.UserProfileDto;
 import com.lumanlab.parentcaringservice.user.domain.User;
+import com.lumanlab.parentcaringservice.user.domain.UserAuthSnapshot;
 import com.lumanlab.parentcaringservice.user.domain.UserAgent;
 import com.lumanlab.parentcaringservice.user.domain.UserRole;
 import com.lumanlab.parentcaringservice.user.port.inp.QueryUser;
 import com.lumanlab.parentcaringservice.user.port.inp.UpdateUser;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * 사용자 인증 유즈케이스
+ * <p>
+ * 클래스 단위로 트랜잭션을 열지 않음. 비밀번호 검증(bcrypt), 토큰 서명, OAuth2 프로필 조회처럼
+ * CPU나 네트워크를 오래 사용하는 작업 동안 DB 커넥션을 점유하지 않도록, DB 작업은 각 포트의 짧은 트랜잭션에서 수행함
+ */
+@Slf4j
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class UserAppService {
 
     private final QueryUser queryUser;
     private final UpdateUser updateUser;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LoginThrottleService loginThrottleService;
     private final JwtTokenService jwtTokenService;
     private final RefreshTokenProvider refreshTokenProvider;
     private final RefreshTokenService refreshTokenService;
@@ -48,7 +58,8 @@ public class UserAppService {
     private final UpdateOAuth2Link updateOAuth2Link;
 
     public void registerUser(String email, String password, UserAgent userAgent) {
-        String encodedPassword = passwordEncoder.encode(password);
+        // 전용 스레드 풀에서 해시하며, 요청이 몰린 경우 PasswordHashRejectedException 발생
+        String encodedPassword = passwordHasher.encode(password);
 
         switch (userAgent) {
             case UserAgent.MOBILE:
@@ -65,30 +76,48 @@ public class UserAppService {
         }
     }
 
+    @Transactional
+    public UserProfileDto getUserProfile(Long userId) {
+        User user = queryUser.findById(userId);
+
+        return new UserProfileDto(user.getId(), user.getEmail(), user.getStatus(), user.getRoles().stream().toList(),
+                user.getMfaEnabled());
+    }
+
     public UserLoginDto loginUser(String email, String password, UserAgent userAgent, String ip) {
-        User user = queryUser.findByEmail(email);
+        // 시도 횟수를 초과한 경우 사용자 조회와 비밀번호 검증 전에 거절
+        loginThrottleService.checkAttempt(email, ip);
+
+        // 짧은 읽기 트랜잭션으로 인증에 필요한 사용자 정보만 조회
+        UserAuthSnapshot user = queryUser.findAuthSnapshotByEmail(email);
 
         // UserAgent와 UserRole이 일치하지 않는 경우 예외처리
-        if (!userAgent.isUserAccessible(user.getRoles())) {
+        if (!userAgent.isUserAccessible(user.roles())) {
             throw new LoginUserRoleNotMatchWithUserAgentException(
                     "USER_ROLE_NOT_MATCH_WITH_USER_AGENT", "User roles is not accessible."
             );
         }
 
-        // 비밀번호 검증
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        // 비밀번호 검증 (전용 스레드 풀에서 수행하며, 요청이 몰린 경우 PasswordHashRejectedException 발생)
+        if (!passwordHasher.matches(password, user.password())) {
             throw new LoginUserAuthorizationFailedException("USER_AUTHORIZATION_FAILED", "Invalid password.");
         }
 
+        // 비밀번호가 일치하면 이메일의 시도 기록 초기화
+        loginThrottleService.reset(email);
+
+        // 이전 형식이거나 강도가 낮은 해시는 현재 설정으로 다시 해시
+        rehashPasswordIfNeeded(user, password);
+
         // MFA 초기화가 필요한 경우 nonce를 생성하여 예외와 함께 반환
         if (user.shouldInitializeMfa()) {
-            String nonce = nonceService.generateNonce(user.getId());
+            String nonce = nonceService.generateNonce(user.id());
             throw new MfaInitializationRequiredException("MFA 초기화가 필요합니다.", nonce);
         }
 
         // MFA 인증이 필요한 경우 nonce를 생성하여 예외와 함께 반환
-        if (user.getMfaEnabled()) {
-            String nonce = nonceService.generateNonce(user.getId());
+        if (user.mfaEnabled()) {
+            String nonce = nonceService.generateNonce(user.id());
             throw new MfaVerificationRequiredException("MFA 인증이 필요합니다.", nonce);
         }
 
@@ -97,31 +126,34 @@ public class UserAppService {
             throw new LoginUserStatusNotActiveException("USER_STATUS_NOT_ACTIVE", "User is not active.");
         }
 
+        Map<String, Object> claims = Map.of(RoleAuthorityTable.ROLE_MASK_CLAIM, user.roleMask());
+
         // 액세스 토큰 발급
-        String accessToken = jwtTokenService.generateAccessToken(user.getId(), Map.of("roles", user.getRolesString()));
+        String accessToken = jwtTokenService.generateAccessToken(user.id(), claims);
 
         // 리프레시 토큰 발급 및 저장 로직
-        RefreshTokenDto refreshTokenDto =
-                refreshTokenProvider.generateRefreshToken(user.getId(), Map.of("roles", user.getRolesString()));
-        refreshTokenService.generate(user.getId(), refreshTokenDto.tokenHash(), ip, userAgent,
-                refreshTokenDto.issuedAt(), refreshTokenDto.expiredAt());
+        RefreshTokenDto refreshTokenDto = refreshTokenProvider.generateRefreshToken(user.id(), claims);
+        refreshTokenService.generate(user.id(), refreshTokenDto.tokenId(), refreshTokenDto.tokenHash(), ip,
+                userAgent, refreshTokenDto.issuedAt(), refreshTokenDto.expiredAt());
 
         return new UserLoginDto(accessToken, refreshTokenDto.token(), refreshTokenDto.expiredAt().toEpochSecond());
     }
 
     public UserLoginDto oAuth2LoginUser(String oAuth2AccessToken, OAuth2Provider provider, UserAgent userAgent,
                                         String ip) {
+        // 외부 프로필 조회는 트랜잭션 밖에서 수행
         var profile = switch (provider) {
             case GOOGLE -> oAuth2GoogleProfileClient.requestProfile(oAuth2AccessToken);
             default -> throw new IllegalArgumentException("Invalid OAuth2 provider.");
         };
 
-        OAuth2Link link = queryOAuth2Link.findByOAuth2IdOrThrow(profile.id());
-        User user = link.getUser();
+        // 연동 정보의 User 프록시는 ID만 사용하므로 초기화되지 않음
+        Long userId = queryOAuth2Link.findByOAuth2IdOrThrow(profile.id()).getUser().getId();
+        UserAuthSnapshot user = queryUser.findAuthSnapshotById(userId);
 
         // MFA 인증이 필요한 경우 nonce를 생성하여 예외와 함께 반환
-        if (user.getMfaEnabled()) {
-            String nonce = nonceService.generateNonce(user.getId());
+        if (user.mfaEnabled()) {
+            String nonce = nonceService.generateNonce(user.id());
             throw new MfaVerificationRequiredException("MFA 인증이 필요합니다.", nonce);
         }
 
@@ -130,18 +162,20 @@ public class UserAppService {
             throw new LoginUserStatusNotActiveException("USER_STATUS_NOT_ACTIVE", "User is not active.");
         }
 
+        Map<String, Object> claims = Map.of(RoleAuthorityTable.ROLE_MASK_CLAIM, user.roleMask());
+
         // 액세스 토큰 발급
-        String accessToken = jwtTokenService.generateAccessToken(user.getId(), Map.of("roles", user.getRolesString()));
+        String accessToken = jwtTokenService.generateAccessToken(user.id(), claims);
 
         // 리프레시 토큰 발급 및 저장 로직
-        RefreshTokenDto refreshTokenDto =
-                refreshTokenProvider.generateRefreshToken(user.getId(), Map.of("roles", user.getRolesString()));
-        refreshTokenService.generate(user.getId(), refreshTokenDto.tokenHash(), ip, userAgent,
-                refreshTokenDto.issuedAt(), refreshTokenDto.expiredAt());
+        RefreshTokenDto refreshTokenDto = refreshTokenProvider.generateRefreshToken(user.id(), claims);
+        refreshTokenService.generate(user.id(), refreshTokenDto.tokenId(), refreshTokenDto.tokenHash(), ip,
+                userAgent, refreshTokenDto.issuedAt(), refreshTokenDto.expiredAt());
 
         return new UserLoginDto(accessToken, refreshTokenDto.token(), refreshTokenDto.expiredAt().toEpochSecond());
     }
 
+    @Transactional
     public GenerateTotpDto updateUserTotp(Long userId) {
         User user = queryUser.findById(userId);
 
@@ -150,44 +184,63 @@ public class UserAppService {
 
     public UserLoginDto verifyUserTotp(String nonce, Integer totpVerificationCode, UserAgent userAgent, String ip) {
         Long userId = nonceService.getUserIdByNonce(nonce);
-        User user = queryUser.findById(userId);
+        UserAuthSnapshot user = queryUser.findAuthSnapshotById(userId);
 
         // User가 MFA 인증이 켜져있지 않으면 예외 발생
-        if (!user.getMfaEnabled()) {
+        if (!user.mfaEnabled()) {
             throw new IllegalArgumentException("MFA is not enabled.");
         }
 
         // 인증 코드 검증이 실패한 경우 예외 발생
-        if (!totpProvider.verifyTotp(user.getTotpSecret(), totpVerificationCode)) {
+        if (!totpProvider.verifyTotp(user.totpSecret(), totpVerificationCode)) {
             throw new MfaVerificationFailedException("Invalid TOTP code.");
         }
 
+        Map<String, Object> claims = Map.of(RoleAuthorityTable.ROLE_MASK_CLAIM, user.roleMask());
+
         // 액세스 토큰 발급
-        String accessToken = jwtTokenService.generateAccessToken(user.getId(), Map.of("roles", user.getRolesString()));
+        String accessToken = jwtTokenService.generateAccessToken(user.id(), claims);
 
         // 리프레시 토큰 발급 및 저장 로직
-        RefreshTokenDto refreshTokenDto =
-                refreshTokenProvider.generateRefreshToken(user.getId(), Map.of("roles", user.getRolesString()));
-        refreshTokenService.generate(user.getId(), refreshTokenDto.tokenHash(), ip, userAgent,
-                refreshTokenDto.issuedAt(), refreshTokenDto.expiredAt());
+        RefreshTokenDto refreshTokenDto = refreshTokenProvider.generateRefreshToken(user.id(), claims);
+        refreshTokenService.generate(user.id(), refreshTokenDto.tokenId(), refreshTokenDto.tokenHash(), ip,
+                userAgent, refreshTokenDto.issuedAt(), refreshTokenDto.expiredAt());
 
         return new UserLoginDto(accessToken, refreshTokenDto.token(), refreshTokenDto.expiredAt().toEpochSecond());
     }
 
     public void linkOAuth2(Long userId, OAuth2Provider provider, String oAuth2AccessToken) {
-        User user = queryUser.findById(userId);
-
+        // 외부 프로필 조회는 트랜잭션 밖에서 수행하며, 사용자 존재 여부는 연동 정보 저장 시 확인
         UserProfileResponse profile = switch (provider) {
             case GOOGLE -> oAuth2GoogleProfileClient.requestProfile(oAuth2AccessToken);
             default -> throw new IllegalArgumentException("Invalid OAuth2 provider.");
         };
 
-        updateOAuth2Link.register(user.getId(), provider, profile.id());
+        updateOAuth2Link.register(userId, provider, profile.id());
     }
 
+    @Transactional
     public void unlinkOAuth2(Long userId, OAuth2Provider provider) {
         User user = queryUser.findById(userId);
 
         updateOAuth2Link.delete(user.getId(), provider);
     }
+
+    /**
+     * 저장된 비밀번호 해시가 이전 형식이거나 현재 강도보다 낮은 경우, 현재 설정으로 다시 해시하여 저장
+     * 해시 작업이 거절된 경우에도 로그인은 계속 진행하며, 다음 로그인 시 다시 시도함
+     */
+    private void rehashPasswordIfNeeded(UserAuthSnapshot user, String password) {
+        if (!passwordHasher.needsRehash(user.password())) {
+            return;
+        }
+
+        try {
+            if (!updateUser.rehashPassword(user.id(), user.password(), passwordHasher.encode(password))) {
+                log.debug("비밀번호가 변경되어 다시 해시한 비밀번호를 저장하지 않음: userId={}", user.id());
+            }
+        } catch (PasswordHashRejectedException e) {
+            log.debug("해시 작업이 거절되어 비밀번호를 다시 해시하지 않음: userId={}", user.id());
+        }
+    }
 }
@@ -1,15 +1,19 @@
 package com.lumanlab.parentcaringservice.user.application.service;
 
 import com.lumanlab.parentcaringservice.user.domain.User;
+import com.lumanlab.parentcaringservice.user.domain.UserAuthSnapshot;
 import com.lumanlab.parentcaringservice.user.domain.UserRole;
+import com.lumanlab.parentcaringservice.user.domain.UserStateChangedEvent;
 import com.lumanlab.parentcaringservice.user.port.inp.QueryUser;
 import com.lumanlab.parentcaringservice.user.port.inp.UpdateUser;
 import com.lumanlab.parentcaringservice.user.port.outp.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
+import java.util.List;
 
 @Service
 @Transactional
@@ -17,6 +21,7 @@ import java.util.Collection;
 public class UserService implements QueryUser, UpdateUser {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public User findById(Long id) {
@@ -28,11 +33,30 @@ public class UserService implements QueryUser, UpdateUser {
         return userRepository.findByEmail(email).orElseThrow();
     }
 
+    @Override
+    public List<User> findAllByIds(Collection<Long> ids) {
+        return userRepository.findAllById(ids);
+    }
+
+    @Override
+    public UserAuthSnapshot findAuthSnapshotById(Long id) {
+        // 역할 목록을 지연 로딩하는 추가 쿼리가 발생하지 않도록 함께 조회
+        return UserAuthSnapshot.from(userRepository.findWithRolesById(id).orElseThrow());
+    }
+
+    @Override
+    public UserAuthSnapshot findAuthSnapshotByEmail(String email) {
+        return UserAuthSnapshot.from(userRepository.findWithRolesByEmail(email).orElseThrow());
+    }
+
     @Override
     public void register(String email, String password, Collection<UserRole> roles) {
         User user = new User(email, password, roles);
 
         userRepository.save(user);
+
+        // 이전에 존재하지 않는 사용자로 캐시된 상태가 있다면 무효화 (인증을 제한하는 변경이 아니므로 실패해도 가입은 진행)
+        eventPublisher.publishEvent(new UserStateChangedEvent(user.getId(), false));
     }
 
     @Override
@@ -40,6 +64,21 @@ public class UserService implements QueryUser, UpdateUser {
         User user = findById(userId);
 
         user.updatePassword(password);
+
+        eventPublisher.publishEvent(new UserStateChangedEvent(userId));
+    }
+
+    /**
+     * 같은 비밀번호를 현재 설정으로 다시 해시한 값으로 교체
+     * <p>
+     * 비밀번호 자체는 바뀌지 않으므로 사용자 상태 변경 이벤트를 발행하지 않으며,
+     * 그 사이에 비밀번호가 변경된 경우 변경된 비밀번호를 덮어쓰지 않음
+     *
+     * @return 교체한 경우 true
+     */
+    @Override
+    public boolean rehashPassword(Long userId, String currentPassword, String rehashedPassword) {
+        return userRepository.updatePasswordIfUnchanged(userId, currentPassword, rehashedPassword) > 0;
     }
 
     @Override
@@ -47,6 +86,8 @@ public class UserService implements QueryUser, UpdateUser {
         User user = findById(userId);
 
         user.withdraw();
+
+        eventPublisher.publishEvent(new UserStateChangedEvent(userId));
     }
 
     @Override
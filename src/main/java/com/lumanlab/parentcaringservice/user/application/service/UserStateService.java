@@ -0,0 +1,198 @@
+package com.lumanlab.parentcaringservice.user.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lumanlab.parentcaringservice.user.UserStateProperties;
+import com.lumanlab.parentcaringservice.user.domain.UserState;
+import com.lumanlab.parentcaringservice.user.domain.UserStateChangedEvent;
+import com.lumanlab.parentcaringservice.user.port.inp.QueryUserState;
+import com.lumanlab.parentcaringservice.user.port.outp.UserRepository;
+import com.lumanlab.parentcaringservice.user.port.outp.UserStateRedisRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 인증 필터에서 사용하는 사용자 상태 캐시
+ * <p>
+ * 로컬 캐시 -> Redis -> DB 순으로 조회하며, 사용자 상태가 변경된 경우
+ * Redis Pub/Sub으로 모든 인스턴스의 로컬 캐시를 무효화함
+ * 무효화할 때마다 사용자별 세대를 증가시켜, 무효화 이전에 DB에서 조회한 상태가 Redis에 다시 저장되지 않도록 함
+ */
+@Slf4j
+@Service
+public class UserStateService implements QueryUserState, MessageListener {
+
+    private static final String CACHE_NAME = "user.state";
+
+    private final UserRepository userRepository;
+    private final UserStateRedisRepository userStateRedisRepository;
+    private final UserStateProperties userStateProperties;
+    private final Cache<Long, UserState> localCache;
+    private final Counter invalidationFailedCounter;
+
+    public UserStateService(UserRepository userRepository, UserStateRedisRepository userStateRedisRepository,
+                            UserStateProperties userStateProperties, MeterRegistry meterRegistry,
+                            RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.userRepository = userRepository;
+        this.userStateRedisRepository = userStateRedisRepository;
+        this.userStateProperties = userStateProperties;
+
+        Cache<Long, UserState> cache = Caffeine.newBuilder()
+                .maximumSize(userStateProperties.getCache().getMaximumSize())
+                .expireAfterWrite(userStateProperties.getCache().getLocalTtlDuration())
+                .recordStats()
+                .build();
+        this.localCache = CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.invalidationFailedCounter = Counter.builder("user.state.invalidation.failed")
+                .description("재시도 후에도 실패한 사용자 상태 무효화 횟수")
+                .register(meterRegistry);
+
+        // 다른 인스턴스에서 발행한 무효화 메시지 구독
+        redisMessageListenerContainer.addMessageListener(this,
+                new ChannelTopic(UserStateRedisRepository.INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public UserState findUserState(Long userId) {
+        return localCache.get(userId, this::loadUserState);
+    }
+
+    /**
+     * 사용자 상태 변경 이벤트를 커밋 직전에 처리하는 메서드
+     * <p>
+     * 커밋 전에 세대를 증가시키고 Redis와 로컬 캐시를 무효화하며, 무효화하지 못한 경우 예외를 던져 상태 변경을 롤백함
+     * (strict가 아닌 이벤트는 경고 로그만 남김)
+     * 트랜잭션이 없는 경우 바로 실행됨
+     *
+     * @param event 사용자 상태 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserStateChanging(UserStateChangedEvent event) {
+        localCache.invalidate(event.userId());
+
+        try {
+            invalidate(event.userId());
+        } catch (DataAccessException e) {
+            invalidationFailedCounter.increment();
+
+            if (event.strict()) {
+                throw e;
+            }
+            log.warn("사용자 상태 무효화 실패: userId={}", event.userId(), e);
+        }
+    }
+
+    /**
+     * 사용자 상태 변경 이벤트를 커밋 이후에 처리하는 메서드
+     * <p>
+     * 커밋 직전 무효화와 커밋 사이에 다른 인스턴스가 변경 전 상태를 다시 캐시했을 수 있으므로, 세대를 한 번 더 증가시키고 무효화함
+     * 실패한 경우 변경 전 상태는 캐시 유지 시간(redis-ttl, local-ttl)이 지나면 만료됨
+     *
+     * @param event 사용자 상태 변경 이벤트
+     */
+    @TransactionalEventListener
+    public void onUserStateChanged(UserStateChangedEvent event) {
+        localCache.invalidate(event.userId());
+
+        try {
+            invalidate(event.userId());
+        } catch (DataAccessException e) {
+            invalidationFailedCounter.increment();
+            log.warn("커밋 이후 사용자 상태 무효화 실패: userId={}", event.userId(), e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 발행한 무효화 메시지를 수신하여 로컬 캐시를 무효화
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            localCache.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 사용자 상태 무효화 메시지: {}", body);
+        }
+    }
+
+    /**
+     * Redis에서 사용자 상태를 조회하고, 없는 경우 DB에서 조회 후 Redis에 저장
+     * <p>
+     * DB를 조회하는 동안 무효화된 경우(세대가 바뀐 경우) 조회한 상태는 오래된 값일 수 있으므로 Redis에 저장하지 않음
+     * Redis를 사용할 수 없는 경우 DB 조회 결과만 사용
+     */
+    private UserState loadUserState(Long userId) {
+        UserStateRedisRepository.Lookup lookup;
+
+        try {
+            lookup = userStateRedisRepository.find(userId);
+            if (lookup.state() != null) {
+                return lookup.state();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Redis에서 사용자 상태 조회 실패: userId={}", userId, e);
+            return findUserStateFromDb(userId);
+        }
+
+        UserState state = findUserStateFromDb(userId);
+
+        try {
+            Duration ttl = userStateProperties.getCache().getRedisTtlDuration();
+            if (!userStateRedisRepository.saveIfGeneration(state, ttl, lookup.generation())) {
+                log.debug("조회 중 무효화되어 사용자 상태를 Redis에 저장하지 않음: userId={}", userId);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Redis에 사용자 상태 저장 실패: userId={}", userId, e);
+        }
+
+        return state;
+    }
+
+    private UserState findUserStateFromDb(Long userId) {
+        return userRepository.findUserStateById(userId)
+                .orElseGet(() -> UserState.notFound(userId));
+    }
+
+    /**
+     * 세대를 증가시키고 Redis의 상태를 삭제한 후 무효화 메시지를 발행, 실패한 경우 설정된 횟수만큼 재시도
+     *
+     * @throws DataAccessException 모든 시도가 실패한 경우 마지막 예외
+     */
+    private void invalidate(Long userId) {
+        UserStateProperties.Invalidation properties = userStateProperties.getInvalidation();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                userStateRedisRepository.invalidateAndPublish(userId,
+                        userStateProperties.getCache().getRedisTtlDuration());
+                return;
+            } catch (DataAccessException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    throw e;
+                }
+
+                log.debug("사용자 상태 무효화 재시도: userId={}, attempt={}", userId, attempt);
+                try {
+                    Thread.sleep(properties.getRetryBackoffDuration());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+}
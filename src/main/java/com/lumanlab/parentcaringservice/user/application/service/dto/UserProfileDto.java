@@ -0,0 +1,9 @@
+package com.lumanlab.parentcaringservice.user.application.service.dto;
+
+import com.lumanlab.parentcaringservice.user.domain.UserRole;
+import com.lumanlab.parentcaringservice.user.domain.UserStatus;
+
+import java.util.List;
+
+public record UserProfileDto(Long userId, String email, UserStatus status, List<UserRole> roles, Boolean mfaEnabled) {
+}
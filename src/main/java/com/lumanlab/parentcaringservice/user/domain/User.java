@@ -28,7 +28,8 @@ public class User {
 
     /** ID **/
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     /** 사용자 이메일 (변경 불가) **/
@@ -65,6 +66,9 @@ public class User {
     @ColumnDefault("false")
     private Boolean mfaEnabled = false;
 
+    /** 이 시간 이전에 발급된 토큰은 유효하지 않음 (전체 세션 로그아웃) **/
+    private OffsetDateTime tokensInvalidBefore;
+
     /** 생성일 **/
     @CreatedDate
     private OffsetDateTime createdAt = OffsetDateTime.now();
@@ -134,6 +138,15 @@ public class User {
         this.status = UserStatus.WITHDRAWN;
     }
 
+    /**
+     * 주어진 시간 이전에 발급된 사용자의 모든 토큰을 무효화
+     *
+     * @param invalidBefore 무효화 기준 시간
+     */
+    public void invalidateTokens(OffsetDateTime invalidBefore) {
+        this.tokensInvalidBefore = invalidBefore;
+    }
+
     /**
      * 사용자의 TOTP 비밀키를 업데이트
      *
@@ -240,6 +253,15 @@ public class User {
                 .collect(Collectors.joining(", ", "[", "]"));
     }
 
+    /**
+     * 사용자의 역할(Role)을 비트마스크 형태로 반환하는 메서드
+     *
+     * @return 각 역할의 비트를 합친 값, 역할이 없으면 0
+     */
+    public int getRoleMask() {
+        return UserRole.toMask(roles);
+    }
+
     public UserRole getHighestRole() {
         return roles.stream()
                 .max(UserRole::compareTo)
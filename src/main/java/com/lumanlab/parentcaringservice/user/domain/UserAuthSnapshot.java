@@ -0,0 +1,36 @@
+package com.lumanlab.parentcaringservice.user.domain;
+
+import java.util.Set;
+
+/**
+ * 토큰 발급 과정에서 사용하는 사용자 인증 정보
+ * <p>
+ * 짧은 읽기 트랜잭션 안에서 필요한 값을 모두 읽어 만들며,
+ * 트랜잭션 밖에서 비밀번호 검증, 서명, 외부 호출을 하는 동안 지연 로딩이 발생하지 않도록 함
+ *
+ * @param id                  사용자 ID
+ * @param password            인코딩된 비밀번호
+ * @param status              사용자 상태
+ * @param roles               사용자 역할 목록
+ * @param roleMask            사용자 역할 비트마스크
+ * @param mfaEnabled          다단계 인증 여부
+ * @param shouldInitializeMfa 다단계 인증 초기화가 필요한지 여부
+ * @param totpSecret          TOTP 비밀키
+ */
+public record UserAuthSnapshot(Long id, String password, UserStatus status, Set<UserRole> roles, int roleMask,
+                               boolean mfaEnabled, boolean shouldInitializeMfa, String totpSecret) {
+
+    /**
+     * 사용자 엔티티로 인증 정보를 생성
+     * <p>
+     * 역할 목록을 초기화하므로 트랜잭션 안에서 호출해야 함
+     */
+    public static UserAuthSnapshot from(User user) {
+        return new UserAuthSnapshot(user.getId(), user.getPassword(), user.getStatus(), Set.copyOf(user.getRoles()),
+                user.getRoleMask(), user.getMfaEnabled(), user.shouldInitializeMfa(), user.getTotpSecret());
+    }
+
+    public boolean isActive() {
+        return status == UserStatus.ACTIVE;
+    }
+}
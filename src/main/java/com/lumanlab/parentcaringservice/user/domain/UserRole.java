@@ -1,24 +1,49 @@
 package com.lumanlab.parentcaringservice.user.domain;
 
+import java.util.Collection;
 import java.util.Comparator;
 
 /** 유저 역할 **/
 public enum UserRole {
-    PARENT(1), // 보호자
-    ADMIN(2), // 파트너 어드민
-    MASTER(3); // 루먼랩 어드민
+    PARENT(1, 1), // 보호자
+    ADMIN(2, 1 << 1), // 파트너 어드민
+    MASTER(3, 1 << 2); // 루먼랩 어드민
 
     public static final Comparator<UserRole> RANK_COMPARATOR = Comparator.comparingInt(UserRole::getRank);
     private final int rank;
+    private final int mask; // JWT roleMask 클레임에 사용하는 비트 (발급된 토큰과의 호환을 위해 변경 금지)
 
-    UserRole(int rank) {
+    UserRole(int rank, int mask) {
         this.rank = rank;
+        this.mask = mask;
     }
 
     public int getRank() {
         return this.rank;
     }
 
+    public int getMask() {
+        return this.mask;
+    }
+
+    /**
+     * 역할 목록을 비트마스크로 변환
+     *
+     * @param roles 변환할 역할 목록
+     * @return 각 역할의 비트를 합친 값, 역할이 없으면 0
+     */
+    public static int toMask(Collection<UserRole> roles) {
+        int mask = 0;
+
+        if (roles != null) {
+            for (UserRole role : roles) {
+                mask |= role.mask;
+            }
+        }
+
+        return mask;
+    }
+
     /**
      * 사용자가 슈퍼 유저(Super User)인지 여부를 확인
      * ADMIN 또는 MASTER 역할일 경우 true를 반환
@@ -0,0 +1,60 @@
+package com.lumanlab.parentcaringservice.user.domain;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+/**
+ * 인증 필터에서 사용하는 사용자 상태 정보
+ *
+ * @param userId              사용자 ID
+ * @param exists              사용자 존재 여부
+ * @param status              사용자 상태, 존재하지 않는 사용자인 경우 null
+ * @param tokensInvalidBefore 이 시간 이전에 발급된 토큰은 유효하지 않음, 전체 세션 로그아웃을 하지 않은 경우 null
+ */
+public record UserState(Long userId, boolean exists, UserStatus status, Instant tokensInvalidBefore) {
+
+    /**
+     * JPQL 생성자 표현식용 생성자
+     */
+    public UserState(Long userId, UserStatus status, OffsetDateTime tokensInvalidBefore) {
+        this(userId, true, status, tokensInvalidBefore == null ? null : tokensInvalidBefore.toInstant());
+    }
+
+    public static UserState of(Long userId, UserStatus status) {
+        return new UserState(userId, true, status, null);
+    }
+
+    public static UserState of(Long userId, UserStatus status, Instant tokensInvalidBefore) {
+        return new UserState(userId, true, status, tokensInvalidBefore);
+    }
+
+    public static UserState notFound(Long userId) {
+        return new UserState(userId, false, null, null);
+    }
+
+    /**
+     * 인증을 허용할 수 있는 사용자인지 확인
+     *
+     * @return 사용자가 존재하고, 탈퇴 상태(WITHDRAWN)가 아니라면 true
+     */
+    public boolean isAuthenticatable() {
+        return exists && status != UserStatus.WITHDRAWN;
+    }
+
+    /**
+     * 주어진 시간에 발급된 토큰이 전체 세션 로그아웃으로 무효화되었는지 확인
+     * <p>
+     * AccessToken의 발급 시간(iat)은 초 단위이므로, 로그아웃과 같은 초에 새로 발급된 AccessToken도 무효화되며
+     * 이 경우 클라이언트는 리프레시 토큰(발급 시간을 초 단위 이하까지 비교)으로 AccessToken을 다시 발급받음
+     *
+     * @param issuedAt 토큰 발급 시간, 없는 경우 무효화 기준 시간이 있다면 무효화된 것으로 판단
+     * @return 토큰이 무효화 기준 시간 이전에 발급된 경우 true
+     */
+    public boolean isTokenInvalidated(Instant issuedAt) {
+        if (tokensInvalidBefore == null) {
+            return false;
+        }
+
+        return issuedAt == null || issuedAt.isBefore(tokensInvalidBefore);
+    }
+}
@@ -0,0 +1,15 @@
+package com.lumanlab.parentcaringservice.user.domain;
+
+/**
+ * 사용자 상태(탈퇴, 비밀번호, 역할 등)가 변경되었음을 알리는 이벤트
+ *
+ * @param userId 상태가 변경된 사용자 ID
+ * @param strict true인 경우 캐시를 무효화하지 못하면 상태 변경을 실패 처리
+ *               (탈퇴, 전체 세션 로그아웃처럼 인증을 제한하는 변경이 다른 인스턴스에 반영되지 않는 것을 막음)
+ */
+public record UserStateChangedEvent(Long userId, boolean strict) {
+
+    public UserStateChangedEvent(Long userId) {
+        this(userId, true);
+    }
+}
@@ -1,8 +1,15 @@
 package com.lumanlab.parentcaringservice.user.port.inp;
 
 import com.lumanlab.parentcaringservice.user.domain.User;
+import com.lumanlab.parentcaringservice.user.domain.UserAuthSnapshot;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface QueryUser {
     User findById(Long id);
     User findByEmail(String email);
+    List<User> findAllByIds(Collection<Long> ids);
+    UserAuthSnapshot findAuthSnapshotById(Long id);
+    UserAuthSnapshot findAuthSnapshotByEmail(String email);
 }
@@ -0,0 +1,7 @@
+package com.lumanlab.parentcaringservice.user.port.inp;
+
+import com.lumanlab.parentcaringservice.user.domain.UserState;
+
+public interface QueryUserState {
+    UserState findUserState(Long userId);
+}
@@ -9,6 +9,8 @@ public interface UpdateUser {
 
     void updatePassword(Long userId, String password);
 
+    boolean rehashPassword(Long userId, String currentPassword, String rehashedPassword);
+
     void withdraw(Long userId);
 
     void updateTotp(Long userId, String totpSecret);
@@ -0,0 +1,93 @@
+package com.lumanlab.parentcaringservice.user.port.outp;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 로그인 시도 기록을 Redis에 저장하는 저장소
+ * <p>
+ * 키별로 시도 시간을 Sorted Set에 기록하는 슬라이딩 윈도우 방식이며,
+ * 여러 키의 확인과 기록을 하나의 Lua 스크립트로 처리하여 여러 인스턴스에서도 원자적으로 동작함
+ * 인스턴스 간 시간 차이가 없도록 시간은 Redis 서버 시간을 사용함
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoginAttemptRedisRepository {
+
+    private static final String LOGIN_ATTEMPT_PREFIX = "login:attempt:";
+
+    // KEYS: 제한할 키 목록, ARGV: 구간(밀리초), 키별 최대 시도 횟수..., 시도 식별 값
+    // 하나라도 제한을 초과한 경우 기록하지 않고 {초과한 키의 순서, 다시 시도할 수 있기까지 남은 시간(밀리초)}를 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local window = tonumber(ARGV[1])
+            for i = 1, #KEYS do
+                redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', now - window)
+                if redis.call('ZCARD', KEYS[i]) >= tonumber(ARGV[i + 1]) then
+                    local oldest = redis.call('ZRANGE', KEYS[i], 0, 0, 'WITHSCORES')
+                    return {i, tonumber(oldest[2]) + window - now}
+                end
+            end
+            for i = 1, #KEYS do
+                redis.call('ZADD', KEYS[i], now, ARGV[#KEYS + 2])
+                redis.call('PEXPIRE', KEYS[i], window)
+            end
+            return {0, 0}
+            """, List.class);
+
+    private final RedisTemplate<String, String> stringLiteralRedisTemplate;
+
+    /**
+     * 모든 키가 제한 이내인 경우에만 로그인 시도를 기록
+     *
+     * @param keys   제한할 키 목록
+     * @param limits 키별 구간 내 최대 시도 횟수
+     * @param window 시도 횟수를 세는 구간
+     * @return 시도 결과
+     */
+    public AcquireResult tryAcquire(List<String> keys, List<Integer> limits, Duration window) {
+        List<String> redisKeys = keys.stream().map(key -> LOGIN_ATTEMPT_PREFIX + key).toList();
+
+        List<String> args = new ArrayList<>(limits.size() + 2);
+        args.add(String.valueOf(window.toMillis()));
+        limits.forEach(limit -> args.add(String.valueOf(limit)));
+        args.add(UUID.randomUUID().toString());
+
+        List<?> result = stringLiteralRedisTemplate.execute(ACQUIRE_SCRIPT, redisKeys, args.toArray());
+        int rejected = ((Number) result.get(0)).intValue();
+
+        return new AcquireResult(rejected - 1, Duration.ofMillis(((Number) result.get(1)).longValue()));
+    }
+
+    /**
+     * 키의 로그인 시도 기록을 삭제
+     *
+     * @param key 삭제할 키
+     */
+    public void delete(String key) {
+        stringLiteralRedisTemplate.delete(LOGIN_ATTEMPT_PREFIX + key);
+    }
+
+    /**
+     * 로그인 시도 결과
+     *
+     * @param rejectedIndex 제한을 초과한 키의 순서, 제한 이내인 경우 -1
+     * @param retryAfter    다시 시도할 수 있기까지 남은 시간
+     */
+    public record AcquireResult(int rejectedIndex, Duration retryAfter) {
+
+        public boolean allowed() {
+            return rejectedIndex < 0;
+        }
+    }
+}
@@ -1,11 +1,43 @@
 package com.lumanlab.parentcaringservice.user.port.outp;
 
 import com.lumanlab.parentcaringservice.user.domain.User;
+import com.lumanlab.parentcaringservice.user.domain.UserState;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
+
+    /**
+     * 사용자와 역할 목록을 하나의 쿼리로 조회 (토큰 발급용)
+     */
+    @EntityGraph(attributePaths = "roles")
+    Optional<User> findWithRolesById(Long id);
+
+    /**
+     * 사용자와 역할 목록을 하나의 쿼리로 조회 (토큰 발급용)
+     */
+    @EntityGraph(attributePaths = "roles")
+    Optional<User> findWithRolesByEmail(String email);
+
+    /**
+     * 사용자 상태와 토큰 무효화 기준 시간만 조회 (인증 필터용)
+     */
+    @Query("SELECT new com.lumanlab.parentcaringservice.user.domain.UserState(" +
+            "u.id, u.status, u.tokensInvalidBefore) FROM users u WHERE u.id = :id")
+    Optional<UserState> findUserStateById(Long id);
+
+    /**
+     * 비밀번호가 조회한 이후 변경되지 않은 경우에만 비밀번호를 변경
+     *
+     * @return 변경된 행 개수, 그 사이에 비밀번호가 변경된 경우 0
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE users u SET u.password = :newPassword WHERE u.id = :id AND u.password = :currentPassword")
+    int updatePasswordIfUnchanged(Long id, String currentPassword, String newPassword);
 }
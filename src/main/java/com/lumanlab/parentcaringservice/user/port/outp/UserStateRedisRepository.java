@@ -0,0 +1,138 @@
+package com.lumanlab.parentcaringservice.user.port.outp;
+
+import com.lumanlab.parentcaringservice.user.domain.UserState;
+import com.lumanlab.parentcaringservice.user.domain.UserStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class UserStateRedisRepository {
+
+    public static final String INVALIDATION_CHANNEL = "user:state:invalidate";
+
+    // 토큰 무효화 기준 시간을 포함하는 형식은 새 키에 저장하여, 배포 중 함께 실행되는 이전 버전이 새 형식의 값을 읽지 않도록 함
+    private static final String USER_STATE_PREFIX = "user:state:v2:";
+    // 이전 버전이 "상태" 형식으로 저장하는 키, 무효화 시 이전 버전의 캐시도 함께 삭제
+    private static final String LEGACY_USER_STATE_PREFIX = "user:state:";
+    // 무효화할 때마다 증가하는 사용자별 세대, 무효화 이전에 조회한 상태가 다시 저장되지 않도록 함
+    private static final String GENERATION_PREFIX = "user:state:generation:";
+    private static final String NOT_FOUND = "NOT_FOUND";
+    private static final char DELIMITER = '|';
+
+    // KEYS: 상태 키, 세대 키 / ARGV: 상태 값, 유지 시간(밀리초), 조회 시점의 세대
+    // 현재 세대가 조회 시점의 세대와 같은 경우에만 저장하고 1을 반환
+    private static final RedisScript<Long> SAVE_IF_GENERATION_SCRIPT = new DefaultRedisScript<>("""
+            local generation = tonumber(redis.call('GET', KEYS[2]) or '0')
+            if generation ~= tonumber(ARGV[3]) then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS: 세대 키, 상태 키, 이전 형식의 상태 키 / ARGV: 세대 유지 시간(밀리초)
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('INCR', KEYS[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            redis.call('DEL', KEYS[2], KEYS[3])
+            return generation
+            """, Long.class);
+
+    private final RedisTemplate<String, String> stringLiteralRedisTemplate;
+
+    /**
+     * 사용자 상태를 Redis에서 조회 시점의 세대(generation)가 바뀌지 않은 경우에만 저장하는 메서드
+     * <p>
+     * "상태" 또는 토큰 무효화 기준 시간이 있는 경우 "상태|기준 시간(ISO-8601)" 형식으로 저장
+     * DB를 조회하는 동안 무효화가 실행되면 세대가 증가하므로, 무효화 이전에 조회한 상태는 저장하지 않음
+     *
+     * @param state      저장할 사용자 상태
+     * @param ttl        데이터 유지 시간
+     * @param generation {@link #find(Long)}로 조회한 세대
+     * @return 저장한 경우 true
+     */
+    public boolean saveIfGeneration(UserState state, Duration ttl, long generation) {
+        String value = NOT_FOUND;
+
+        if (state.exists()) {
+            value = state.tokensInvalidBefore() == null
+                    ? state.status().name()
+                    : state.status().name() + DELIMITER + state.tokensInvalidBefore();
+        }
+
+        Long saved = stringLiteralRedisTemplate.execute(SAVE_IF_GENERATION_SCRIPT,
+                List.of(USER_STATE_PREFIX + state.userId(), GENERATION_PREFIX + state.userId()),
+                value, String.valueOf(ttl.toMillis()), String.valueOf(generation));
+
+        return saved != null && saved == 1L;
+    }
+
+    /**
+     * 주어진 사용자 ID의 상태와 현재 세대를 Redis에서 한 번에 조회
+     *
+     * @param userId 사용자 ID
+     * @return 저장된 사용자 상태(데이터가 존재하지 않을 경우 null)와 현재 세대
+     */
+    public Lookup find(Long userId) {
+        List<String> values = stringLiteralRedisTemplate.opsForValue()
+                .multiGet(List.of(USER_STATE_PREFIX + userId, GENERATION_PREFIX + userId));
+        String value = values == null ? null : values.get(0);
+        long generation = values == null || values.get(1) == null ? 0L : Long.parseLong(values.get(1));
+
+        return new Lookup(parse(userId, value), generation);
+    }
+
+    /**
+     * 주어진 사용자 ID의 세대를 증가시키고 상태를 삭제한 후, 다른 인스턴스에 무효화 메시지를 발행
+     * <p>
+     * 세대가 증가하므로, 무효화 이전에 DB를 조회한 다른 인스턴스는 조회한 상태를 Redis에 저장하지 못함
+     *
+     * @param userId        사용자 ID
+     * @param generationTtl 세대 유지 시간 (상태 캐시 유지 시간 이상)
+     */
+    public void invalidateAndPublish(Long userId, Duration generationTtl) {
+        stringLiteralRedisTemplate.execute(INVALIDATE_SCRIPT,
+                List.of(GENERATION_PREFIX + userId, USER_STATE_PREFIX + userId, LEGACY_USER_STATE_PREFIX + userId),
+                String.valueOf(generationTtl.toMillis()));
+        stringLiteralRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(userId));
+
+        log.debug("사용자 상태 무효화 메시지 발행: userId={}", userId);
+    }
+
+    private UserState parse(Long userId, String value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (NOT_FOUND.equals(value)) {
+            return UserState.notFound(userId);
+        }
+
+        int delimiter = value.indexOf(DELIMITER);
+        if (delimiter < 0) {
+            return UserState.of(userId, UserStatus.valueOf(value));
+        }
+
+        return UserState.of(userId, UserStatus.valueOf(value.substring(0, delimiter)),
+                Instant.parse(value.substring(delimiter + 1)));
+    }
+
+    /**
+     * Redis 조회 결과
+     *
+     * @param state      저장된 사용자 상태, 데이터가 존재하지 않을 경우 null
+     * @param generation 조회 시점의 세대, 무효화된 적이 없는 경우 0
+     */
+    public record Lookup(UserState state, long generation) {
+    }
+}
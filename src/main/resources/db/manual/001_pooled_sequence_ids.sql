@@ -0,0 +1,31 @@
+-- IDENTITY 컬럼을 pooled 시퀀스(allocationSize = 50)로 전환
+-- 배포 전에 기존 데이터베이스에서 한 번 실행 (여러 번 실행해도 안전)
+-- 시퀀스의 다음 값은 기존 최대 ID + 50으로 설정하여, 첫 번째 할당 범위(다음 값 - 49 ~ 다음 값)가 기존 ID와 겹치지 않도록 함
+
+BEGIN;
+
+-- users
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE users_seq INCREMENT BY 50;
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50, false);
+
+-- refresh_token
+ALTER TABLE refresh_token ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS refresh_token_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE refresh_token_seq INCREMENT BY 50;
+SELECT setval('refresh_token_seq', COALESCE((SELECT MAX(id) FROM refresh_token), 0) + 50, false);
+
+-- impersonation_log
+ALTER TABLE impersonation_log ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS impersonation_log_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE impersonation_log_seq INCREMENT BY 50;
+SELECT setval('impersonation_log_seq', COALESCE((SELECT MAX(id) FROM impersonation_log), 0) + 50, false);
+
+-- oauth2link
+ALTER TABLE oauth2link ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS oauth2link_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE oauth2link_seq INCREMENT BY 50;
+SELECT setval('oauth2link_seq', COALESCE((SELECT MAX(id) FROM oauth2link), 0) + 50, false);
+
+COMMIT;
@@ -0,0 +1,10 @@
+-- 리프레시 토큰 식별자(jti) 컬럼과 조회용 인덱스 추가
+-- 배포 전에 기존 데이터베이스에서 한 번 실행 (여러 번 실행해도 안전)
+-- 운영 중 테이블 잠금을 피하기 위해 인덱스는 CONCURRENTLY로 생성하므로 트랜잭션으로 묶지 않음
+-- 기존 행은 token_id가 NULL로 남으며, 해당 토큰은 만료되거나 회전될 때까지 사용자별 ACTIVE 토큰 조회로 검증됨
+
+ALTER TABLE refresh_token ADD COLUMN IF NOT EXISTS token_id VARCHAR(36);
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_refresh_token_token_id ON refresh_token (token_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_refresh_token_user_id ON refresh_token (user_id);
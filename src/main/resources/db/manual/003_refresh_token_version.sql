@@ -0,0 +1,5 @@
+-- 리프레시 토큰 낙관적 잠금 버전 컬럼 추가
+-- 배포 전에 기존 데이터베이스에서 한 번 실행 (여러 번 실행해도 안전)
+-- 기존 행은 버전 0으로 시작함
+
+ALTER TABLE refresh_token ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
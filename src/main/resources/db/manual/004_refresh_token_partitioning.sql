@@ -0,0 +1,46 @@
+-- refresh_token 테이블을 expired_at 기준 월별 범위 파티션 테이블(refresh_token_pYYYYMM, UTC 기준)로 전환
+-- 003까지 실행된 데이터베이스에서 배포 전에 한 번 실행
+-- 전환 중에는 refresh_token 테이블을 잠그므로, 트래픽이 적은 시간에 실행
+-- 파티션 테이블의 기본 키와 유니크 인덱스는 파티션 키(expired_at)를 포함해야 하며,
+-- 파티션 단위로 삭제할 수 있도록 rotated_from 외래키와 token_hash 유니크 제약은 제거함
+-- 이후 월별 파티션은 애플리케이션의 삭제 작업(refresh-token.purge)이 premake-months만큼 미리 생성함
+
+BEGIN;
+
+LOCK TABLE refresh_token IN ACCESS EXCLUSIVE MODE;
+
+CREATE TABLE refresh_token_partitioned (LIKE refresh_token INCLUDING DEFAULTS) PARTITION BY RANGE (expired_at);
+
+-- 기존 토큰 중 가장 먼저 만료되는 월부터 현재 월 + 3개월까지 파티션 생성
+DO $$
+DECLARE
+    month_start TIMESTAMP := date_trunc('month',
+            COALESCE((SELECT MIN(expired_at) FROM refresh_token), now()) AT TIME ZONE 'UTC');
+    last_month  TIMESTAMP := date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '3 months';
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+                'CREATE TABLE refresh_token_p%s PARTITION OF refresh_token_partitioned FOR VALUES FROM (%L) TO (%L)',
+                to_char(month_start, 'YYYYMM'),
+                month_start AT TIME ZONE 'UTC',
+                (month_start + INTERVAL '1 month') AT TIME ZONE 'UTC');
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+-- 파티션이 없는 기간의 토큰 저장용
+CREATE TABLE refresh_token_default PARTITION OF refresh_token_partitioned DEFAULT;
+
+INSERT INTO refresh_token_partitioned SELECT * FROM refresh_token;
+
+DROP TABLE refresh_token;
+ALTER TABLE refresh_token_partitioned RENAME TO refresh_token;
+
+ALTER TABLE refresh_token ADD CONSTRAINT refresh_token_pkey PRIMARY KEY (id, expired_at);
+ALTER TABLE refresh_token ADD CONSTRAINT fk_refresh_token_user_id FOREIGN KEY (user_id) REFERENCES users (id);
+
+CREATE UNIQUE INDEX ux_refresh_token_token_id ON refresh_token (token_id, expired_at);
+CREATE INDEX ix_refresh_token_user_id ON refresh_token (user_id);
+CREATE INDEX ix_refresh_token_rotated_from ON refresh_token (rotated_from);
+
+COMMIT;
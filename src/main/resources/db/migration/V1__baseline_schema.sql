@@ -0,0 +1,94 @@
+-- 기본 스키마 (db/manual 001 ~ 004까지 실행된 스키마와 동일)
+-- 기존 데이터베이스는 db/manual의 SQL을 004까지 실행한 뒤, 이 버전으로 baseline 처리됨 (spring.flyway.baseline-on-migrate)
+
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE refresh_token_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE impersonation_log_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE oauth2link_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users
+(
+    id          BIGINT                   NOT NULL,
+    email       VARCHAR(100)             NOT NULL,
+    password    VARCHAR(100)             NOT NULL,
+    status      VARCHAR(20)              NOT NULL DEFAULT 'ACTIVE',
+    totp_secret VARCHAR(150),
+    mfa_enabled BOOLEAN                  NOT NULL DEFAULT FALSE,
+    created_at  TIMESTAMP(6) WITH TIME ZONE,
+    updated_at  TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT users_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE users_roles
+(
+    users_id BIGINT      NOT NULL,
+    roles    VARCHAR(20) NOT NULL,
+    CONSTRAINT users_roles_pkey PRIMARY KEY (users_id, roles),
+    CONSTRAINT fk_users_roles_users_id FOREIGN KEY (users_id) REFERENCES users (id)
+);
+
+CREATE TABLE oauth2link
+(
+    id        BIGINT       NOT NULL,
+    user_id   BIGINT       NOT NULL,
+    provider  VARCHAR(20)  NOT NULL,
+    o_auth2id VARCHAR(100) NOT NULL,
+    CONSTRAINT oauth2link_pkey PRIMARY KEY (id),
+    CONSTRAINT uc_oauth2link_user_id UNIQUE (user_id, provider),
+    CONSTRAINT uk_oauth2link_o_auth2id UNIQUE (o_auth2id),
+    CONSTRAINT fk_oauth2link_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE impersonation_log
+(
+    id             BIGINT                      NOT NULL,
+    admin_user_id  BIGINT                      NOT NULL,
+    target_user_id BIGINT                      NOT NULL,
+    ip             VARCHAR(45)                 NOT NULL,
+    type           VARCHAR(30)                 NOT NULL,
+    action_details VARCHAR(3000)               NOT NULL,
+    created_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT impersonation_log_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_impersonation_log_admin_user_id FOREIGN KEY (admin_user_id) REFERENCES users (id),
+    CONSTRAINT fk_impersonation_log_target_user_id FOREIGN KEY (target_user_id) REFERENCES users (id)
+);
+
+-- expired_at 기준 월별 범위 파티션 (refresh_token_pYYYYMM, UTC 기준), 004_refresh_token_partitioning.sql 참고
+CREATE TABLE refresh_token
+(
+    id           BIGINT                      NOT NULL,
+    token_id     VARCHAR(36),
+    user_id      BIGINT                      NOT NULL,
+    token_hash   VARCHAR(100)                NOT NULL,
+    rotated_from BIGINT,
+    ip           VARCHAR(45),
+    issued_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    expired_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    revoked_at   TIMESTAMP(6) WITH TIME ZONE,
+    user_agent   VARCHAR(20)                 NOT NULL,
+    version      BIGINT                      NOT NULL DEFAULT 0,
+    CONSTRAINT refresh_token_pkey PRIMARY KEY (id, expired_at),
+    CONSTRAINT fk_refresh_token_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+) PARTITION BY RANGE (expired_at);
+
+-- 현재 월부터 3개월 이후까지 파티션 생성, 이후 파티션은 삭제 작업(refresh-token.purge)이 미리 생성함
+DO $$
+DECLARE
+    month_start TIMESTAMP := date_trunc('month', now() AT TIME ZONE 'UTC');
+BEGIN
+    FOR i IN 0..3 LOOP
+        EXECUTE format(
+                'CREATE TABLE refresh_token_p%s PARTITION OF refresh_token FOR VALUES FROM (%L) TO (%L)',
+                to_char(month_start, 'YYYYMM'),
+                month_start AT TIME ZONE 'UTC',
+                (month_start + INTERVAL '1 month') AT TIME ZONE 'UTC');
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+CREATE TABLE refresh_token_default PARTITION OF refresh_token DEFAULT;
+
+CREATE UNIQUE INDEX ux_refresh_token_token_id ON refresh_token (token_id, expired_at);
+CREATE INDEX ix_refresh_token_user_id ON refresh_token (user_id);
+CREATE INDEX ix_refresh_token_rotated_from ON refresh_token (rotated_from);
@@ -0,0 +1,21 @@
+-- 저장소 조회 쿼리별 인덱스
+-- 파티션 테이블에는 CONCURRENTLY로 인덱스를 생성할 수 없으므로, 생성 중에는 테이블 쓰기가 잠김
+
+-- RefreshTokenRepository.findActiveTokensByUser, findActiveLegacyTokensByUserId
+-- (user_id = ? AND revoked_at IS NULL AND expired_at > ?), 취소된 토큰은 인덱스에 포함하지 않음
+CREATE INDEX IF NOT EXISTS ix_refresh_token_user_id_active
+    ON refresh_token (user_id, expired_at) WHERE revoked_at IS NULL;
+
+-- RefreshTokenPurgeRepository.deleteExpiredRows (expired_at < ? OR revoked_at < ?)
+CREATE INDEX IF NOT EXISTS ix_refresh_token_expired_at ON refresh_token (expired_at);
+CREATE INDEX IF NOT EXISTS ix_refresh_token_revoked_at
+    ON refresh_token (revoked_at) WHERE revoked_at IS NOT NULL;
+
+-- ImpersonationLogRepository.findAllByAdmin, findAllByAdminAndTargetUser
+CREATE INDEX IF NOT EXISTS ix_impersonation_log_admin_user_id_target_user_id
+    ON impersonation_log (admin_user_id, target_user_id);
+
+-- ImpersonationLogRepository.findAllByTargetUser
+CREATE INDEX IF NOT EXISTS ix_impersonation_log_target_user_id ON impersonation_log (target_user_id);
+
+-- User.roles 컬렉션 조회 (users_id = ?)는 기본 키 (users_id, roles)의 선두 컬럼을 사용하므로 별도 인덱스를 추가하지 않음
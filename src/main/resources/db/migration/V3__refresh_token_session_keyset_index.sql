@@ -0,0 +1,5 @@
+-- RefreshTokenRepository.findActiveSessions, findActiveSessionsAfter
+-- (user_id = ? AND revoked_at IS NULL ORDER BY issued_at DESC, id DESC), 취소된 세션 이력은 인덱스에 포함하지 않음
+-- 만료된 세션은 발급 시간이 오래된 순서로 뒤에 위치하므로, 페이지 크기만큼 읽은 뒤 탐색을 멈춤
+CREATE INDEX IF NOT EXISTS ix_refresh_token_user_id_issued_at_active
+    ON refresh_token (user_id, issued_at DESC, id DESC) WHERE revoked_at IS NULL;
@@ -0,0 +1,2 @@
+-- 전체 세션 로그아웃 기준 시간, 이 시간 이전에 발급된 토큰은 유효하지 않음
+ALTER TABLE users ADD COLUMN IF NOT EXISTS tokens_invalid_before TIMESTAMP(6) WITH TIME ZONE;
@@ -0,0 +1,8 @@
+-- Redis에 반영하지 못한 리프레시 토큰 취소 목록
+-- Redis 장애 중 DB에만 취소된 토큰을 기록하여, 인스턴스가 재시작되어도 Redis 복구 후 모든 인스턴스가 취소 상태를 반영할 수 있도록 함
+-- 목록이 비어 있지 않은 동안에는 Redis의 ACTIVE 상태가 오래된 값일 수 있으므로, 토큰 조회 시 DB의 취소 상태를 먼저 확인함
+CREATE TABLE IF NOT EXISTS refresh_token_unpublished_revocation
+(
+    token_id   VARCHAR(36)                 NOT NULL PRIMARY KEY,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT now()
+);
@@ -0,0 +1,35 @@
+-- 리프레시 토큰 식별자(token_id) 전역 유일성
+-- refresh_token은 expired_at 기준 파티션 테이블이므로 유일 인덱스에 파티션 키가 포함되어야 하며,
+-- ux_refresh_token_token_id (token_id, expired_at)만으로는 만료 시간이 다른 같은 token_id를 막을 수 없음
+-- 파티션으로 나뉘지 않은 별도 테이블에 token_id를 기본 키로 기록하여, refresh_token에 행을 추가할 때 유일성을 확인함
+CREATE TABLE IF NOT EXISTS refresh_token_token_id
+(
+    token_id   VARCHAR(36)                 NOT NULL PRIMARY KEY,
+    expired_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+INSERT INTO refresh_token_token_id (token_id, expired_at)
+SELECT token_id, max(expired_at)
+FROM refresh_token
+WHERE token_id IS NOT NULL
+GROUP BY token_id
+ON CONFLICT DO NOTHING;
+
+-- 이미 기록된 token_id인 경우 기본 키 위반(unique_violation)으로 refresh_token 행 추가도 실패함
+CREATE OR REPLACE FUNCTION refresh_token_register_token_id() RETURNS trigger AS
+$$
+BEGIN
+    INSERT INTO refresh_token_token_id (token_id, expired_at) VALUES (NEW.token_id, NEW.expired_at);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 파티션 테이블의 트리거는 기존 파티션과 이후 생성되는 파티션에 모두 적용됨
+CREATE TRIGGER trg_refresh_token_register_token_id
+    AFTER INSERT ON refresh_token
+    FOR EACH ROW
+    WHEN (NEW.token_id IS NOT NULL)
+EXECUTE FUNCTION refresh_token_register_token_id();
+
+-- RefreshTokenPurgeRepository.deleteExpiredTokenIds (expired_at < ?)
+CREATE INDEX IF NOT EXISTS ix_refresh_token_token_id_expired_at ON refresh_token_token_id (expired_at);
@@ -0,0 +1,21 @@
+-- 임퍼소네이션 없이 어드민이 사용자에게 직접 수행한 작업(전체 세션 만료 처리 등)의 감사 로그
+CREATE SEQUENCE IF NOT EXISTS admin_action_log_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS admin_action_log
+(
+    id             BIGINT                      NOT NULL,
+    admin_user_id  BIGINT                      NOT NULL,
+    target_user_id BIGINT                      NOT NULL,
+    ip             VARCHAR(45)                 NOT NULL,
+    type           VARCHAR(30)                 NOT NULL,
+    created_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT admin_action_log_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_admin_action_log_admin_user_id FOREIGN KEY (admin_user_id) REFERENCES users (id),
+    CONSTRAINT fk_admin_action_log_target_user_id FOREIGN KEY (target_user_id) REFERENCES users (id)
+);
+
+-- AdminActionLogRepository.findAllByAdmin
+CREATE INDEX IF NOT EXISTS ix_admin_action_log_admin_user_id ON admin_action_log (admin_user_id);
+
+-- AdminActionLogRepository.findAllByTargetUser
+CREATE INDEX IF NOT EXISTS ix_admin_action_log_target_user_id ON admin_action_log (target_user_id);
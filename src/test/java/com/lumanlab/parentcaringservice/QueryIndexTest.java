@@ -0,0 +1,249 @@
+package com.lumanlab.parentcaringservice;
+
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenRepository;
+import com.lumanlab.parentcaringservice.support.BaseUsecaseTest;
+import com.lumanlab.parentcaringservice.support.SqlStatementRecorder;
+import com.lumanlab.parentcaringservice.user.domain.User;
+import com.lumanlab.parentcaringservice.user.port.outp.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소 조회 쿼리가 db/migration의 인덱스를 사용하는지 실행 계획으로 확인
+ * <p>
+ * 테스트 데이터가 적으면 순차 탐색이 더 저렴하므로, 순차 탐색을 비활성화한 상태에서 쿼리별로 기대하는 인덱스를 사용하는지 확인함
+ * JPA 저장소의 쿼리는 저장소 메서드를 실행하여 Hibernate가 준비한 SQL을 그대로 EXPLAIN 함
+ * refresh_token은 파티션 테이블이며 파티션별 인덱스 이름이 자동으로 생성되므로, 상위 인덱스 이름으로 변환하여 확인함
+ */
+class QueryIndexTest extends BaseUsecaseTest {
+
+    private static final Pattern INDEX_SCAN = Pattern.compile(
+            "(?:Index (?:Only )?Scan(?: Backward)? using|Bitmap Index Scan on) (\\S+)");
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    @DisplayName("인덱스 - 리프레시 토큰 - 토큰 식별자로 조회")
+    void findByTokenId() {
+        String sql = recordQuery(() -> refreshTokenRepository.findByTokenId("TOKEN_ID"));
+
+        assertIndexScan(explain(sql, "TOKEN_ID"), "ux_refresh_token_token_id");
+    }
+
+    @Test
+    @DisplayName("인덱스 - 리프레시 토큰 - 여러 토큰 식별자로 조회")
+    void findAllByTokenIdIn() {
+        String sql = recordQuery(() -> refreshTokenRepository.findAllByTokenIdIn(List.of("TOKEN_ID")));
+
+        assertIndexScan(explain(sql, "TOKEN_ID"), "ux_refresh_token_token_id");
+    }
+
+    @Test
+    @DisplayName("인덱스 - 리프레시 토큰 - 유저로 조회")
+    void findAllByUser() {
+        User user = userRepository.getReferenceById(1L);
+        String sql = recordQuery(() -> refreshTokenRepository.findAllByUser(user));
+
+        assertIndexScan(explain(sql, 1L), "ix_refresh_token_user_id");
+    }
+
+    @Test
+    @DisplayName("인덱스 - 리프레시 토큰 - ACTIVE 상태 토큰 조회")
+    void findActiveTokensByUser() {
+        User user = userRepository.getReferenceById(1L);
+        OffsetDateTime now = OffsetDateTime.now();
+        String sql = recordQuery(() -> refreshTokenRepository.findActiveTokensByUser(user, now));
+
+        assertIndexScan(explain(sql, 1L, now), "ix_refresh_token_user_id_active");
+    }
+
+    @Test
+    @DisplayName("인덱스 - 리프레시 토큰 - 이전 형식의 ACTIVE 상태 토큰 조회")
+    void findActiveLegacyTokensByUserId() {
+        OffsetDateTime now = OffsetDateTime.now();
+        String sql = recordQuery(() -> refreshTokenRepository.findActiveLegacyTokensByUserId(1L, now));
+
+        assertIndexScan(explain(sql, 1L, now), "ix_refresh_token_user_id_active");
+    }
+
+    @Test
+    @DisplayName("인덱스 - 리프레시 토큰 - 전체 세션 로그아웃")
+    void revokeAllActiveByUserId() {
+        OffsetDateTime now = OffsetDateTime.now();
+        String sql = recordQuery(() -> refreshTokenRepository.revokeAllActiveByUserId(1L, now));
+
+        assertIndexScan(explain(sql, now, 1L, now), "ix_refresh_token_user_id_active");
+    }
+
+    @Test
+    @DisplayName("인덱스 - 리프레시 토큰 - 세션 목록 첫 페이지 조회")
+    void findActiveSessions() {
+        OffsetDateTime now = OffsetDateTime.now();
+        String sql = recordQuery(() -> refreshTokenRepository.findActiveSessions(1L, now, Limit.of(21)));
+
+        var actual = explain(sql, 1L, now, 21);
+
+        assertIndexScan(actual, "ix_refresh_token_user_id_issued_at_active");
+        // 인덱스 순서로 조회하므로 정렬 노드가 없어야 함 (파티션 병합의 Sort Key는 제외)
+        assertThat(actual).doesNotContainPattern("Sort\\s+\\(cost");
+    }
+
+    @Test
+    @DisplayName("인덱스 - 리프레시 토큰 - 세션 목록 다음 페이지 조회")
+    void findActiveSessionsAfter() {
+        OffsetDateTime now = OffsetDateTime.now();
+        String sql = recordQuery(() -> refreshTokenRepository.findActiveSessionsAfter(1L, now, now, 100L,
+                Limit.of(21)));
+
+        var actual = explain(sql, 1L, now, now, now, 100L, 21);
+
+        assertIndexScan(actual, "ix_refresh_token_user_id_issued_at_active");
+        assertThat(actual).doesNotContainPattern("Sort\\s+\\(cost");
+    }
+
+    @Test
+    @DisplayName("인덱스 - 리프레시 토큰 - 삭제 대상 조회")
+    void findPurgeTargets() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minusDays(30);
+
+        // RefreshTokenPurgeRepository.deleteExpiredRows의 삭제 대상 조회
+        var actual = explain("SELECT id FROM refresh_token WHERE expired_at < ? OR revoked_at < ? LIMIT ?",
+                cutoff, cutoff, 1000);
+
+        assertIndexScan(actual, "ix_refresh_token_expired_at", "ix_refresh_token_revoked_at");
+    }
+
+    @Test
+    @DisplayName("인덱스 - 리프레시 토큰 - 회전 체인 참조 조회")
+    void findByRotatedFrom() {
+        // RefreshTokenPurgeRepository.compactReferencesTo, deleteExpiredRows의 참조 정리 대상 조회
+        var actual = explain("SELECT id FROM refresh_token WHERE rotated_from = ?", 1L);
+
+        assertIndexScan(actual, "ix_refresh_token_rotated_from");
+    }
+
+    @Test
+    @DisplayName("인덱스 - 임퍼소네이션 로그 - 어드민으로 조회")
+    void findAllByAdmin() {
+        var actual = explain("SELECT * FROM impersonation_log WHERE admin_user_id = ?", 1L);
+
+        assertIndexScan(actual, "ix_impersonation_log_admin_user_id_target_user_id");
+    }
+
+    @Test
+    @DisplayName("인덱스 - 임퍼소네이션 로그 - 대상 유저로 조회")
+    void findAllByTargetUser() {
+        var actual = explain("SELECT * FROM impersonation_log WHERE target_user_id = ?", 1L);
+
+        assertIndexScan(actual, "ix_impersonation_log_target_user_id");
+    }
+
+    @Test
+    @DisplayName("인덱스 - 임퍼소네이션 로그 - 어드민과 대상 유저로 조회")
+    void findAllByAdminAndTargetUser() {
+        var actual = explain("SELECT * FROM impersonation_log WHERE admin_user_id = ? AND target_user_id = ?",
+                1L, 2L);
+
+        assertIndexScan(actual, "ix_impersonation_log_admin_user_id_target_user_id");
+    }
+
+    @Test
+    @DisplayName("인덱스 - 어드민 작업 로그 - 어드민으로 조회")
+    void findAdminActionLogsByAdmin() {
+        var actual = explain("SELECT * FROM admin_action_log WHERE admin_user_id = ?", 1L);
+
+        assertIndexScan(actual, "ix_admin_action_log_admin_user_id");
+    }
+
+    @Test
+    @DisplayName("인덱스 - 어드민 작업 로그 - 대상 유저로 조회")
+    void findAdminActionLogsByTargetUser() {
+        var actual = explain("SELECT * FROM admin_action_log WHERE target_user_id = ?", 1L);
+
+        assertIndexScan(actual, "ix_admin_action_log_target_user_id");
+    }
+
+    @Test
+    @DisplayName("인덱스 - 유저 - 역할 목록 조회")
+    void findRolesByUser() {
+        var actual = explain("SELECT roles FROM users_roles WHERE users_id = ?", 1L);
+
+        assertIndexScan(actual);
+    }
+
+    @Test
+    @DisplayName("인덱스 - 유저 - 이메일로 조회")
+    void findByEmail() {
+        var actual = explain("SELECT * FROM users WHERE email = ?", "john.doe@example.com");
+
+        assertIndexScan(actual);
+    }
+
+    /**
+     * 작업을 실행하는 동안 Hibernate가 준비한 SQL이 하나인지 확인하고 반환
+     */
+    private String recordQuery(Runnable action) {
+        List<String> statements = SqlStatementRecorder.record(action);
+
+        assertThat(statements).hasSize(1);
+        return statements.getFirst();
+    }
+
+    private String explain(String sql, Object... args) {
+        assertThat(sql.chars().filter(c -> c == '?').count()).as(sql).isEqualTo(args.length);
+
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+
+    /**
+     * 순차 탐색 없이 주어진 인덱스만 사용하는지 확인
+     */
+    private void assertIndexScan(String plan, String... indexNames) {
+        assertThat(plan).as(plan).doesNotContain("Seq Scan");
+        assertThat(usedIndexes(plan)).as(plan).containsExactlyInAnyOrder(indexNames);
+    }
+
+    private void assertIndexScan(String plan) {
+        assertThat(plan).as(plan).contains("Index").doesNotContain("Seq Scan");
+    }
+
+    /**
+     * 실행 계획에서 사용한 인덱스 이름 목록, 파티션의 인덱스는 파티션 테이블에 생성한 상위 인덱스 이름으로 변환
+     */
+    private Set<String> usedIndexes(String plan) {
+        Set<String> indexes = new TreeSet<>();
+        Matcher matcher = INDEX_SCAN.matcher(plan);
+        while (matcher.find()) {
+            indexes.add(jdbcTemplate.queryForObject("""
+                    SELECT coalesce((SELECT parent.relname::text FROM pg_inherits i
+                                     JOIN pg_class parent ON parent.oid = i.inhparent
+                                     WHERE i.inhrelid = to_regclass(?::text)), ?::text)
+                    """, String.class, matcher.group(1), matcher.group(1)));
+        }
+
+        return indexes;
+    }
+}
@@ -2,15 +2,28 @@ package com.lumanlab.parentcaringservice.admin.adapter.in.web;
 
 import com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper;
 import com.epages.restdocs.apispec.ResourceSnippetParameters;
+import com.lumanlab.parentcaringservice.adminactionlog.domain.AdminActionLog;
+import com.lumanlab.parentcaringservice.adminactionlog.domain.AdminActionType;
+import com.lumanlab.parentcaringservice.adminactionlog.port.inp.QueryAdminActionLog;
+import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshToken;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenRepository;
 import com.lumanlab.parentcaringservice.support.BaseApiTest;
+import com.lumanlab.parentcaringservice.support.annotation.WithAdminUser;
 import com.lumanlab.parentcaringservice.support.annotation.WithMasterUser;
+import com.lumanlab.parentcaringservice.support.annotation.WithParentUser;
 import com.lumanlab.parentcaringservice.user.domain.UserAgent;
 import com.lumanlab.parentcaringservice.user.domain.UserRole;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.OffsetDateTime;
+
+import static com.epages.restdocs.apispec.ResourceDocumentation.parameterWithName;
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -18,6 +31,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 class AdminApiTest extends BaseApiTest {
 
+    @Autowired
+    private QueryAdminActionLog queryAdminActionLog;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
     @Test
     @WithMasterUser
     @DisplayName("사용자 임퍼소네이션")
@@ -50,4 +69,77 @@ class AdminApiTest extends BaseApiTest {
                         )
                 ));
     }
+
+    @Test
+    @WithMasterUser
+    @DisplayName("사용자 전체 세션 삭제")
+    void revokeAllSessions() throws Exception {
+        var targetUser = authHelper.createUser("user@example.com", "password", null, UserRole.PARENT);
+
+        mockMvc.perform(withAuth(delete("/api/admin/users/{userId}/sessions", targetUser.getId())))
+                .andExpectAll(
+                        status().isOk()
+                )
+                .andDo(MockMvcRestDocumentationWrapper.document("admin-session-revoke-all",
+                        resource(ResourceSnippetParameters.builder()
+                                .tag("Admin")
+                                .summary("사용자 전체 세션 만료 처리")
+                                .description("특정 유저의 모든 RefreshToken을 만료 처리하며, 이미 발급된 AccessToken도 더 이상 사용할 수 없음")
+                                .pathParameters(
+                                        parameterWithName("userId").description("세션을 만료 처리할 사용자 ID")
+                                )
+                                .build()
+                        )
+                ));
+
+        assertThat(queryAdminActionLog.findAllByTargetUser(targetUser.getId()))
+                .extracting(AdminActionLog::getType)
+                .containsExactly(AdminActionType.REVOKE_SESSIONS);
+    }
+
+    @Test
+    @WithAdminUser
+    @DisplayName("사용자 전체 세션 삭제 - 같은 등급 이상의 어드민은 대상으로 할 수 없음")
+    void revokeAllSessionsOfSameRankAdmin() throws Exception {
+        var targetUser = authHelper.createUser("admin2@example.com", "password", null, UserRole.ADMIN);
+        var refreshToken = refreshTokenRepository.save(
+                new RefreshToken(
+                        targetUser, "token-hash", "127.0.0.1", UserAgent.LUMANLAB_ADMIN, OffsetDateTime.now(),
+                        OffsetDateTime.now().plusDays(1)
+                )
+        );
+
+        mockMvc.perform(withAuth(delete("/api/admin/users/{userId}/sessions", targetUser.getId())))
+                .andExpectAll(
+                        status().isForbidden(),
+                        jsonPath("$.errorCode").value("ADMIN_TARGET_NOT_ALLOWED")
+                );
+
+        assertThat(refreshTokenRepository.findById(refreshToken.getId()).orElseThrow().getRevokedAt()).isNull();
+        assertThat(queryAdminActionLog.findAllByTargetUser(targetUser.getId())).isEmpty();
+    }
+
+    @Test
+    @WithMasterUser
+    @DisplayName("사용자 전체 세션 삭제 - MASTER는 다른 MASTER를 대상으로 할 수 있음")
+    void revokeAllSessionsOfMasterByMaster() throws Exception {
+        var targetUser = authHelper.createUser("master2@example.com", "password", null, UserRole.MASTER);
+
+        mockMvc.perform(withAuth(delete("/api/admin/users/{userId}/sessions", targetUser.getId())))
+                .andExpect(status().isOk());
+
+        assertThat(queryAdminActionLog.findAllByTargetUser(targetUser.getId()))
+                .extracting(AdminActionLog::getType)
+                .containsExactly(AdminActionType.REVOKE_SESSIONS);
+    }
+
+    @Test
+    @WithParentUser
+    @DisplayName("사용자 전체 세션 삭제 - 어드민이 아닌 경우")
+    void revokeAllSessionsForbidden() throws Exception {
+        var targetUser = authHelper.createUser("user@example.com", "password", null, UserRole.PARENT);
+
+        mockMvc.perform(withAuth(delete("/api/admin/users/{userId}/sessions", targetUser.getId())))
+                .andExpect(status().isForbidden());
+    }
 }
@@ -0,0 +1,56 @@
+package com.lumanlab.parentcaringservice.adminactionlog.domain;
+
+import com.lumanlab.parentcaringservice.user.domain.User;
+import com.lumanlab.parentcaringservice.user.domain.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdminActionLogTest {
+
+    private User adminUser;
+    private User targetUser;
+    private final String ip = "127.0.0.1";
+    private final AdminActionType type = AdminActionType.REVOKE_SESSIONS;
+
+    @BeforeEach
+    void setUp() {
+        adminUser = new User("admin@example.com", "password", Set.of(UserRole.ADMIN));
+        targetUser = new User("user@example.com", "password", Set.of(UserRole.PARENT));
+    }
+
+    @Test
+    @DisplayName("AdminActionLog 생성 성공")
+    void createAdminActionLog_success() {
+        AdminActionLog log = new AdminActionLog(adminUser, targetUser, ip, type);
+
+        assertThat(log.getAdmin()).isEqualTo(adminUser);
+        assertThat(log.getTargetUser()).isEqualTo(targetUser);
+        assertThat(log.getIp()).isEqualTo(ip);
+        assertThat(log.getType()).isEqualTo(type);
+        assertThat(log.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("IP가 비어 있을 경우 예외 발생")
+    void createAdminActionLog_throwsException_whenIpIsBlank() {
+        assertThatThrownBy(() -> new AdminActionLog(adminUser, targetUser, " ", type))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("IP address must not be null.");
+    }
+
+    @Test
+    @DisplayName("Admin User의 역할이 ADMIN이 아닐 경우 예외 발생")
+    void createAdminActionLog_throwsException_whenAdminUserIsNotAdmin() {
+        User notAdminUser = new User("notadmin@example.com", "password", Set.of(UserRole.PARENT));
+
+        assertThatThrownBy(() -> new AdminActionLog(notAdminUser, targetUser, ip, type))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Admin user must be a UserRole.ADMIN.");
+    }
+}
@@ -0,0 +1,147 @@
+package com.lumanlab.parentcaringservice.batch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedBatchWriterTest {
+
+    MeterRegistry meterRegistry;
+    BatchWriterProperties properties;
+    List<String> written;
+    BoundedBatchWriter<String> writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        properties = new BatchWriterProperties();
+        properties.setFlushInterval(10);
+        properties.setRetryBackoff(10);
+        properties.setMaxRetryBackoff(50);
+        properties.setMaxRetries(3);
+
+        written = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null && writer.isRunning()) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("배치 저장 - DB 연결 실패 시 항목을 버리지 않고 백오프 후 다시 저장")
+    void retryUntilWritten() throws InterruptedException {
+        AtomicBoolean available = new AtomicBoolean(false);
+        writer = start(items -> {
+            if (!available.get()) {
+                throw new TransientDataAccessResourceException("connection refused");
+            }
+            written.addAll(items);
+        });
+
+        writer.enqueueAll(List.of("a", "b", "c"));
+        awaitUntil(() -> counter("test.writer.retried") >= 3);
+
+        available.set(true);
+
+        awaitUntil(() -> written.size() == 3);
+        assertThat(written).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(counter("test.writer.failed")).isZero();
+        assertThat(gauge("test.writer.retry.pending")).isZero();
+    }
+
+    @Test
+    @DisplayName("배치 저장 - 최대 재시도 횟수를 넘긴 경우에만 실패로 기록")
+    void giveUpAfterMaxRetries() throws InterruptedException {
+        writer = start(items -> {
+            throw new TransientDataAccessResourceException("connection refused");
+        });
+
+        writer.enqueue("a");
+
+        awaitUntil(() -> counter("test.writer.failed") == 1);
+        assertThat(counter("test.writer.retried")).isEqualTo(3);
+        assertThat(gauge("test.writer.retry.pending")).isZero();
+    }
+
+    @Test
+    @DisplayName("배치 저장 - 저장할 수 없는 항목은 나머지 항목 저장에 영향을 주지 않음")
+    void isolateFailedItem() throws InterruptedException {
+        writer = start(items -> {
+            if (items.contains("bad")) {
+                throw new IllegalArgumentException("invalid item");
+            }
+            written.addAll(items);
+        });
+
+        writer.enqueueAll(List.of("a", "bad", "b"));
+
+        awaitUntil(() -> counter("test.writer.failed") == 1);
+        assertThat(written).containsExactlyInAnyOrder("a", "b");
+        assertThat(counter("test.writer.retried")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("배치 저장 - 종료 시 재시도를 기다리는 항목도 저장")
+    void writeRetriesOnStop() throws InterruptedException {
+        properties.setRetryBackoff(60_000);
+        properties.setMaxRetryBackoff(60_000);
+
+        AtomicInteger calls = new AtomicInteger();
+        writer = start(items -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new TransientDataAccessResourceException("connection refused");
+            }
+            written.addAll(items);
+        });
+
+        writer.enqueue("a");
+        awaitUntil(() -> gauge("test.writer.retry.pending") == 1);
+
+        writer.stop();
+
+        assertThat(written).containsExactly("a");
+        assertThat(gauge("test.writer.retry.pending")).isZero();
+    }
+
+    private BoundedBatchWriter<String> start(Consumer<List<String>> flushFunction) {
+        BoundedBatchWriter<String> batchWriter = new BoundedBatchWriter<>("test.writer", "테스트 항목", properties,
+                OverflowPolicy.CALLER_RUNS, flushFunction, item -> item, meterRegistry);
+        batchWriter.start();
+
+        return batchWriter;
+    }
+
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("제한 시간 내에 조건을 만족해야 함").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+}
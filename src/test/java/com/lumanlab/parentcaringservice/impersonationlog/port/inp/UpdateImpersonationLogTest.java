@@ -7,12 +7,18 @@ import com.lumanlab.parentcaringservice.support.BaseUsecaseTest;
 import com.lumanlab.parentcaringservice.user.domain.User;
 import com.lumanlab.parentcaringservice.user.domain.UserRole;
 import com.lumanlab.parentcaringservice.user.port.outp.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -27,6 +33,9 @@ class UpdateImpersonationLogTest extends BaseUsecaseTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private User adminUser;
     private User targetUser;
 
@@ -53,4 +62,67 @@ class UpdateImpersonationLogTest extends BaseUsecaseTest {
         assertThat(actual.getType()).isEqualTo(ImpersonationType.LOGIN);
         assertThat(actual.getActionDetails()).isEqualTo(details);
     }
+
+    @Test
+    @DisplayName("ImpersonationLog - 일괄 등록")
+    void registerAll() {
+        String ip = "127.0.0.1";
+        OffsetDateTime createdAt = OffsetDateTime.now().minusSeconds(10);
+        List<ImpersonationLogDto> logs = List.of(
+                new ImpersonationLogDto(adminUser.getId(), targetUser.getId(), ip, ImpersonationType.ACTION, "first",
+                        createdAt),
+                new ImpersonationLogDto(adminUser.getId(), targetUser.getId(), ip, ImpersonationType.ACTION, "second",
+                        createdAt)
+        );
+
+        updateImpersonationLog.registerAll(logs);
+
+        List<ImpersonationLog> actual = impersonationLogRepository.findAllByAdminAndTargetUser(adminUser, targetUser);
+
+        assertThat(actual).hasSize(2);
+        assertThat(actual).extracting(ImpersonationLog::getActionDetails).containsExactlyInAnyOrder("first", "second");
+        assertThat(actual).extracting(ImpersonationLog::getCreatedAt).containsOnly(createdAt);
+    }
+
+    @Test
+    @DisplayName("ImpersonationLog - 일괄 등록 - 유효하지 않은 로그는 제외")
+    void registerAllSkipsInvalidLog() {
+        String ip = "127.0.0.1";
+        OffsetDateTime createdAt = OffsetDateTime.now();
+        List<ImpersonationLogDto> logs = List.of(
+                new ImpersonationLogDto(adminUser.getId(), targetUser.getId(), ip, ImpersonationType.ACTION, "valid",
+                        createdAt),
+                // PARENT 역할은 임퍼소네이션을 요청할 수 없음
+                new ImpersonationLogDto(targetUser.getId(), adminUser.getId(), ip, ImpersonationType.ACTION, "invalid",
+                        createdAt)
+        );
+
+        updateImpersonationLog.registerAll(logs);
+
+        assertThat(impersonationLogRepository.findAllByAdminAndTargetUser(adminUser, targetUser)).hasSize(1);
+        assertThat(impersonationLogRepository.findAllByAdminAndTargetUser(targetUser, adminUser)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ImpersonationLog - 일괄 등록 - 시퀀스 ID 할당과 JDBC 배치로 로그 개수보다 적은 쿼리 실행")
+    void registerAllUsesBatchInsert() {
+        int count = 30;
+        OffsetDateTime createdAt = OffsetDateTime.now();
+        List<ImpersonationLogDto> logs = IntStream.range(0, count)
+                .mapToObj(i -> new ImpersonationLogDto(adminUser.getId(), targetUser.getId(), "127.0.0.1",
+                        ImpersonationType.ACTION, "action-" + i, createdAt))
+                .toList();
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        updateImpersonationLog.registerAll(logs);
+        entityManager.flush();
+
+        // 사용자 조회, 역할 조회, 시퀀스 조회, 배치 INSERT
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(count);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5);
+    }
 }
@@ -16,7 +16,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import java.time.OffsetDateTime;
 import java.util.Map;
 
+import static com.epages.restdocs.apispec.ResourceDocumentation.parameterWithName;
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -46,7 +48,7 @@ class MeApiTest extends BaseApiTest {
                 )
         );
 
-        mockMvc.perform(withAuth(get("/api/me/sessions")))
+        mockMvc.perform(withAuth(get("/api/me/sessions").param("size", "20")))
                 .andExpectAll(
                         status().isOk(),
                         jsonPath("$.sessions").isArray(),
@@ -59,7 +61,13 @@ class MeApiTest extends BaseApiTest {
                         resource(ResourceSnippetParameters.builder()
                                 .tag("Session")
                                 .summary("현재 로그인한 사용자의 세션 목록 조회")
-                                .description("활성화된 RefreshToken의 목록을 조회")
+                                .description("활성화된 RefreshToken의 목록을 발급 시간 역순으로 조회")
+                                .queryParameters(
+                                        parameterWithName("cursor").description("이전 페이지 응답의 nextCursor")
+                                                .optional(),
+                                        parameterWithName("size").description("페이지 크기 (기본 20, 최대 100)")
+                                                .optional()
+                                )
                                 .responseFields(
                                         fieldWithPath("sessions").description("세션 정보 배열"),
                                         fieldWithPath("sessions[].id").description("RefreshToken ID"),
@@ -67,13 +75,45 @@ class MeApiTest extends BaseApiTest {
                                         fieldWithPath("sessions[].issuedAt").description(
                                                 "RefreshToken 발급 시간 (Unix Timestamp)"),
                                         fieldWithPath("sessions[].expiredAt").description(
-                                                "RefreshToken 만료 시간 (Unix Timestamp)")
+                                                "RefreshToken 만료 시간 (Unix Timestamp)"),
+                                        fieldWithPath("nextCursor").description(
+                                                "다음 페이지 조회용 커서, 마지막 페이지인 경우 null").optional()
                                 )
                                 .build()
                         )
                 ));
     }
 
+    @Test
+    @WithTestUser
+    @DisplayName("세션 목록 조회 - 다음 페이지 조회")
+    void querySessionsWithCursor() throws Exception {
+        User currentUser = getCurrentUser();
+        OffsetDateTime now = OffsetDateTime.now();
+
+        for (int i = 0; i < 3; i++) {
+            var refreshTokenDto = refreshTokenProvider.generateRefreshToken(currentUser.getId(), Map.of());
+            refreshTokenRepository.save(new RefreshToken(currentUser, refreshTokenDto.tokenHash(), "127.0.0.1",
+                    UserAgent.MOBILE, now.minusMinutes(i), now.plusDays(1)));
+        }
+
+        String response = mockMvc.perform(withAuth(get("/api/me/sessions").param("size", "2")))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.sessions.length()").value(2),
+                        jsonPath("$.nextCursor").isNotEmpty()
+                )
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(response).get("nextCursor").asText();
+
+        mockMvc.perform(withAuth(get("/api/me/sessions").param("size", "2").param("cursor", nextCursor)))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.sessions.length()").value(1),
+                        jsonPath("$.nextCursor").isEmpty()
+                );
+    }
+
     @Test
     @WithTestUser
     @DisplayName("세션 삭제")
@@ -102,4 +142,35 @@ class MeApiTest extends BaseApiTest {
                         )
                 ));
     }
+
+    @Test
+    @WithTestUser
+    @DisplayName("전체 세션 삭제")
+    void revokeAllSessions() throws Exception {
+        User currentUser = getCurrentUser();
+        var refreshTokenDto =
+                refreshTokenProvider.generateRefreshToken(currentUser.getId(), Map.of("roles", currentUser.getRoles()));
+
+        RefreshToken refreshToken = refreshTokenRepository.save(
+                new RefreshToken(
+                        currentUser, refreshTokenDto.tokenHash(), "127.0.0.1", UserAgent.MOBILE, OffsetDateTime.now(),
+                        OffsetDateTime.now().plusDays(1)
+                )
+        );
+
+        mockMvc.perform(withAuth(delete("/api/me/sessions")))
+                .andExpectAll(
+                        status().isOk()
+                )
+                .andDo(MockMvcRestDocumentationWrapper.document("session-revoke-all",
+                        resource(ResourceSnippetParameters.builder()
+                                .tag("Session")
+                                .summary("현재 로그인한 사용자의 모든 세션을 만료 처리")
+                                .description("모든 RefreshToken을 만료 처리하며, 이미 발급된 AccessToken도 더 이상 사용할 수 없음")
+                                .build()
+                        )
+                ));
+
+        assertThat(refreshTokenRepository.findById(refreshToken.getId()).orElseThrow().getRevokedAt()).isNotNull();
+    }
 }
@@ -0,0 +1,190 @@
+package com.lumanlab.parentcaringservice.refreshtoken.application.service;
+
+import com.lumanlab.parentcaringservice.refreshtoken.RefreshTokenPurgeProperties;
+import com.lumanlab.parentcaringservice.refreshtoken.RefreshTokenPurgeProperties.PartitionPurgeMode;
+import com.lumanlab.parentcaringservice.refreshtoken.application.service.RefreshTokenPurgeService.PurgeResult;
+import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshToken;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenPurgeRepository;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenRepository;
+import com.lumanlab.parentcaringservice.support.BaseUsecaseTest;
+import com.lumanlab.parentcaringservice.user.domain.User;
+import com.lumanlab.parentcaringservice.user.domain.UserAgent;
+import com.lumanlab.parentcaringservice.user.domain.UserRole;
+import com.lumanlab.parentcaringservice.user.port.outp.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshTokenPurgeServiceTest extends BaseUsecaseTest {
+
+    final String IP = "127.0.0.1";
+    final UserAgent USER_AGENT = UserAgent.MOBILE;
+    @Autowired
+    RefreshTokenPurgeService refreshTokenPurgeService;
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    RefreshTokenPurgeRepository refreshTokenPurgeRepository;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("john.doe@example.com", "PASSWORD", Set.of(UserRole.PARENT)));
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 삭제 - 보관 기간이 지난 만료, 취소된 토큰 삭제")
+    void purgeExpiredAndRevokedTokens() {
+        OffsetDateTime now = OffsetDateTime.now();
+
+        // 보관 기간이 지난 만료 토큰
+        var expired = refreshTokenRepository.save(new RefreshToken(null, null, user, "EXPIRED_TOKEN_HASH", null, IP,
+                now.minusDays(90), now.minusDays(60), null, USER_AGENT, null));
+        // 보관 기간이 지난 취소 토큰
+        var revoked = refreshTokenRepository.save(new RefreshToken(null, null, user, "REVOKED_TOKEN_HASH", null, IP,
+                now.minusDays(60), now.plusDays(1), now.minusDays(45), USER_AGENT, null));
+        // 최근에 만료된 토큰
+        var recentlyExpired = refreshTokenRepository.save(new RefreshToken(user, "RECENT_TOKEN_HASH", IP, USER_AGENT,
+                now.minusDays(2), now.minusDays(1)));
+        // 활성 상태 토큰
+        var active = refreshTokenRepository.save(new RefreshToken(user, "ACTIVE_TOKEN_HASH", IP, USER_AGENT, now,
+                now.plusDays(1)));
+        refreshTokenRepository.flush();
+
+        var actual = refreshTokenPurgeService.purge(now);
+        entityManager.clear();
+
+        assertThat(actual.partitions()).isZero();
+        assertThat(actual.deletedRows()).isEqualTo(2);
+        assertThat(refreshTokenRepository.findById(expired.getId())).isEmpty();
+        assertThat(refreshTokenRepository.findById(revoked.getId())).isEmpty();
+        assertThat(refreshTokenRepository.findById(recentlyExpired.getId())).isPresent();
+        assertThat(refreshTokenRepository.findById(active.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 삭제 - 삭제된 토큰을 참조하는 회전 체인 정리")
+    void purgeCompactsRotationChain() {
+        OffsetDateTime now = OffsetDateTime.now();
+
+        var ancestor = refreshTokenRepository.save(new RefreshToken(null, null, user, "ANCESTOR_TOKEN_HASH", null, IP,
+                now.minusDays(90), now.minusDays(60), now.minusDays(60), USER_AGENT, null));
+        var child = refreshTokenRepository.save(new RefreshToken(null, null, user, "CHILD_TOKEN_HASH", ancestor, IP,
+                now.minusDays(60), now.plusDays(1), null, USER_AGENT, null));
+        refreshTokenRepository.flush();
+
+        var actual = refreshTokenPurgeService.purge(now);
+        entityManager.clear();
+
+        assertThat(actual.deletedRows()).isEqualTo(1);
+        assertThat(actual.compactedRows()).isEqualTo(1);
+        assertThat(refreshTokenRepository.findById(ancestor.getId())).isEmpty();
+        assertThat(refreshTokenRepository.findById(child.getId()))
+                .hasValueSatisfying(token -> assertThat(token.getRotatedFrom()).isNull());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 삭제 - 보관 기간이 지난 월별 파티션의 참조를 정리한 후 분리하여 삭제")
+    void purgeOldPartitionByDrop() {
+        OldPartition partition = seedOldPartition();
+
+        var actual = purge(PartitionPurgeMode.DROP, partition.now());
+
+        assertOldPartitionDetached(partition, actual);
+        assertThat(tableExists(partitionName("refresh_token_p", partition.month()))).isFalse();
+        assertThat(tableExists(partitionName("refresh_token_archive_p", partition.month()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 삭제 - 보관 기간이 지난 월별 파티션의 참조를 정리한 후 분리하여 보관")
+    void purgeOldPartitionByArchive() {
+        OldPartition partition = seedOldPartition();
+
+        var actual = purge(PartitionPurgeMode.ARCHIVE, partition.now());
+
+        assertOldPartitionDetached(partition, actual);
+        assertThat(tableExists(partitionName("refresh_token_p", partition.month()))).isFalse();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM " + partitionName("refresh_token_archive_p", partition.month())
+                        + " WHERE id = ?", Long.class, partition.ancestor().getId())).isEqualTo(1);
+    }
+
+    /**
+     * 보관 기간이 지난 월별 파티션에 토큰을 저장하고, 현재 파티션의 토큰이 이 토큰을 rotated_from으로 참조하도록 함
+     */
+    private OldPartition seedOldPartition() {
+        OffsetDateTime now = OffsetDateTime.now();
+        YearMonth month = YearMonth.from(now.atZoneSameInstant(ZoneOffset.UTC)).minusMonths(3);
+        OffsetDateTime expiredAt = month.atDay(5).atStartOfDay().atOffset(ZoneOffset.UTC);
+
+        refreshTokenPurgeRepository.createPartition(month);
+        assertThat(refreshTokenPurgeRepository.findPartitionMonths()).contains(month);
+
+        var ancestor = refreshTokenRepository.save(new RefreshToken(null, UUID.randomUUID().toString(), user,
+                "ANCESTOR_TOKEN_HASH", null, IP, expiredAt.minusDays(1), expiredAt, expiredAt, USER_AGENT, null));
+        var child = refreshTokenRepository.save(new RefreshToken(null, UUID.randomUUID().toString(), user,
+                "CHILD_TOKEN_HASH", ancestor, IP, now, now.plusDays(1), null, USER_AGENT, null));
+        refreshTokenRepository.flush();
+        entityManager.clear();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM refresh_token WHERE id = ?",
+                String.class, ancestor.getId())).isEqualTo(partitionName("refresh_token_p", month));
+
+        return new OldPartition(now, month, ancestor, child);
+    }
+
+    private PurgeResult purge(PartitionPurgeMode mode, OffsetDateTime now) {
+        RefreshTokenPurgeProperties properties = new RefreshTokenPurgeProperties();
+        properties.setPartitionPurgeMode(mode);
+
+        return new RefreshTokenPurgeService(refreshTokenPurgeRepository, properties, new SimpleMeterRegistry())
+                .purge(now);
+    }
+
+    private void assertOldPartitionDetached(OldPartition partition, PurgeResult actual) {
+        assertThat(actual.partitions()).isPositive();
+
+        // 분리 전에 다른 파티션의 참조를 정리
+        assertThat(jdbcTemplate.queryForObject("SELECT rotated_from FROM refresh_token WHERE id = ?", Long.class,
+                partition.child().getId())).isNull();
+
+        // 분리된 파티션은 파티션 목록과 refresh_token 조회에서 제외
+        assertThat(refreshTokenPurgeRepository.findPartitionMonths()).doesNotContain(partition.month());
+        assertThat(refreshTokenRepository.findById(partition.ancestor().getId())).isEmpty();
+        assertThat(refreshTokenRepository.findById(partition.child().getId())).isPresent();
+
+        // 만료된 토큰의 식별자 유일성 기록도 삭제
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM refresh_token_token_id WHERE token_id = ?",
+                Long.class, partition.ancestor().getTokenId())).isZero();
+    }
+
+    private boolean tableExists(String tableName) {
+        return Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, tableName));
+    }
+
+    private String partitionName(String prefix, YearMonth month) {
+        return prefix + month.format(DateTimeFormatter.ofPattern("yyyyMM"));
+    }
+
+    private record OldPartition(OffsetDateTime now, YearMonth month, RefreshToken ancestor, RefreshToken child) {}
+}
@@ -107,8 +107,8 @@ class RefreshTokenTest {
     @DisplayName("리프레시 토큰 - 상태 조회 - 토큰이 취소된 경우 - EXPIRED")
     void getRefreshTokenStatusExpired2() {
         refreshToken =
-                new RefreshToken(null, user, TOKEN, null, IP, OffsetDateTime.now(), OffsetDateTime.now().plusDays(1),
-                        OffsetDateTime.now(), USER_AGENT);
+                new RefreshToken(null, null, user, TOKEN, null, IP, OffsetDateTime.now(), OffsetDateTime.now().plusDays(1),
+                        OffsetDateTime.now(), USER_AGENT, null);
 
         assertThat(refreshToken.getStatus()).isEqualTo(RefreshTokenStatus.EXPIRED);
     }
@@ -120,11 +120,14 @@ class RefreshTokenTest {
         final OffsetDateTime issuedAt = OffsetDateTime.now();
         final OffsetDateTime expiredAt = issuedAt.plusDays(1);
 
-        var renewedToken = refreshToken.rotate(NEW_TOKEN, issuedAt, expiredAt, refreshToken.getIp(),
+        final String NEW_TOKEN_ID = "NEW_TOKEN_ID";
+
+        var renewedToken = refreshToken.rotate(NEW_TOKEN_ID, NEW_TOKEN, issuedAt, expiredAt, refreshToken.getIp(),
                 refreshToken.getUserAgent());
 
         assertThat(refreshToken.getStatus()).isEqualTo(RefreshTokenStatus.EXPIRED);
 
+        assertThat(renewedToken.getTokenId()).isEqualTo(NEW_TOKEN_ID);
         assertThat(renewedToken.getTokenHash()).isEqualTo(NEW_TOKEN);
         assertThat(renewedToken.getIssuedAt()).isEqualTo(issuedAt);
         assertThat(renewedToken.getExpiredAt()).isEqualTo(expiredAt);
@@ -143,8 +146,8 @@ class RefreshTokenTest {
     @DisplayName("리프레시 토큰 - 취소 - 이미 취소된 상태에서 다시 취소할 경우 예외 발생")
     void refreshTokenRevokeThrowException() {
         refreshToken =
-                new RefreshToken(null, user, TOKEN, null, IP, OffsetDateTime.now(), OffsetDateTime.now().plusDays(1),
-                        OffsetDateTime.now(), USER_AGENT);
+                new RefreshToken(null, null, user, TOKEN, null, IP, OffsetDateTime.now(), OffsetDateTime.now().plusDays(1),
+                        OffsetDateTime.now(), USER_AGENT, null);
 
         assertThatThrownBy(refreshToken::revoke).isInstanceOf(IllegalStateException.class);
     }
@@ -2,6 +2,8 @@ package com.lumanlab.parentcaringservice.refreshtoken.port.inp;
 
 import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshToken;
 import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshTokenStatus;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenDto;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenProvider;
 import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenRepository;
 import com.lumanlab.parentcaringservice.security.encoder.RefreshTokenEncoder;
 import com.lumanlab.parentcaringservice.support.BaseUsecaseTest;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.OffsetDateTime;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,6 +40,8 @@ class QueryRefreshTokenTest extends BaseUsecaseTest {
     UserRepository userRepository;
     @Autowired
     RefreshTokenEncoder refreshTokenEncoder;
+    @Autowired
+    RefreshTokenProvider refreshTokenProvider;
     User user;
     RefreshToken refreshToken;
     RefreshToken expiredRefreshToken;
@@ -58,9 +63,9 @@ class QueryRefreshTokenTest extends BaseUsecaseTest {
 
         // 취소된 리프레시 토큰
         revokedRefreshToken = refreshTokenRepository.save(
-                new RefreshToken(null, user, refreshTokenEncoder.encode(REVOKED_TOKEN), null, IP,
+                new RefreshToken(null, null, user, refreshTokenEncoder.encode(REVOKED_TOKEN), null, IP,
                         OffsetDateTime.now().minusDays(1), OffsetDateTime.now().plusDays(1),
-                        OffsetDateTime.now().minusSeconds(1), USER_AGENT));
+                        OffsetDateTime.now().minusSeconds(1), USER_AGENT, null));
     }
 
     @Test
@@ -126,6 +131,69 @@ class QueryRefreshTokenTest extends BaseUsecaseTest {
                 IllegalArgumentException.class);
     }
 
+    @Test
+    @DisplayName("리프레시 토큰 - 유저ID와 토큰으로 조회 - 토큰 식별자로 조회")
+    void queryRefreshTokenByTokenId() {
+        RefreshTokenDto refreshTokenDto = refreshTokenProvider.generateRefreshToken(user.getId(), Map.of());
+        var savedToken = saveRefreshToken(refreshTokenDto);
+
+        var actual = queryRefreshToken.findByUserAndToken(user.getId(), refreshTokenDto.token());
+
+        assertThat(actual).isEqualTo(savedToken);
+        assertThat(actual.getTokenId()).isEqualTo(refreshTokenDto.tokenId());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 유저ID와 토큰으로 조회 - 토큰 식별자로 조회 - 다른 유저의 토큰인 경우")
+    void queryRefreshTokenByTokenIdThrowException1() {
+        var user2 = userRepository.save(new User("email", "PASSWORD", Set.of(UserRole.PARENT)));
+        RefreshTokenDto refreshTokenDto = refreshTokenProvider.generateRefreshToken(user.getId(), Map.of());
+        saveRefreshToken(refreshTokenDto);
+
+        assertThatThrownBy(() -> queryRefreshToken.findByUserAndToken(user2.getId(),
+                refreshTokenDto.token())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 유저ID와 토큰으로 조회 - 토큰 식별자로 조회 - 취소된 토큰인 경우")
+    void queryRefreshTokenByTokenIdThrowException2() {
+        RefreshTokenDto refreshTokenDto = refreshTokenProvider.generateRefreshToken(user.getId(), Map.of());
+        saveRefreshToken(refreshTokenDto).revoke();
+
+        assertThatThrownBy(() -> queryRefreshToken.findByUserAndToken(user.getId(),
+                refreshTokenDto.token())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 유저ID와 토큰으로 조회 - 토큰 식별자로 조회 - 해시가 일치하지 않는 경우")
+    void queryRefreshTokenByTokenIdThrowException3() {
+        RefreshTokenDto refreshTokenDto = refreshTokenProvider.generateRefreshToken(user.getId(), Map.of());
+        RefreshTokenDto otherTokenDto = refreshTokenProvider.generateRefreshToken(user.getId(), Map.of());
+        refreshTokenRepository.save(new RefreshToken(user, refreshTokenDto.tokenId(), otherTokenDto.tokenHash(), IP,
+                USER_AGENT, refreshTokenDto.issuedAt(), refreshTokenDto.expiredAt()));
+
+        assertThatThrownBy(() -> queryRefreshToken.findByUserAndToken(user.getId(),
+                refreshTokenDto.token())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 토큰으로 소유자 조회")
+    void queryOwnerIdByToken() {
+        RefreshTokenDto refreshTokenDto = refreshTokenProvider.generateRefreshToken(user.getId(), Map.of());
+        saveRefreshToken(refreshTokenDto);
+
+        var actual = queryRefreshToken.findOwnerIdByToken(refreshTokenDto.token());
+
+        assertThat(actual).isEqualTo(user.getId());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 토큰으로 소유자 조회 - 토큰 식별자가 없는 경우")
+    void queryOwnerIdByTokenThrowException() {
+        assertThatThrownBy(() -> queryRefreshToken.findOwnerIdByToken(TOKEN))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("리프레시 토큰 - 유저와 상태로 조회 - 전체 조회")
     void queryRefreshTokenByUserAndStatus1() {
@@ -154,4 +222,55 @@ class QueryRefreshTokenTest extends BaseUsecaseTest {
         assertThat(actual.size()).isEqualTo(2);
         assertThat(actual).containsExactlyInAnyOrder(expiredRefreshToken, revokedRefreshToken);
     }
+
+    @Test
+    @DisplayName("리프레시 토큰 - ACTIVE 상태 세션 목록 조회")
+    void queryActiveSessions() {
+        var actual = queryRefreshToken.findActiveSessions(user.getId(), null, 20);
+
+        assertThat(actual.sessions()).hasSize(1);
+        assertThat(actual.sessions().getFirst().id()).isEqualTo(refreshToken.getId());
+        assertThat(actual.sessions().getFirst().ip()).isEqualTo(IP);
+        assertThat(actual.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - ACTIVE 상태 세션 목록 조회 - 커서로 다음 페이지 조회")
+    void queryActiveSessionsWithCursor() {
+        // 발급 시간이 같은 세션은 ID 역순으로 조회
+        OffsetDateTime issuedAt = OffsetDateTime.now().minusHours(1);
+        var sameIssuedAt1 = refreshTokenRepository.save(new RefreshToken(user, "SESSION_TOKEN_HASH_1", IP, USER_AGENT,
+                issuedAt, OffsetDateTime.now().plusDays(1)));
+        var sameIssuedAt2 = refreshTokenRepository.save(new RefreshToken(user, "SESSION_TOKEN_HASH_2", IP, USER_AGENT,
+                issuedAt, OffsetDateTime.now().plusDays(1)));
+
+        var firstPage = queryRefreshToken.findActiveSessions(user.getId(), null, 2);
+        var secondPage = queryRefreshToken.findActiveSessions(user.getId(), firstPage.nextCursor(), 2);
+
+        assertThat(firstPage.sessions()).extracting(RefreshTokenSessionDto::id)
+                .containsExactly(refreshToken.getId(), sameIssuedAt2.getId());
+        assertThat(firstPage.nextCursor()).isNotNull();
+        assertThat(secondPage.sessions()).extracting(RefreshTokenSessionDto::id)
+                .containsExactly(sameIssuedAt1.getId());
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - ACTIVE 상태 세션 목록 조회 - 페이지 크기가 올바르지 않은 경우")
+    void queryActiveSessionsThrowException1() {
+        assertThatThrownBy(() -> queryRefreshToken.findActiveSessions(user.getId(), null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - ACTIVE 상태 세션 목록 조회 - 커서 형식이 올바르지 않은 경우")
+    void queryActiveSessionsThrowException2() {
+        assertThatThrownBy(() -> queryRefreshToken.findActiveSessions(user.getId(), "INVALID_CURSOR", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private RefreshToken saveRefreshToken(RefreshTokenDto refreshTokenDto) {
+        return refreshTokenRepository.save(new RefreshToken(user, refreshTokenDto.tokenId(),
+                refreshTokenDto.tokenHash(), IP, USER_AGENT, refreshTokenDto.issuedAt(), refreshTokenDto.expiredAt()));
+    }
 }
@@ -1,23 +1,39 @@
 package com.lumanlab.parentcaringservice.refreshtoken.port.inp;
 
+import com.lumanlab.parentcaringservice.refreshtoken.RefreshTokenStoreProperties;
+import com.lumanlab.parentcaringservice.refreshtoken.application.service.RefreshTokenPersister;
+import com.lumanlab.parentcaringservice.refreshtoken.application.service.RefreshTokenStore;
+import com.lumanlab.parentcaringservice.refreshtoken.application.service.RefreshTokenWriteBehindWriter;
 import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshToken;
+import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshTokenState;
 import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshTokenStatus;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenDto;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenProvider;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenRedisRepository;
 import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenRepository;
+import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenUnpublishedRevocationRepository;
 import com.lumanlab.parentcaringservice.security.encoder.RefreshTokenEncoder;
 import com.lumanlab.parentcaringservice.support.BaseUsecaseTest;
+import com.lumanlab.parentcaringservice.user.application.service.UserStateService;
 import com.lumanlab.parentcaringservice.user.domain.User;
 import com.lumanlab.parentcaringservice.user.domain.UserAgent;
 import com.lumanlab.parentcaringservice.user.domain.UserRole;
+import com.lumanlab.parentcaringservice.user.domain.UserStateChangedEvent;
 import com.lumanlab.parentcaringservice.user.port.outp.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import java.time.OffsetDateTime;
-import java.util.NoSuchElementException;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -28,6 +44,7 @@ class UpdateRefreshTokenTest extends BaseUsecaseTest {
     final String EMAIL = "john.doe@example.com";
     final String PASSWORD = "PASSWORD";
     final String TOKEN = "TOKEN";
+    final String TOKEN_ID = "TOKEN_ID";
     final String IP = "127.0.0.1";
     final UserAgent USER_AGENT = UserAgent.MOBILE;
     @Autowired
@@ -36,8 +53,22 @@ class UpdateRefreshTokenTest extends BaseUsecaseTest {
     RefreshTokenRepository refreshTokenRepository;
     @Autowired
     UserRepository userRepository;
+    @Autowired
+    RefreshTokenProvider refreshTokenProvider;
+    @Autowired
+    UserStateService userStateService;
+    @Autowired
+    RefreshTokenUnpublishedRevocationRepository refreshTokenUnpublishedRevocationRepository;
+    @Autowired
+    RefreshTokenWriteBehindWriter refreshTokenWriteBehindWriter;
+    @Autowired
+    RefreshTokenPersister refreshTokenPersister;
+    @Autowired
+    RefreshTokenStoreProperties refreshTokenStoreProperties;
     @MockitoSpyBean
     RefreshTokenEncoder refreshTokenEncoder;
+    @MockitoSpyBean
+    RefreshTokenRedisRepository refreshTokenRedisRepository;
     User user;
     RefreshToken refreshToken;
 
@@ -63,7 +94,7 @@ class UpdateRefreshTokenTest extends BaseUsecaseTest {
         refreshTokenRepository.deleteAll();
         refreshTokenRepository.flush();
 
-        updateRefreshToken.generate(user.getId(), TOKEN_HASH, IP, USER_AGENT, OffsetDateTime.now(),
+        updateRefreshToken.generate(user.getId(), TOKEN_ID, TOKEN_HASH, IP, USER_AGENT, OffsetDateTime.now(),
                 OffsetDateTime.now().plusDays(1));
 
         RefreshToken actual = refreshTokenRepository.findAllByUser(user).stream().findFirst().orElse(null);
@@ -71,6 +102,7 @@ class UpdateRefreshTokenTest extends BaseUsecaseTest {
         assertThat(actual).isNotNull();
         assertThat(refreshTokenEncoder.matches(TOKEN, actual.getTokenHash())).isTrue();
         assertThat(actual.getUser()).isEqualTo(user);
+        assertThat(actual.getTokenId()).isEqualTo(TOKEN_ID);
         assertThat(actual.getIssuedAt()).isNotNull();
         assertThat(actual.getExpiredAt()).isNotNull();
         assertThat(actual.getIssuedAt().isBefore(OffsetDateTime.now())).isTrue();
@@ -79,12 +111,31 @@ class UpdateRefreshTokenTest extends BaseUsecaseTest {
     }
 
     @Test
-    @DisplayName("리프레시 토큰 - 생성 - 존재하지 않는 유저로 생성 시 예외 발생")
+    @DisplayName("리프레시 토큰 - 생성 - 존재하지 않는 유저로 생성 시 DB 저장 실패")
     void generateRefreshTokenThrowException() {
         var nonExistId = Long.MAX_VALUE;
 
-        assertThatThrownBy(() -> updateRefreshToken.generate(nonExistId, TOKEN, IP, USER_AGENT, OffsetDateTime.now(),
-                OffsetDateTime.now().plusDays(1))).isInstanceOf(NoSuchElementException.class);
+        // 사용자를 조회하지 않고 참조만 사용하므로, 외래 키 제약 조건으로 저장이 거부됨
+        assertThatThrownBy(() -> {
+            updateRefreshToken.generate(nonExistId, TOKEN_ID, TOKEN, IP, USER_AGENT,
+                    OffsetDateTime.now(), OffsetDateTime.now().plusDays(1));
+            refreshTokenRepository.flush();
+        }).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 생성 - 만료 시간이 달라도 같은 토큰 식별자로 저장 불가")
+    void rejectDuplicateTokenId() {
+        String tokenId = UUID.randomUUID().toString();
+        OffsetDateTime issuedAt = OffsetDateTime.now();
+
+        refreshTokenRepository.saveAndFlush(
+                new RefreshToken(user, tokenId, "FIRST_TOKEN_HASH", IP, USER_AGENT, issuedAt, issuedAt.plusDays(1)));
+
+        // 다른 월별 파티션에 저장되는 만료 시간으로 같은 토큰 식별자를 저장
+        assertThatThrownBy(() -> refreshTokenRepository.saveAndFlush(new RefreshToken(user, tokenId,
+                "SECOND_TOKEN_HASH", IP, USER_AGENT, issuedAt, issuedAt.plusDays(40))))
+                .isInstanceOf(DataIntegrityViolationException.class);
     }
 
     @Test
@@ -94,7 +145,7 @@ class UpdateRefreshTokenTest extends BaseUsecaseTest {
         OffsetDateTime issuedAt = OffsetDateTime.now();
         OffsetDateTime expiredAt = issuedAt.plusDays(1);
 
-        updateRefreshToken.rotate(user.getId(), TOKEN, tokenHash, IP, USER_AGENT, issuedAt, expiredAt);
+        updateRefreshToken.rotate(user.getId(), TOKEN, TOKEN_ID, tokenHash, IP, USER_AGENT, issuedAt, expiredAt);
 
         var actual = refreshTokenRepository.findAllByUser(user);
         var actualActiveToken = actual.stream()
@@ -114,6 +165,7 @@ class UpdateRefreshTokenTest extends BaseUsecaseTest {
         assertThat(actualActiveToken).isNotNull();
         assertThat(actualActiveToken).isNotEqualTo(refreshToken);
         assertThat(actualActiveToken.getRotatedFrom()).isEqualTo(refreshToken);
+        assertThat(actualActiveToken.getTokenId()).isEqualTo(TOKEN_ID);
 
         assertThat(actualExpiredTokens).isNotNull();
         assertThat(actualExpiredTokens).isEqualTo(refreshToken);
@@ -129,8 +181,118 @@ class UpdateRefreshTokenTest extends BaseUsecaseTest {
         OffsetDateTime issuedAt = OffsetDateTime.now();
         OffsetDateTime expiredAt = issuedAt.plusDays(1);
 
-        assertThatThrownBy(() -> updateRefreshToken.rotate(user.getId(), TOKEN, tokenHash, IP, USER_AGENT, issuedAt,
-                expiredAt)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> updateRefreshToken.rotate(user.getId(), TOKEN, TOKEN_ID, tokenHash, IP, USER_AGENT,
+                issuedAt, expiredAt)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 회전 - 토큰 식별자가 있는 토큰")
+    void rotateRefreshTokenWithTokenId() {
+        RefreshTokenDto currentDto = generateRefreshToken();
+        RefreshTokenDto renewedDto = refreshTokenProvider.generateRefreshToken(user.getId(), Map.of());
+
+        updateRefreshToken.rotate(user.getId(), currentDto.token(), renewedDto.tokenId(), renewedDto.tokenHash(), IP,
+                USER_AGENT, renewedDto.issuedAt(), renewedDto.expiredAt());
+
+        var actualCurrentToken = refreshTokenRepository.findByTokenId(currentDto.tokenId()).orElseThrow();
+        var actualRenewedToken = refreshTokenRepository.findByTokenId(renewedDto.tokenId()).orElseThrow();
+
+        assertThat(actualCurrentToken.getStatus()).isEqualTo(RefreshTokenStatus.EXPIRED);
+        assertThat(actualRenewedToken.getStatus()).isEqualTo(RefreshTokenStatus.ACTIVE);
+        assertThat(actualRenewedToken.getRotatedFrom()).isEqualTo(actualCurrentToken);
+        assertThat(refreshTokenRedisRepository.find(currentDto.tokenId()).revokedAt()).isNotNull();
+        assertThat(refreshTokenRedisRepository.find(renewedDto.tokenId()).revokedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 회전 - 이미 회전된 토큰으로 회전 시 예외 발생")
+    void rotateRevokedRefreshTokenThrowException() {
+        RefreshTokenDto currentDto = generateRefreshToken();
+        RefreshTokenDto renewedDto = refreshTokenProvider.generateRefreshToken(user.getId(), Map.of());
+        RefreshTokenDto reusedDto = refreshTokenProvider.generateRefreshToken(user.getId(), Map.of());
+
+        updateRefreshToken.rotate(user.getId(), currentDto.token(), renewedDto.tokenId(), renewedDto.tokenHash(), IP,
+                USER_AGENT, renewedDto.issuedAt(), renewedDto.expiredAt());
+
+        assertThatThrownBy(() -> updateRefreshToken.rotate(user.getId(), currentDto.token(), reusedDto.tokenId(),
+                reusedDto.tokenHash(), IP, USER_AGENT, reusedDto.issuedAt(), reusedDto.expiredAt()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 회전 - 동시에 같은 토큰을 회전한 경우 나중에 반영되는 회전은 실패")
+    void rotateRefreshTokenConcurrently() {
+        RefreshTokenDto currentDto = generateRefreshToken();
+        RefreshTokenDto renewedDto = refreshTokenProvider.generateRefreshToken(user.getId(), Map.of());
+        RefreshTokenDto concurrentDto = refreshTokenProvider.generateRefreshToken(user.getId(), Map.of());
+        RefreshTokenState activeState = refreshTokenRedisRepository.find(currentDto.tokenId());
+
+        updateRefreshToken.rotate(user.getId(), currentDto.token(), renewedDto.tokenId(), renewedDto.tokenHash(), IP,
+                USER_AGENT, renewedDto.issuedAt(), renewedDto.expiredAt());
+
+        // 첫 번째 회전이 반영되기 전에 조회한 요청을 재현
+        doReturn(activeState).when(refreshTokenRedisRepository).find(currentDto.tokenId());
+
+        assertThatThrownBy(() -> updateRefreshToken.rotate(user.getId(), currentDto.token(), concurrentDto.tokenId(),
+                concurrentDto.tokenHash(), IP, USER_AGENT, concurrentDto.issuedAt(), concurrentDto.expiredAt()))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(refreshTokenRepository.findByTokenId(concurrentDto.tokenId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 회전 - Redis 장애 시 DB로 회전")
+    void rotateRefreshTokenWhenRedisUnavailable() {
+        RefreshTokenDto currentDto = generateRefreshToken();
+        RefreshTokenDto renewedDto = refreshTokenProvider.generateRefreshToken(user.getId(), Map.of());
+
+        RedisConnectionFailureException exception = new RedisConnectionFailureException("Redis is unavailable");
+        doThrow(exception).when(refreshTokenRedisRepository).find(any(String.class));
+        doThrow(exception).when(refreshTokenRedisRepository).saveIfAbsent(any(RefreshTokenState.class));
+        doThrow(exception).when(refreshTokenRedisRepository)
+                .rotate(any(RefreshTokenState.class), any(RefreshTokenState.class));
+
+        updateRefreshToken.rotate(user.getId(), currentDto.token(), renewedDto.tokenId(), renewedDto.tokenHash(), IP,
+                USER_AGENT, renewedDto.issuedAt(), renewedDto.expiredAt());
+
+        var actualCurrentToken = refreshTokenRepository.findByTokenId(currentDto.tokenId()).orElseThrow();
+        var actualRenewedToken = refreshTokenRepository.findByTokenId(renewedDto.tokenId()).orElseThrow();
+
+        assertThat(actualCurrentToken.getStatus()).isEqualTo(RefreshTokenStatus.EXPIRED);
+        assertThat(actualRenewedToken.getStatus()).isEqualTo(RefreshTokenStatus.ACTIVE);
+        assertThat(actualRenewedToken.getRotatedFrom()).isEqualTo(actualCurrentToken);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 회전 - Redis 장애 중 취소된 토큰은 재시작 후에도 DB의 취소 상태로 조회하고 복구 후 Redis에 반영")
+    void reconcileRevocationAfterRedisOutage() {
+        RefreshTokenDto currentDto = generateRefreshToken();
+        RefreshTokenDto renewedDto = refreshTokenProvider.generateRefreshToken(user.getId(), Map.of());
+
+        RedisConnectionFailureException exception = new RedisConnectionFailureException("Redis is unavailable");
+        doThrow(exception).when(refreshTokenRedisRepository)
+                .rotate(any(RefreshTokenState.class), any(RefreshTokenState.class));
+        doThrow(exception).when(refreshTokenRedisRepository).saveAll(anyList());
+
+        updateRefreshToken.rotate(user.getId(), currentDto.token(), renewedDto.tokenId(), renewedDto.tokenHash(), IP,
+                USER_AGENT, renewedDto.issuedAt(), renewedDto.expiredAt());
+
+        // Redis에는 장애 전의 ACTIVE 상태가 남아 있고, 취소는 DB의 미반영 취소 목록에 기록됨
+        assertThat(refreshTokenRedisRepository.find(currentDto.tokenId()).revokedAt()).isNull();
+        assertThat(refreshTokenUnpublishedRevocationRepository.findTokenIds(10)).contains(currentDto.tokenId());
+
+        // 메모리 상태가 없는 재시작한 인스턴스에서도 DB의 취소 상태로 조회
+        RefreshTokenStore restartedStore = new RefreshTokenStore(refreshTokenRedisRepository, refreshTokenRepository,
+                refreshTokenUnpublishedRevocationRepository, refreshTokenWriteBehindWriter, refreshTokenPersister,
+                refreshTokenStoreProperties, new SimpleMeterRegistry());
+        assertThat(restartedStore.find(currentDto.tokenId()).orElseThrow().revokedAt()).isNotNull();
+
+        // Redis 복구 후 취소 상태를 Redis에 반영하고 목록에서 삭제
+        doCallRealMethod().when(refreshTokenRedisRepository).saveAll(anyList());
+
+        assertThat(restartedStore.reconcileUnpublishedRevocations()).isEqualTo(1);
+        assertThat(refreshTokenRedisRepository.find(currentDto.tokenId()).revokedAt()).isNotNull();
+        assertThat(refreshTokenUnpublishedRevocationRepository.findTokenIds(10)).isEmpty();
+        assertThat(restartedStore.reconcileUnpublishedRevocations()).isZero();
     }
 
     @Test
@@ -150,4 +312,61 @@ class UpdateRefreshTokenTest extends BaseUsecaseTest {
         assertThat(actualExpiredToken).isNotNull();
         assertThat(actualExpiredToken).isEqualTo(refreshToken);
     }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 취소 - 토큰 식별자가 있는 토큰은 Redis에 취소 상태 반영")
+    void revokeRefreshTokenWithTokenId() {
+        RefreshTokenDto refreshTokenDto = generateRefreshToken();
+        var savedToken = refreshTokenRepository.findByTokenId(refreshTokenDto.tokenId()).orElseThrow();
+
+        updateRefreshToken.revoke(user.getId(), savedToken.getId());
+
+        assertThat(refreshTokenRedisRepository.find(refreshTokenDto.tokenId()).revokedAt()).isNotNull();
+        assertThatThrownBy(() -> updateRefreshToken.rotate(user.getId(), refreshTokenDto.token(), TOKEN_ID, TOKEN, IP,
+                USER_AGENT, OffsetDateTime.now(), OffsetDateTime.now().plusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 전체 취소")
+    void revokeAllRefreshTokens() {
+        RefreshTokenDto refreshTokenDto = generateRefreshToken();
+        var otherUser = userRepository.save(new User("other@example.com", PASSWORD, Set.of(UserRole.PARENT)));
+        var otherToken = refreshTokenRepository.save(new RefreshToken(otherUser, "OTHER_TOKEN_HASH", IP, USER_AGENT,
+                OffsetDateTime.now(), OffsetDateTime.now().plusDays(1)));
+
+        var actual = updateRefreshToken.revokeAll(user.getId());
+
+        assertThat(actual).isEqualTo(2);
+        assertThat(refreshTokenRepository.findById(refreshToken.getId()).orElseThrow().getRevokedAt()).isNotNull();
+        assertThat(refreshTokenRepository.findByTokenId(refreshTokenDto.tokenId()).orElseThrow().getStatus())
+                .isEqualTo(RefreshTokenStatus.EXPIRED);
+        assertThat(refreshTokenRepository.findById(otherToken.getId()).orElseThrow().getStatus())
+                .isEqualTo(RefreshTokenStatus.ACTIVE);
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getTokensInvalidBefore()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 - 전체 취소 - Redis에 ACTIVE 상태로 남아 있는 토큰도 회전 불가")
+    void revokeAllRefreshTokensRejectsRedisToken() {
+        RefreshTokenDto refreshTokenDto = generateRefreshToken();
+
+        updateRefreshToken.revokeAll(user.getId());
+        // 트랜잭션 커밋 이후 발행되는 사용자 상태 무효화를 재현
+        userStateService.onUserStateChanged(new UserStateChangedEvent(user.getId()));
+
+        assertThat(refreshTokenRedisRepository.find(refreshTokenDto.tokenId()).revokedAt()).isNull();
+        assertThatThrownBy(() -> updateRefreshToken.rotate(user.getId(), refreshTokenDto.token(), TOKEN_ID, TOKEN, IP,
+                USER_AGENT, OffsetDateTime.now(), OffsetDateTime.now().plusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private RefreshTokenDto generateRefreshToken() {
+        RefreshTokenDto refreshTokenDto = refreshTokenProvider.generateRefreshToken(user.getId(), Map.of());
+
+        updateRefreshToken.generate(user.getId(), refreshTokenDto.tokenId(), refreshTokenDto.tokenHash(), IP,
+                USER_AGENT, refreshTokenDto.issuedAt(), refreshTokenDto.expiredAt());
+
+        return refreshTokenDto;
+    }
 }
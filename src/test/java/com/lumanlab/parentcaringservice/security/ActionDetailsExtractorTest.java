@@ -0,0 +1,134 @@
+package com.lumanlab.parentcaringservice.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lumanlab.parentcaringservice.impersonationlog.domain.ImpersonationLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActionDetailsExtractorTest {
+
+    final String METHOD = "POST";
+    final String ENDPOINT = "/api/me/profile";
+
+    ObjectMapper objectMapper;
+    ActionDetailsExtractor extractor;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        extractor = new ActionDetailsExtractor(objectMapper);
+    }
+
+    @Test
+    @DisplayName("활동 내역 생성 - JSON 본문은 그대로 payload에 저장")
+    void serializeJsonPayload() throws Exception {
+        String details = serialize("{\"nickname\": \"test\", \"tags\": [1, 2]}", false);
+
+        JsonNode node = objectMapper.readTree(details);
+        assertThat(node.get("method").asText()).isEqualTo(METHOD);
+        assertThat(node.get("endpoint").asText()).isEqualTo(ENDPOINT);
+        assertThat(node.get("payload").get("nickname").asText()).isEqualTo("test");
+        assertThat(node.get("payload").get("tags")).hasSize(2);
+        assertThat(node.has("truncated")).isFalse();
+    }
+
+    @Test
+    @DisplayName("활동 내역 생성 - 본문이 없으면 payload는 null")
+    void serializeEmptyPayload() throws Exception {
+        String details = serialize("", false);
+
+        JsonNode node = objectMapper.readTree(details);
+        assertThat(node.get("payload").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("활동 내역 생성 - JSON이 아닌 본문은 문자열로 저장")
+    void serializeNonJsonPayload() throws Exception {
+        String details = serialize("nickname=\"test\"\n", false);
+
+        JsonNode node = objectMapper.readTree(details);
+        assertThat(node.get("payload").asText()).isEqualTo("nickname=\"test\"\n");
+        assertThat(node.has("truncated")).isFalse();
+    }
+
+    @Test
+    @DisplayName("활동 내역 생성 - 길이를 넘는 JSON 본문은 문자열로 잘라서 저장")
+    void serializeOversizedJsonPayload() throws Exception {
+        // 이스케이프 문자를 포함한 올바른 JSON 본문
+        String payload = "{\"memo\":\"" + "가\\\"".repeat(ImpersonationLog.ACTION_DETAILS_LENGTH) + "\"}";
+        assertThat(objectMapper.readTree(payload).get("memo").asText()).startsWith("가\"");
+
+        String details = serialize(payload, false);
+
+        JsonNode node = objectMapper.readTree(details);
+        assertThat(details.length()).isLessThanOrEqualTo(ImpersonationLog.ACTION_DETAILS_LENGTH);
+        assertThat(payload).startsWith(node.get("payload").asText());
+        assertThat(node.get("truncated").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("활동 내역 생성 - 캐시 제한으로 잘린 본문은 문자열로 저장")
+    void serializeTruncatedBody() throws Exception {
+        String details = serialize("{\"nickname\":\"te", true);
+
+        JsonNode node = objectMapper.readTree(details);
+        assertThat(node.get("payload").asText()).isEqualTo("{\"nickname\":\"te");
+        assertThat(node.get("truncated").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("활동 내역 생성 - Content-Length가 없는 chunked 요청도 캐시 제한에 도달하면 잘린 것으로 처리")
+    void extractChunkedRequestOverCacheLimit() throws Exception {
+        String payload = "{\"memo\":\"" + "a".repeat(ActionDetailsExtractor.BODY_CACHE_LIMIT) + "\"}";
+        MockHttpServletRequest request = new MockHttpServletRequest(METHOD, ENDPOINT) {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+        };
+        request.setContent(payload.getBytes(StandardCharsets.UTF_8));
+
+        ContentCachingRequestWrapper cachingRequest =
+                new ContentCachingRequestWrapper(request, ActionDetailsExtractor.BODY_CACHE_LIMIT);
+        StreamUtils.drain(cachingRequest.getInputStream());
+
+        String details = extractor.extractActionDetails(cachingRequest);
+
+        JsonNode node = objectMapper.readTree(details);
+        assertThat(details.length()).isLessThanOrEqualTo(ImpersonationLog.ACTION_DETAILS_LENGTH);
+        assertThat(payload).startsWith(node.get("payload").asText());
+        assertThat(node.get("truncated").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("활동 내역 생성 - 서로게이트 쌍을 나누지 않고 자름")
+    void serializeWithoutSplittingSurrogatePair() throws Exception {
+        String payload = "😀".repeat(ImpersonationLog.ACTION_DETAILS_LENGTH);
+
+        String details = serialize(payload, false);
+
+        JsonNode node = objectMapper.readTree(details);
+        String truncatedPayload = node.get("payload").asText();
+        assertThat(details.length()).isLessThanOrEqualTo(ImpersonationLog.ACTION_DETAILS_LENGTH);
+        assertThat(truncatedPayload.length() % 2).isZero();
+        assertThat(Character.isHighSurrogate(truncatedPayload.charAt(truncatedPayload.length() - 1))).isFalse();
+    }
+
+    private String serialize(String payload, boolean bodyTruncated) {
+        return extractor.serialize(METHOD, ENDPOINT, payload.getBytes(StandardCharsets.UTF_8), bodyTruncated);
+    }
+}
@@ -0,0 +1,53 @@
+package com.lumanlab.parentcaringservice.security.domain;
+
+import com.lumanlab.parentcaringservice.user.domain.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoleAuthorityTableTest {
+
+    @Test
+    @DisplayName("역할 테이블 - 비트마스크로 역할과 권한 조회")
+    void lookupRolesAndAuthorities() {
+        int mask = UserRole.toMask(Set.of(UserRole.PARENT, UserRole.ADMIN));
+
+        assertThat(RoleAuthorityTable.roles(mask)).containsExactlyInAnyOrder(UserRole.PARENT, UserRole.ADMIN);
+        assertThat(RoleAuthorityTable.authorities(mask))
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder("ROLE_PARENT", "ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("역할 테이블 - 역할이 없으면 기본 역할(PARENT)")
+    void lookupEmptyMask() {
+        assertThat(RoleAuthorityTable.roles(0)).containsExactly(UserRole.PARENT);
+        assertThat(RoleAuthorityTable.authorities(0))
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_PARENT");
+    }
+
+    @Test
+    @DisplayName("역할 테이블 - 같은 비트마스크는 같은 변경 불가능한 인스턴스 반환")
+    void lookupSharedImmutableInstances() {
+        int mask = UserRole.MASTER.getMask();
+
+        assertThat(RoleAuthorityTable.roles(mask)).isSameAs(RoleAuthorityTable.roles(mask));
+        assertThat(RoleAuthorityTable.authorities(mask)).isSameAs(RoleAuthorityTable.authorities(mask));
+        assertThatThrownBy(() -> RoleAuthorityTable.roles(mask).add(UserRole.PARENT))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("역할 테이블 - 정의되지 않은 비트는 무시")
+    void lookupUnknownBits() {
+        int mask = UserRole.ADMIN.getMask() | (1 << 20);
+
+        assertThat(RoleAuthorityTable.roles(mask)).containsExactly(UserRole.ADMIN);
+    }
+}
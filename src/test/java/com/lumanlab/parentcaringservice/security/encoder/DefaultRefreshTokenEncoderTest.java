@@ -0,0 +1,78 @@
+package com.lumanlab.parentcaringservice.security.encoder;
+
+import com.lumanlab.parentcaringservice.security.jwt.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DefaultRefreshTokenEncoderTest {
+
+    final String PEPPER = "test-refresh-token-pepper-0123456789abcdef";
+    final String TOKEN = "TOKEN";
+
+    DefaultRefreshTokenEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new DefaultRefreshTokenEncoder(jwtProperties(PEPPER));
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 인코딩 - HMAC-SHA256 접두사를 붙여서 인코딩")
+    void encode() {
+        String encoded = encoder.encode(TOKEN);
+
+        assertThat(encoded).startsWith("{hmac-sha256}");
+        assertThat(encoded.length()).isLessThanOrEqualTo(100);
+        assertThat(encoder.encode(TOKEN)).isEqualTo(encoded);
+        assertThat(encoder.matches(TOKEN, encoded)).isTrue();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 인코딩 - 토큰이 다른 경우 불일치")
+    void matchesOtherToken() {
+        String encoded = encoder.encode(TOKEN);
+
+        assertThat(encoder.matches("OTHER_TOKEN", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 인코딩 - pepper가 다른 경우 불일치")
+    void matchesOtherPepper() {
+        String encoded = new DefaultRefreshTokenEncoder(jwtProperties(PEPPER + "-other")).encode(TOKEN);
+
+        assertThat(encoder.matches(TOKEN, encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 인코딩 - 이전 BCrypt 해시 검증")
+    void matchesLegacyBCryptHash() {
+        String legacyEncoded = new BCryptRefreshTokenEncoder().encode(TOKEN);
+
+        assertThat(encoder.matches(TOKEN, legacyEncoded)).isTrue();
+        assertThat(encoder.matches("OTHER_TOKEN", legacyEncoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 인코딩 - 형식이 올바르지 않은 해시는 불일치")
+    void matchesMalformedHash() {
+        assertThat(encoder.matches(TOKEN, "{hmac-sha256}not base64!")).isFalse();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 인코딩 - pepper가 짧은 경우 예외 발생")
+    void shortPepperThrowException() {
+        assertThatThrownBy(() -> new DefaultRefreshTokenEncoder(jwtProperties("short")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private JwtProperties jwtProperties(String pepper) {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.getRefreshToken().setPepper(pepper);
+
+        return jwtProperties;
+    }
+}
@@ -0,0 +1,164 @@
+package com.lumanlab.parentcaringservice.security.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.lumanlab.parentcaringservice.impersonationlog.domain.ImpersonationLog;
+import com.lumanlab.parentcaringservice.impersonationlog.domain.ImpersonationType;
+import com.lumanlab.parentcaringservice.impersonationlog.port.inp.QueryImpersonationLog;
+import com.lumanlab.parentcaringservice.integration.google.OAuth2GoogleProfileClient;
+import com.lumanlab.parentcaringservice.oauth2.domain.OAuth2Provider;
+import com.lumanlab.parentcaringservice.oauth2.port.outp.UserProfileResponse;
+import com.lumanlab.parentcaringservice.security.ActionDetailsExtractor;
+import com.lumanlab.parentcaringservice.security.jwt.application.service.VerifiedAccessTokenCache;
+import com.lumanlab.parentcaringservice.support.BaseApiTest;
+import com.lumanlab.parentcaringservice.user.adapter.in.web.view.req.LinkOAuth2ViewReq;
+import com.lumanlab.parentcaringservice.user.application.service.UserStateService;
+import com.lumanlab.parentcaringservice.user.domain.User;
+import com.lumanlab.parentcaringservice.user.domain.UserAgent;
+import com.lumanlab.parentcaringservice.user.domain.UserRole;
+import com.lumanlab.parentcaringservice.user.domain.UserStateChangedEvent;
+import com.lumanlab.parentcaringservice.user.port.outp.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class JwtAuthenticationFilterTest extends BaseApiTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserStateService userStateService;
+
+    @Autowired
+    private VerifiedAccessTokenCache verifiedAccessTokenCache;
+
+    @Autowired
+    private QueryImpersonationLog queryImpersonationLog;
+
+    @MockitoSpyBean
+    private ActionDetailsExtractor actionDetailsExtractor;
+
+    @MockitoBean
+    private OAuth2GoogleProfileClient oAuth2GoogleProfileClient;
+
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUpUser() {
+        user = authHelper.createUser("filter@example.com", "password", null, UserRole.PARENT);
+        token = authHelper.getToken(user);
+    }
+
+    @Test
+    @DisplayName("JWT 인증 - 검증된 토큰은 캐시에 저장하고 같은 토큰으로 다시 인증")
+    void authenticateWithCachedToken() throws Exception {
+        mockMvc.perform(withAuth(get("/api/users/profile"), token)).andExpect(status().isOk());
+
+        assertThat(verifiedAccessTokenCache.get(token)).isNotNull();
+
+        mockMvc.perform(withAuth(get("/api/users/profile"), token)).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("JWT 인증 - 캐시된 토큰이라도 탈퇴한 사용자는 인증 실패")
+    void rejectCachedTokenOfWithdrawnUser() throws Exception {
+        mockMvc.perform(withAuth(get("/api/users/profile"), token)).andExpect(status().isOk());
+        assertThat(verifiedAccessTokenCache.get(token)).isNotNull();
+
+        user.withdraw();
+        userRepository.saveAndFlush(user);
+        // 트랜잭션 커밋 이후 발행되는 사용자 상태 무효화를 재현
+        userStateService.onUserStateChanged(new UserStateChangedEvent(user.getId()));
+
+        mockMvc.perform(withAuth(get("/api/users/profile"), token)).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("JWT 인증 - 캐시된 토큰이라도 전체 세션 로그아웃 이전에 발급된 토큰은 인증 실패")
+    void rejectCachedTokenIssuedBeforeInvalidation() throws Exception {
+        mockMvc.perform(withAuth(get("/api/users/profile"), token)).andExpect(status().isOk());
+        assertThat(verifiedAccessTokenCache.get(token)).isNotNull();
+
+        // AccessToken의 발급 시간(iat)은 초 단위이므로 다음 초를 기준으로 무효화
+        user.invalidateTokens(OffsetDateTime.now().plusSeconds(1));
+        userRepository.saveAndFlush(user);
+        userStateService.onUserStateChanged(new UserStateChangedEvent(user.getId()));
+
+        mockMvc.perform(withAuth(get("/api/users/profile"), token)).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("JWT 인증 - 임퍼소네이션 요청은 요청 처리 이후 본문을 활동 내역에 저장")
+    void registerImpersonationActionWithBody() throws Exception {
+        User admin = authHelper.createUser("filter-admin@example.com", "password", null, UserRole.MASTER);
+        String impersonationToken = impersonate(admin, user);
+        doReturn(new UserProfileResponse(OAuth2Provider.GOOGLE, "OAUTH2_ID", "user@example.com", "user", 300L))
+                .when(oAuth2GoogleProfileClient).requestProfile(any(String.class));
+
+        String body = objectMapper.writeValueAsString(new LinkOAuth2ViewReq("OAUTH2_ACCESS_TOKEN"));
+
+        mockMvc.perform(withAuth(post("/api/users/oauth2-link/{provider}", OAuth2Provider.GOOGLE.name()),
+                                impersonationToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk());
+
+        verify(actionDetailsExtractor).extractActionDetails(any(ContentCachingRequestWrapper.class));
+
+        List<ImpersonationLog> actions = queryImpersonationLog.findAllByAdminAndTargetUser(admin.getId(), user.getId())
+                .stream()
+                .filter(log -> log.getType() == ImpersonationType.ACTION)
+                .toList();
+        assertThat(actions).hasSize(1);
+
+        JsonNode actionDetails = objectMapper.readTree(actions.getFirst().getActionDetails());
+        assertThat(actionDetails.get("method").asText()).isEqualTo("POST");
+        assertThat(actionDetails.get("endpoint").asText()).isEqualTo("/api/users/oauth2-link/GOOGLE");
+        assertThat(actionDetails.get("payload")).isEqualTo(objectMapper.readTree(body));
+    }
+
+    @Test
+    @DisplayName("JWT 인증 - 일반 요청은 본문을 캐싱하지 않고 활동 내역도 저장하지 않음")
+    void skipActionDetailsForNormalRequest() throws Exception {
+        doReturn(new UserProfileResponse(OAuth2Provider.GOOGLE, "OAUTH2_ID", "user@example.com", "user", 300L))
+                .when(oAuth2GoogleProfileClient).requestProfile(any(String.class));
+
+        mockMvc.perform(withAuth(post("/api/users/oauth2-link/{provider}", OAuth2Provider.GOOGLE.name()), token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LinkOAuth2ViewReq("OAUTH2_ACCESS_TOKEN"))))
+                .andExpect(status().isOk());
+
+        verify(actionDetailsExtractor, never()).extractActionDetails(any());
+        assertThat(queryImpersonationLog.findAllByTargetUser(user.getId())).isEmpty();
+    }
+
+    private String impersonate(User admin, User target) throws Exception {
+        String response = mockMvc.perform(withAuth(post("/api/admin/impersonate/{userId}", target.getId()),
+                                authHelper.getToken(admin))
+                        .header("User-Agent", UserAgent.LUMANLAB_ADMIN))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        return objectMapper.readTree(response).get("accessToken").asText();
+    }
+}
@@ -0,0 +1,43 @@
+package com.lumanlab.parentcaringservice.security.jwt.application.service;
+
+import com.lumanlab.parentcaringservice.security.jwt.domain.JwkAlgorithm;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.PublicKey;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwkJsonGeneratorTest {
+
+    JwkJsonGenerator jwkJsonGenerator = new JwkJsonGenerator();
+
+    @Test
+    @DisplayName("JWK Set 생성 - 서로 다른 알고리즘 키 혼합")
+    @SuppressWarnings("unchecked")
+    void generateMixedJwkSet() {
+        Map<String, PublicKey> publicKeys = new LinkedHashMap<>();
+        publicKeys.put("key-rsa", JwkAlgorithm.RS256.generateKeyPair().getPublic());
+        publicKeys.put("key-ec", JwkAlgorithm.ES256.generateKeyPair().getPublic());
+        publicKeys.put("key-ed", JwkAlgorithm.EdDSA.generateKeyPair().getPublic());
+
+        List<Map<String, Object>> keys =
+                (List<Map<String, Object>>) jwkJsonGenerator.generateJwkSet(publicKeys).get("keys");
+
+        assertThat(keys).hasSize(3);
+        assertThat(keys).extracting(jwk -> jwk.get("alg")).containsExactlyInAnyOrder("RS256", "ES256", "EdDSA");
+        assertThat(keys).extracting(jwk -> jwk.get("kty")).containsExactlyInAnyOrder("RSA", "EC", "OKP");
+
+        // 생성된 JWK를 다시 파싱하여 원본 공개키와 동일한지 확인
+        for (Map<String, Object> jwk : keys) {
+            PublicJwk<?> parsed = (PublicJwk<?>) Jwks.builder().add(jwk).build();
+
+            assertThat(parsed.toKey()).isEqualTo(publicKeys.get((String) jwk.get("kid")));
+        }
+    }
+}
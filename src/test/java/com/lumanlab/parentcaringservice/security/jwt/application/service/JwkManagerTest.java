@@ -0,0 +1,139 @@
+package com.lumanlab.parentcaringservice.security.jwt.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lumanlab.parentcaringservice.security.domain.RoleAuthorityTable;
+import com.lumanlab.parentcaringservice.security.domain.UserPrincipal;
+import com.lumanlab.parentcaringservice.security.domain.VerifiedAccessToken;
+import com.lumanlab.parentcaringservice.security.jwt.JwtProperties;
+import com.lumanlab.parentcaringservice.security.jwt.domain.JwkAlgorithm;
+import com.lumanlab.parentcaringservice.security.jwt.domain.JwkData;
+import com.lumanlab.parentcaringservice.security.jwt.port.outp.JwkRedisRepository;
+import com.lumanlab.parentcaringservice.user.domain.UserRole;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class JwkManagerTest {
+
+    final String TOKEN = "header.payload.signature";
+    final String OLD_KEY_ID = "key-1700000000000";
+
+    JwtProperties jwtProperties;
+    JwkRedisRepository jwkRepository;
+    VerifiedAccessTokenCache verifiedAccessTokenCache;
+    JwtParserRegistry jwtParserRegistry;
+    JwkManager jwkManager;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("test-issuer");
+        jwtProperties.getKey().setRotationInterval(3600);
+        jwtProperties.getKey().setGracePeriod(600);
+        jwtProperties.getKey().setMaxKeys(3);
+        jwtProperties.getKey().setAlgorithm(JwkAlgorithm.ES256);
+
+        // Redis에 저장된 키가 없는 상태에서 시작
+        jwkRepository = mock(JwkRedisRepository.class);
+        verifiedAccessTokenCache = new VerifiedAccessTokenCache(jwtProperties, new SimpleMeterRegistry());
+        jwtParserRegistry = new JwtParserRegistry(jwtProperties);
+
+        jwkManager = new JwkManager(jwkRepository, jwtProperties, new JwkJsonGenerator(), verifiedAccessTokenCache,
+                jwtParserRegistry, new JwsHeaderKeyIdExtractor(new ObjectMapper()));
+    }
+
+    @Test
+    @DisplayName("키 로테이션 - 검증된 AccessToken 캐시 초기화")
+    void rotateKeyInvalidatesVerifiedTokenCache() {
+        verifiedAccessTokenCache.put(TOKEN, verified());
+        assertThat(verifiedAccessTokenCache.get(TOKEN)).isNotNull();
+
+        jwkManager.rotateKey();
+
+        assertThat(verifiedAccessTokenCache.get(TOKEN)).isNull();
+    }
+
+    @Test
+    @DisplayName("키 조회 - 로드되지 않은 키 ID는 Redis에서 키를 로드하고 JwtParser 등록")
+    void getKeyPairLoadsKeyAndRegistersParser() {
+        KeyPair keyPair = JwkAlgorithm.ES256.generateKeyPair();
+        given(jwkRepository.findKeyData(OLD_KEY_ID)).willReturn(keyData(keyPair, Instant.now()));
+        assertThat(jwtParserRegistry.get(OLD_KEY_ID)).isNull();
+
+        KeyPair loaded = jwkManager.getKeyPair(OLD_KEY_ID);
+
+        assertThat(loaded.getPublic()).isEqualTo(keyPair.getPublic());
+        assertThat(jwtParserRegistry.get(OLD_KEY_ID)).isNotNull();
+        assertThat(parseSubject(OLD_KEY_ID, keyPair)).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("키 조회 - Redis에도 없는 키 ID는 JwtParser를 등록하지 않음")
+    void getUnknownKeyPair() {
+        assertThat(jwkManager.getKeyPair(OLD_KEY_ID)).isNull();
+        assertThat(jwtParserRegistry.get(OLD_KEY_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("키 로테이션 - 그레이스 기간이 지나 제거된 키의 JwtParser도 제거")
+    void rotateKeyRemovesParserOfCleanedUpKey() {
+        KeyPair keyPair = JwkAlgorithm.ES256.generateKeyPair();
+        Instant expiredCreatedAt = Instant.now()
+                .minus(jwtProperties.getKey().getRotationIntervalDuration())
+                .minus(jwtProperties.getKey().getGracePeriodDuration())
+                .minus(Duration.ofMinutes(1));
+        given(jwkRepository.findKeyData(OLD_KEY_ID)).willReturn(keyData(keyPair, expiredCreatedAt));
+        jwkManager.getKeyPair(OLD_KEY_ID);
+        assertThat(jwtParserRegistry.get(OLD_KEY_ID)).isNotNull();
+
+        jwkManager.rotateKey();
+
+        assertThat(jwtParserRegistry.get(OLD_KEY_ID)).isNull();
+        assertThat(jwtParserRegistry.get(jwkManager.getCurrentKeyId())).isNotNull();
+        verify(jwkRepository).deleteKeyData(OLD_KEY_ID);
+    }
+
+    private JwkData keyData(KeyPair keyPair, Instant createdAt) {
+        // 그레이스 기간은 생성 시간 기준으로 판단하므로, 만료 시간은 아직 지나지 않은 것으로 설정
+        return JwkData.builder()
+                .keyId(OLD_KEY_ID)
+                .algorithm(JwkAlgorithm.ES256)
+                .encodedPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()))
+                .encodedPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()))
+                .createdAt(createdAt)
+                .expiresAt(Instant.now().plus(Duration.ofHours(1)))
+                .active(true)
+                .build();
+    }
+
+    private String parseSubject(String keyId, KeyPair keyPair) {
+        String token = Jwts.builder()
+                .header().keyId(keyId).and()
+                .issuer(jwtProperties.getIssuer())
+                .subject("1")
+                .signWith(keyPair.getPrivate())
+                .compact();
+
+        return jwtParserRegistry.get(keyId).parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    private VerifiedAccessToken verified() {
+        int roleMask = UserRole.PARENT.getMask();
+        UserPrincipal principal = new UserPrincipal(1L, RoleAuthorityTable.roles(roleMask), null);
+
+        return new VerifiedAccessToken(principal, RoleAuthorityTable.authorities(roleMask),
+                Instant.now(), Instant.now().plus(Duration.ofMinutes(5)));
+    }
+}
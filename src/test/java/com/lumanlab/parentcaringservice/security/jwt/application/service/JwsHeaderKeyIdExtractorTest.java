@@ -0,0 +1,80 @@
+package com.lumanlab.parentcaringservice.security.jwt.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwsHeaderKeyIdExtractorTest {
+
+    final String KEY_ID = "key-1700000000000";
+    final String PAYLOAD = "eyJzdWIiOiIxIn0";
+    final String SIGNATURE = "c2lnbmF0dXJl";
+
+    JwsHeaderKeyIdExtractor extractor;
+
+    @BeforeEach
+    void setUp() {
+        extractor = new JwsHeaderKeyIdExtractor(new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("kid 추출 - 헤더에서 kid 추출")
+    void extractKeyId() {
+        String token = token("{\"alg\":\"RS256\",\"typ\":\"JWT\",\"kid\":\"" + KEY_ID + "\"}");
+
+        assertThat(extractor.extract(token)).isEqualTo(KEY_ID);
+    }
+
+    @Test
+    @DisplayName("kid 추출 - kid 앞에 중첩 객체가 있어도 추출")
+    void extractKeyIdAfterNestedObject() {
+        String token = token("{\"alg\":\"RS256\",\"jwk\":{\"kid\":\"nested\"},\"kid\":\"" + KEY_ID + "\"}");
+
+        assertThat(extractor.extract(token)).isEqualTo(KEY_ID);
+    }
+
+    @Test
+    @DisplayName("kid 추출 - 기억한 헤더는 같은 kid 인스턴스 반환")
+    void extractRememberedKeyId() {
+        String token = token("{\"alg\":\"RS256\",\"typ\":\"JWT\",\"kid\":\"" + KEY_ID + "\"}");
+
+        extractor.remember(token, KEY_ID);
+
+        assertThat(extractor.extract(token)).isSameAs(KEY_ID);
+    }
+
+    @Test
+    @DisplayName("kid 추출 - 제거된 키의 헤더는 다시 파싱")
+    void extractEvictedKeyId() {
+        String token = token("{\"alg\":\"RS256\",\"typ\":\"JWT\",\"kid\":\"" + KEY_ID + "\"}");
+
+        extractor.remember(token, KEY_ID);
+        extractor.evict(KEY_ID);
+
+        assertThat(extractor.extract(token)).isEqualTo(KEY_ID).isNotSameAs(KEY_ID);
+    }
+
+    @Test
+    @DisplayName("kid 추출 - kid가 없거나 형식이 잘못된 경우 null 반환")
+    void extractInvalidToken() {
+        assertThat(extractor.extract(token("{\"alg\":\"RS256\"}"))).isNull();
+        assertThat(extractor.extract(token("{\"kid\":1}"))).isNull();
+        assertThat(extractor.extract("not-a-jwt")).isNull();
+        assertThat(extractor.extract("@@@." + PAYLOAD + "." + SIGNATURE)).isNull();
+        assertThat(extractor.extract(null)).isNull();
+    }
+
+    private String token(String header) {
+        String encodedHeader = Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(header.getBytes(StandardCharsets.UTF_8));
+
+        return encodedHeader + "." + PAYLOAD + "." + SIGNATURE;
+    }
+}
@@ -0,0 +1,89 @@
+package com.lumanlab.parentcaringservice.security.jwt.application.service;
+
+import com.lumanlab.parentcaringservice.security.jwt.JwtProperties;
+import com.lumanlab.parentcaringservice.security.jwt.domain.JwkAlgorithm;
+import io.jsonwebtoken.IncorrectClaimException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtParserRegistryTest {
+
+    final String ISSUER = "test-issuer";
+    final String KEY_ID = "key-1700000000000";
+
+    JwtParserRegistry registry;
+    KeyPair keyPair;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer(ISSUER);
+
+        registry = new JwtParserRegistry(jwtProperties);
+        keyPair = JwkAlgorithm.ES256.generateKeyPair();
+    }
+
+    @Test
+    @DisplayName("JwtParser 등록 - 등록한 키 ID로 같은 파서 조회")
+    void registerAndGet() {
+        JwtParser parser = registry.register(KEY_ID, keyPair.getPublic());
+
+        assertThat(registry.get(KEY_ID)).isSameAs(parser);
+        assertThat(registry.get("key-unknown")).isNull();
+    }
+
+    @Test
+    @DisplayName("JwtParser 등록 - 등록한 공개키와 발급자로 토큰 검증")
+    void registeredParserVerifiesToken() {
+        JwtParser parser = registry.register(KEY_ID, keyPair.getPublic());
+
+        assertThat(parser.parseSignedClaims(token(keyPair, ISSUER)).getPayload().getSubject()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("JwtParser 등록 - 다른 키로 서명된 토큰은 검증 실패")
+    void registeredParserRejectsOtherKey() {
+        JwtParser parser = registry.register(KEY_ID, keyPair.getPublic());
+        KeyPair otherKeyPair = JwkAlgorithm.ES256.generateKeyPair();
+
+        assertThatThrownBy(() -> parser.parseSignedClaims(token(otherKeyPair, ISSUER)))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("JwtParser 등록 - 발급자가 다른 토큰은 검증 실패")
+    void registeredParserRejectsOtherIssuer() {
+        JwtParser parser = registry.register(KEY_ID, keyPair.getPublic());
+
+        assertThatThrownBy(() -> parser.parseSignedClaims(token(keyPair, "other-issuer")))
+                .isInstanceOf(IncorrectClaimException.class);
+    }
+
+    @Test
+    @DisplayName("JwtParser 제거 - 제거한 키 ID는 조회되지 않음")
+    void remove() {
+        registry.register(KEY_ID, keyPair.getPublic());
+
+        registry.remove(KEY_ID);
+
+        assertThat(registry.get(KEY_ID)).isNull();
+    }
+
+    private String token(KeyPair signingKeyPair, String issuer) {
+        return Jwts.builder()
+                .header().keyId(KEY_ID).and()
+                .issuer(issuer)
+                .subject("1")
+                .signWith(signingKeyPair.getPrivate())
+                .compact();
+    }
+}
@@ -0,0 +1,41 @@
+package com.lumanlab.parentcaringservice.security.jwt.application.service;
+
+import com.lumanlab.parentcaringservice.security.jwt.domain.JwkAlgorithm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.RSAPrivateCrtKeySpec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RsaCrtKeyRecoveryTest {
+
+    @Test
+    @DisplayName("CRT 복원 - n, e, d로 원본 CRT 파라미터 복원")
+    void recoverCrtParameters() {
+        KeyPair keyPair = JwkAlgorithm.RS256.generateKeyPair();
+        RSAPrivateCrtKey privateKey = (RSAPrivateCrtKey) keyPair.getPrivate();
+
+        RSAPrivateCrtKeySpec actual = RsaCrtKeyRecovery.recover(privateKey.getModulus(),
+                privateKey.getPublicExponent(), privateKey.getPrivateExponent());
+
+        assertThat(actual.getPrimeP().multiply(actual.getPrimeQ())).isEqualTo(privateKey.getModulus());
+        assertThat(actual.getPrimeP().max(actual.getPrimeQ())).isEqualTo(privateKey.getPrimeP().max(privateKey.getPrimeQ()));
+        assertThat(actual.getCrtCoefficient()).isEqualTo(actual.getPrimeQ().modInverse(actual.getPrimeP()));
+        assertThat(actual.getPrimeExponentP())
+                .isEqualTo(privateKey.getPrivateExponent().mod(actual.getPrimeP().subtract(BigInteger.ONE)));
+    }
+
+    @Test
+    @DisplayName("CRT 복원 - 잘못된 키 파라미터")
+    void recoverInvalidParameters() {
+        BigInteger modulus = BigInteger.valueOf(3233);
+
+        assertThatThrownBy(() -> RsaCrtKeyRecovery.recover(modulus, BigInteger.valueOf(17), BigInteger.valueOf(2)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,87 @@
+package com.lumanlab.parentcaringservice.security.jwt.application.service;
+
+import com.lumanlab.parentcaringservice.security.domain.RoleAuthorityTable;
+import com.lumanlab.parentcaringservice.security.domain.UserPrincipal;
+import com.lumanlab.parentcaringservice.security.domain.VerifiedAccessToken;
+import com.lumanlab.parentcaringservice.security.jwt.JwtProperties;
+import com.lumanlab.parentcaringservice.user.domain.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedAccessTokenCacheTest {
+
+    final String TOKEN = "header.payload.signature";
+    final Long USER_ID = 1L;
+
+    VerifiedAccessTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VerifiedAccessTokenCache(new JwtProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("검증 결과 캐시 - 만료되지 않은 토큰은 저장 후 조회")
+    void putAndGet() {
+        VerifiedAccessToken verified = verified(Instant.now().plus(Duration.ofMinutes(5)));
+
+        cache.put(TOKEN, verified);
+
+        assertThat(cache.get(TOKEN)).isSameAs(verified);
+        assertThat(cache.get(TOKEN + "-other")).isNull();
+    }
+
+    @Test
+    @DisplayName("검증 결과 캐시 - 이미 만료된 토큰은 저장하지 않음")
+    void putExpiredToken() {
+        cache.put(TOKEN, verified(Instant.now().minusSeconds(1)));
+
+        assertThat(cache.get(TOKEN)).isNull();
+    }
+
+    @Test
+    @DisplayName("검증 결과 캐시 - 만료 시간이 없는 토큰은 저장하지 않음")
+    void putTokenWithoutExpiration() {
+        cache.put(TOKEN, verified(null));
+
+        assertThat(cache.get(TOKEN)).isNull();
+    }
+
+    @Test
+    @DisplayName("검증 결과 캐시 - 토큰의 만료 시간(exp)이 지나면 조회되지 않음")
+    void getAfterExpiration() throws InterruptedException {
+        cache.put(TOKEN, verified(Instant.now().plusMillis(300)));
+        assertThat(cache.get(TOKEN)).isNotNull();
+
+        Thread.sleep(500);
+
+        assertThat(cache.get(TOKEN)).isNull();
+    }
+
+    @Test
+    @DisplayName("검증 결과 캐시 - 전체 초기화 시 모든 항목 제거")
+    void invalidateAll() {
+        cache.put(TOKEN, verified(Instant.now().plus(Duration.ofMinutes(5))));
+        cache.put(TOKEN + "-other", verified(Instant.now().plus(Duration.ofMinutes(5))));
+
+        cache.invalidateAll();
+
+        assertThat(cache.get(TOKEN)).isNull();
+        assertThat(cache.get(TOKEN + "-other")).isNull();
+    }
+
+    private VerifiedAccessToken verified(Instant expiresAt) {
+        int roleMask = UserRole.PARENT.getMask();
+        UserPrincipal principal = new UserPrincipal(USER_ID, RoleAuthorityTable.roles(roleMask), null);
+
+        return new VerifiedAccessToken(principal, RoleAuthorityTable.authorities(roleMask),
+                Instant.now().minusSeconds(1), expiresAt);
+    }
+}
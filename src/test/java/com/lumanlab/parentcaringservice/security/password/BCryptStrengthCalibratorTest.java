@@ -0,0 +1,34 @@
+package com.lumanlab.parentcaringservice.security.password;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BCryptStrengthCalibratorTest {
+
+    @Test
+    @DisplayName("BCrypt 강도 측정 - 목표 시간이 충분한 경우 최대 강도")
+    void calibrateMaxStrength() {
+        var actual = BCryptStrengthCalibrator.calibrate(bcrypt(4, 6, 60_000));
+
+        assertThat(actual).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("BCrypt 강도 측정 - 최소 강도도 목표 시간을 넘는 경우 최소 강도")
+    void calibrateMinStrength() {
+        var actual = BCryptStrengthCalibrator.calibrate(bcrypt(4, 6, 0));
+
+        assertThat(actual).isEqualTo(4);
+    }
+
+    private PasswordHashProperties.Bcrypt bcrypt(int minStrength, int maxStrength, long targetLatency) {
+        PasswordHashProperties.Bcrypt bcrypt = new PasswordHashProperties.Bcrypt();
+        bcrypt.setMinStrength(minStrength);
+        bcrypt.setMaxStrength(maxStrength);
+        bcrypt.setTargetLatency(targetLatency);
+
+        return bcrypt;
+    }
+}
@@ -0,0 +1,128 @@
+package com.lumanlab.parentcaringservice.security.password;
+
+import com.lumanlab.parentcaringservice.exception.PasswordHashRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    final String PASSWORD = "password";
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    CountDownLatch release = new CountDownLatch(1);
+    PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+
+        if (passwordHasher != null) {
+            passwordHasher.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 - 전용 스레드 풀에서 해시 및 검증")
+    void encodeAndMatches() {
+        passwordHasher = passwordHasher(new BCryptPasswordEncoder(4), 1, 1, 3000);
+
+        String encoded = passwordHasher.encode(PASSWORD);
+
+        assertThat(passwordHasher.matches(PASSWORD, encoded)).isTrue();
+        assertThat(passwordHasher.matches("OTHER_PASSWORD", encoded)).isFalse();
+        assertThat(meterRegistry.get("password.hash.duration").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash.duration").tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("password.hash.queue.wait").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 - 대기열이 가득 찬 경우 바로 거절")
+    void rejectWhenQueueIsFull() throws InterruptedException {
+        passwordHasher = passwordHasher(blockingPasswordEncoder(), 1, 1, 3000);
+
+        // 첫 번째 작업은 스레드를 점유하고, 두 번째 작업은 대기열을 채움
+        CompletableFuture.runAsync(() -> passwordHasher.encode(PASSWORD));
+        awaitQueueDepth(0);
+        CompletableFuture.runAsync(() -> passwordHasher.encode(PASSWORD));
+        awaitQueueDepth(1);
+
+        assertThatThrownBy(() -> passwordHasher.encode(PASSWORD))
+                .isInstanceOf(PasswordHashRejectedException.class)
+                .satisfies(e -> assertThat(((PasswordHashRejectedException) e).getRetryAfter())
+                        .isEqualTo(Duration.ofSeconds(1)));
+        assertThat(meterRegistry.get("password.hash.rejected").tag("reason", "queue_full").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 - 제한 시간 안에 결과를 받지 못한 경우 거절")
+    void rejectWhenWaitTimeout() {
+        passwordHasher = passwordHasher(blockingPasswordEncoder(), 1, 1, 50);
+
+        assertThatThrownBy(() -> passwordHasher.encode(PASSWORD))
+                .isInstanceOf(PasswordHashRejectedException.class);
+        assertThat(meterRegistry.get("password.hash.rejected").tag("reason", "timeout").counter().count())
+                .isEqualTo(1);
+    }
+
+    private PasswordHasher passwordHasher(PasswordEncoder passwordEncoder, int threads, int queueCapacity,
+                                          long waitTimeout) {
+        PasswordHashProperties properties = new PasswordHashProperties();
+        properties.getExecutor().setThreads(threads);
+        properties.getExecutor().setQueueCapacity(queueCapacity);
+        properties.getExecutor().setWaitTimeout(waitTimeout);
+
+        return new PasswordHasher(passwordEncoder, properties, meterRegistry);
+    }
+
+    /**
+     * release가 호출될 때까지 해시를 끝내지 않는 PasswordEncoder
+     */
+    private PasswordEncoder blockingPasswordEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+    }
+
+    private void awaitQueueDepth(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (System.nanoTime() < deadline) {
+            boolean busy = meterRegistry.get("password.hash.active").gauge().value() == 1;
+            if (busy && meterRegistry.get("password.hash.queue.depth").gauge().value() == expected) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+
+        throw new AssertionError("Password hash queue depth did not reach " + expected);
+    }
+}
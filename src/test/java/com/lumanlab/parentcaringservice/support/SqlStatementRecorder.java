@@ -0,0 +1,44 @@
+package com.lumanlab.parentcaringservice.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트에서 Hibernate가 실행하는 SQL을 기록하는 StatementInspector
+ * <p>
+ * {@link #record(Runnable)}를 실행하는 동안 같은 스레드에서 준비된 SQL만 기록하며, SQL은 변경하지 않음
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    /**
+     * 작업을 실행하는 동안 준비된 SQL을 기록
+     *
+     * @param action 실행할 작업
+     * @return 준비된 순서대로의 SQL 목록
+     */
+    public static List<String> record(Runnable action) {
+        List<String> statements = new ArrayList<>();
+        RECORDED.set(statements);
+        try {
+            action.run();
+        } finally {
+            RECORDED.remove();
+        }
+
+        return statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = RECORDED.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+
+        return sql;
+    }
+}
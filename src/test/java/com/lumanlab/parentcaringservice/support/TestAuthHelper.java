@@ -1,5 +1,6 @@
 package com.lumanlab.parentcaringservice.support;
 
+import com.lumanlab.parentcaringservice.security.domain.RoleAuthorityTable;
 import com.lumanlab.parentcaringservice.security.jwt.application.service.JwtTokenService;
 import com.lumanlab.parentcaringservice.user.domain.User;
 import com.lumanlab.parentcaringservice.user.domain.UserRole;
@@ -37,7 +38,8 @@ public class TestAuthHelper {
      * 주어진 사용자의 JWT 토큰 반환
      */
     public String getToken(User user) {
-        return jwtTokenService.generateAccessToken(user.getId(), Map.of("roles", user.getRolesString()));
+        return jwtTokenService.generateAccessToken(user.getId(),
+                Map.of(RoleAuthorityTable.ROLE_MASK_CLAIM, user.getRoleMask()));
     }
 
     /**
@@ -47,7 +49,8 @@ public class TestAuthHelper {
         User savedUser =
                 userRepository.save(new User(email, passwordEncoder.encode(password), Set.of(roles), totpSecret));
 
-        return jwtTokenService.generateAccessToken(savedUser.getId(), Map.of("roles", savedUser.getRolesString()));
+        return jwtTokenService.generateAccessToken(savedUser.getId(),
+                Map.of(RoleAuthorityTable.ROLE_MASK_CLAIM, savedUser.getRoleMask()));
     }
 
     /**
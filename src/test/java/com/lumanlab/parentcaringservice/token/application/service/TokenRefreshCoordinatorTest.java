@@ -0,0 +1,163 @@
+package com.lumanlab.parentcaringservice.token.application.service;
+
+import com.lumanlab.parentcaringservice.security.encoder.RefreshTokenEncoder;
+import com.lumanlab.parentcaringservice.support.BaseUsecaseTest;
+import com.lumanlab.parentcaringservice.token.TokenRefreshProperties;
+import com.lumanlab.parentcaringservice.token.application.service.dto.RefreshAccessTokenDto;
+import com.lumanlab.parentcaringservice.token.port.outp.TokenRefreshRedisRepository;
+import com.lumanlab.parentcaringservice.user.domain.UserAgent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TokenRefreshCoordinatorTest extends BaseUsecaseTest {
+
+    static final int CONCURRENT_REQUESTS = 8;
+    static final UserAgent USER_AGENT = UserAgent.MOBILE;
+    static final String IP = "127.0.0.1";
+
+    @Autowired
+    TokenRefreshRedisRepository tokenRefreshRedisRepository;
+    @Autowired
+    RefreshTokenEncoder refreshTokenEncoder;
+
+    TokenAppService tokenAppService;
+    TokenRefreshProperties properties;
+    MeterRegistry meterRegistry;
+    TokenRefreshCoordinator tokenRefreshCoordinator;
+
+    // Redis 데이터는 테스트 간에 롤백되지 않으므로 테스트마다 다른 리프레시 토큰 사용
+    String refreshToken;
+
+    @BeforeEach
+    void setUp() {
+        tokenAppService = mock(TokenAppService.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        properties = new TokenRefreshProperties();
+        properties.setLockTimeout(10);
+        properties.setWaitTimeout(5000);
+        properties.setPollInterval(10);
+
+        tokenRefreshCoordinator = new TokenRefreshCoordinator(tokenAppService, tokenRefreshRedisRepository,
+                refreshTokenEncoder, properties, meterRegistry);
+
+        refreshToken = "refresh-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("토큰 갱신 병합 - 동시에 같은 리프레시 토큰으로 갱신 시 한 번만 회전하고 같은 토큰 쌍 반환")
+    void refreshConcurrentlyRotatesOnce() throws Exception {
+        AtomicInteger rotations = new AtomicInteger();
+        when(tokenAppService.refreshAccessToken(anyString(), any(UserAgent.class), anyString()))
+                .thenAnswer(invocation -> {
+                    int rotation = rotations.incrementAndGet();
+                    // 다른 요청이 잠금을 획득하지 못하고 결과를 기다리도록 회전을 지연
+                    Thread.sleep(300);
+
+                    return new RefreshAccessTokenDto("access-" + rotation, "refresh-" + rotation, 1L);
+                });
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RefreshAccessTokenDto>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return tokenRefreshCoordinator.refreshAccessToken(refreshToken, USER_AGENT, IP);
+                }));
+            }
+            start.countDown();
+
+            List<RefreshAccessTokenDto> results = new ArrayList<>();
+            for (Future<RefreshAccessTokenDto> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+
+            assertThat(rotations.get()).isEqualTo(1);
+            assertThat(results).containsOnly(new RefreshAccessTokenDto("access-1", "refresh-1", 1L));
+            assertThat(meterRegistry.get("token.refresh.coalesced").counter().count())
+                    .isEqualTo(CONCURRENT_REQUESTS - 1);
+            verify(tokenAppService, times(1)).refreshAccessToken(refreshToken, USER_AGENT, IP);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("토큰 갱신 병합 - 잠금을 획득한 요청의 결과를 기다리는 시간이 초과되면 충돌 예외 발생")
+    void refreshWhileLockedTimesOut() {
+        properties.setWaitTimeout(200);
+        String key = refreshTokenEncoder.encode(refreshToken);
+        tokenRefreshRedisRepository.tryLock(key, "other-instance", properties.getLockTimeoutDuration());
+
+        try {
+            long startedAt = System.nanoTime();
+
+            assertThatThrownBy(() -> tokenRefreshCoordinator.refreshAccessToken(refreshToken, USER_AGENT, IP))
+                    .isInstanceOf(ConcurrencyFailureException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+            assertThat(meterRegistry.get("token.refresh.lock.timeout").counter().count()).isEqualTo(1);
+            verifyNoInteractions(tokenAppService);
+        } finally {
+            tokenRefreshRedisRepository.unlock(key, "other-instance");
+        }
+    }
+
+    @Test
+    @DisplayName("토큰 갱신 병합 - 잠금이 결과 없이 해제된 경우 직접 회전")
+    void refreshAfterLockReleasedWithoutResult() {
+        RefreshAccessTokenDto expected = new RefreshAccessTokenDto("access", "refresh", 1L);
+        when(tokenAppService.refreshAccessToken(refreshToken, USER_AGENT, IP)).thenReturn(expected);
+
+        String key = refreshTokenEncoder.encode(refreshToken);
+        tokenRefreshRedisRepository.tryLock(key, "other-instance", properties.getLockTimeoutDuration());
+
+        // 먼저 잠금을 획득한 요청이 실패하여 결과 없이 잠금을 해제하는 상황을 재현
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            tokenRefreshRedisRepository.unlock(key, "other-instance");
+        });
+        releaser.start();
+
+        assertThat(tokenRefreshCoordinator.refreshAccessToken(refreshToken, USER_AGENT, IP)).isEqualTo(expected);
+        verify(tokenAppService, times(1)).refreshAccessToken(refreshToken, USER_AGENT, IP);
+    }
+
+    @Test
+    @DisplayName("토큰 갱신 병합 - 잠금 유지 시간이 결과 대기 시간보다 길지 않으면 생성 불가")
+    void rejectLockTimeoutNotGreaterThanWaitTimeout() {
+        properties.setLockTimeout(5);
+        properties.setWaitTimeout(5000);
+
+        assertThatThrownBy(() -> new TokenRefreshCoordinator(tokenAppService, tokenRefreshRedisRepository,
+                refreshTokenEncoder, properties, meterRegistry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -6,9 +6,14 @@ import com.lumanlab.parentcaringservice.refreshtoken.domain.RefreshToken;
 import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenDto;
 import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenProvider;
 import com.lumanlab.parentcaringservice.refreshtoken.port.outp.RefreshTokenRepository;
+import com.lumanlab.parentcaringservice.security.domain.RoleAuthorityTable;
+import com.lumanlab.parentcaringservice.security.encoder.RefreshTokenEncoder;
+import com.lumanlab.parentcaringservice.security.jwt.application.service.JwtTokenService;
 import com.lumanlab.parentcaringservice.support.BaseApiTest;
 import com.lumanlab.parentcaringservice.support.annotation.WithTestUser;
+import com.lumanlab.parentcaringservice.token.TokenRefreshProperties;
 import com.lumanlab.parentcaringservice.token.adapter.in.web.view.req.RefreshAccessTokenViewReq;
+import com.lumanlab.parentcaringservice.token.port.outp.TokenRefreshRedisRepository;
 import com.lumanlab.parentcaringservice.user.domain.User;
 import com.lumanlab.parentcaringservice.user.domain.UserAgent;
 import com.lumanlab.parentcaringservice.user.domain.UserRole;
@@ -21,6 +26,7 @@ import java.time.OffsetDateTime;
 import java.util.Map;
 
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -38,6 +44,18 @@ class TokenApiTest extends BaseApiTest {
     @Autowired
     RefreshTokenRepository refreshTokenRepository;
 
+    @Autowired
+    RefreshTokenEncoder refreshTokenEncoder;
+
+    @Autowired
+    JwtTokenService jwtTokenService;
+
+    @Autowired
+    TokenRefreshRedisRepository tokenRefreshRedisRepository;
+
+    @Autowired
+    TokenRefreshProperties tokenRefreshProperties;
+
     @Test
     @WithTestUser
     @DisplayName("액세스 토큰 갱신")
@@ -51,8 +69,8 @@ class TokenApiTest extends BaseApiTest {
         RefreshTokenDto refreshTokenDto =
                 refreshTokenProvider.generateRefreshToken(user.getId(), Map.of("role", user.getRolesString()));
         refreshTokenRepository.save(
-                new RefreshToken(user, refreshTokenDto.tokenHash(), "IP", USER_AGENT, OffsetDateTime.now(),
-                        OffsetDateTime.now().plusDays(1)));
+                new RefreshToken(user, refreshTokenDto.tokenId(), refreshTokenDto.tokenHash(), "IP", USER_AGENT,
+                        OffsetDateTime.now(), OffsetDateTime.now().plusDays(1)));
 
         RefreshAccessTokenViewReq req = new RefreshAccessTokenViewReq(refreshTokenDto.token());
 
@@ -80,6 +98,83 @@ class TokenApiTest extends BaseApiTest {
                                 fieldWithPath("refreshTokenExpiredAt").description("새 리프레시 토큰의 만료 시간"))));
     }
 
+    @Test
+    @DisplayName("액세스 토큰 갱신 - 같은 리프레시 토큰으로 다시 갱신 시 같은 토큰 반환")
+    void refreshAccessTokenIdempotently() throws Exception {
+        User user = authHelper.createUser("idempotent-token@example.com", "password123", null, UserRole.PARENT);
+
+        RefreshTokenDto refreshTokenDto = refreshTokenProvider.generateRefreshToken(user.getId(),
+                Map.of(RoleAuthorityTable.ROLE_MASK_CLAIM, user.getRoleMask()));
+        refreshTokenRepository.save(
+                new RefreshToken(user, refreshTokenDto.tokenId(), refreshTokenDto.tokenHash(), "IP", USER_AGENT,
+                        OffsetDateTime.now(), OffsetDateTime.now().plusDays(1)));
+
+        String requestBody = objectMapper.writeValueAsString(new RefreshAccessTokenViewReq(refreshTokenDto.token()));
+
+        String first = mockMvc.perform(post("/api/token/refresh").header("User-Agent", USER_AGENT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String second = mockMvc.perform(post("/api/token/refresh").header("User-Agent", USER_AGENT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(objectMapper.readTree(second)).isEqualTo(objectMapper.readTree(first));
+        assertThat(refreshTokenRepository.findAllByUser(user)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 갱신 - 다른 요청이 갱신 중인 리프레시 토큰의 결과를 기다리는 시간 초과 시 409 응답")
+    void refreshAccessTokenConflictWhileLocked() throws Exception {
+        User user = authHelper.createUser("locked-token@example.com", "password123", null, UserRole.PARENT);
+
+        RefreshTokenDto refreshTokenDto = refreshTokenProvider.generateRefreshToken(user.getId(),
+                Map.of(RoleAuthorityTable.ROLE_MASK_CLAIM, user.getRoleMask()));
+        refreshTokenRepository.save(
+                new RefreshToken(user, refreshTokenDto.tokenId(), refreshTokenDto.tokenHash(), "IP", USER_AGENT,
+                        OffsetDateTime.now(), OffsetDateTime.now().plusDays(1)));
+
+        // 다른 인스턴스가 같은 리프레시 토큰으로 갱신 중인 상황을 재현
+        String key = refreshTokenEncoder.encode(refreshTokenDto.token());
+        tokenRefreshRedisRepository.tryLock(key, "other-instance", tokenRefreshProperties.getLockTimeoutDuration());
+
+        try {
+            mockMvc.perform(post("/api/token/refresh").header("User-Agent", USER_AGENT)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new RefreshAccessTokenViewReq(refreshTokenDto.token()))))
+                    .andExpectAll(status().isConflict(), jsonPath("$.errorCode").value("CONCURRENT_REQUEST"));
+        } finally {
+            tokenRefreshRedisRepository.unlock(key, "other-instance");
+        }
+
+        assertThat(refreshTokenRepository.findAllByUser(user)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 갱신 - 토큰 식별자가 없는 이전 JWT 리프레시 토큰")
+    void refreshAccessTokenWithLegacyJwtToken() throws Exception {
+        User user = authHelper.createUser("legacy-token@example.com", "password123", null, UserRole.PARENT);
+
+        // 토큰 식별자(jti) 없이 발급된 JWT 리프레시 토큰
+        String legacyToken = jwtTokenService.generateRefreshToken(user.getId(), null,
+                Map.of(RoleAuthorityTable.ROLE_MASK_CLAIM, user.getRoleMask()));
+        refreshTokenRepository.save(
+                new RefreshToken(user, refreshTokenEncoder.encode(legacyToken), "IP", USER_AGENT,
+                        OffsetDateTime.now(), OffsetDateTime.now().plusDays(1)));
+
+        RefreshAccessTokenViewReq req = new RefreshAccessTokenViewReq(legacyToken);
+
+        mockMvc.perform(post("/api/token/refresh").header("User-Agent", USER_AGENT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpectAll(status().isOk(), jsonPath("$.accessToken").exists(), jsonPath("$.refreshToken").exists());
+    }
+
     @Test
     @DisplayName("유효하지 않은 리프레시 토큰으로 갱신 시도")
     void refreshAccessTokenWithInvalidToken() throws Exception {
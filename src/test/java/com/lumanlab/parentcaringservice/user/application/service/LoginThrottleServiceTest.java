@@ -0,0 +1,111 @@
+package com.lumanlab.parentcaringservice.user.application.service;
+
+import com.lumanlab.parentcaringservice.exception.LoginAttemptThrottledException;
+import com.lumanlab.parentcaringservice.support.BaseUsecaseTest;
+import com.lumanlab.parentcaringservice.user.LoginThrottleProperties;
+import com.lumanlab.parentcaringservice.user.port.outp.LoginAttemptRedisRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleServiceTest extends BaseUsecaseTest {
+
+    @Autowired
+    LoginAttemptRedisRepository loginAttemptRedisRepository;
+
+    MeterRegistry meterRegistry;
+    LoginThrottleProperties properties;
+    LoginThrottleService loginThrottleService;
+
+    // Redis 데이터는 테스트 간에 롤백되지 않으므로 테스트마다 다른 이메일, IP 사용
+    String email;
+    String ip;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        properties = new LoginThrottleProperties();
+        properties.setEnabled(true);
+        properties.setWindow(60);
+        properties.setMaxAttemptsPerEmail(3);
+        properties.setMaxAttemptsPerIp(5);
+
+        loginThrottleService = new LoginThrottleService(loginAttemptRedisRepository, properties, meterRegistry);
+
+        email = UUID.randomUUID() + "@example.com";
+        ip = "ip-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("로그인 시도 제한 - 이메일별 시도 횟수 초과 시 거절")
+    void rejectOverEmailLimit() {
+        for (int i = 0; i < 3; i++) {
+            loginThrottleService.checkAttempt(email, ip);
+        }
+
+        assertThatThrownBy(() -> loginThrottleService.checkAttempt(email, ip))
+                .isInstanceOf(LoginAttemptThrottledException.class)
+                .satisfies(e -> assertThat(((LoginAttemptThrottledException) e).getRetryAfter())
+                        .isBetween(Duration.ofSeconds(1), Duration.ofSeconds(60)));
+        assertThat(rejectedCount("email", "redis")).isEqualTo(1);
+
+        // 대소문자가 달라도 같은 이메일로 처리하며, 이미 차단된 이메일은 로컬 캐시에서 거절
+        assertThatThrownBy(() -> loginThrottleService.checkAttempt(email.toUpperCase(), ip))
+                .isInstanceOf(LoginAttemptThrottledException.class);
+        assertThat(rejectedCount("email", "local")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그인 시도 제한 - IP별 시도 횟수 초과 시 거절")
+    void rejectOverIpLimit() {
+        for (int i = 0; i < 5; i++) {
+            loginThrottleService.checkAttempt(i + email, ip);
+        }
+
+        assertThatThrownBy(() -> loginThrottleService.checkAttempt(email, ip))
+                .isInstanceOf(LoginAttemptThrottledException.class);
+        assertThat(rejectedCount("ip", "redis")).isEqualTo(1);
+
+        // 다른 IP에서의 시도는 허용
+        assertThatCode(() -> loginThrottleService.checkAttempt(email, ip + "-other")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("로그인 시도 제한 - 로그인 성공 시 이메일의 시도 기록 초기화")
+    void resetAfterLoginSucceeded() {
+        for (int i = 0; i < 3; i++) {
+            loginThrottleService.checkAttempt(email, ip);
+        }
+
+        loginThrottleService.reset(email);
+
+        assertThatCode(() -> loginThrottleService.checkAttempt(email, ip)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("로그인 시도 제한 - 비활성화된 경우 제한하지 않음")
+    void disabled() {
+        properties.setEnabled(false);
+
+        for (int i = 0; i < 10; i++) {
+            loginThrottleService.checkAttempt(email, ip);
+        }
+
+        assertThat(meterRegistry.find("login.throttle.rejected").counters()).isEmpty();
+    }
+
+    private double rejectedCount(String key, String source) {
+        return meterRegistry.get("login.throttle.rejected").tag("key", key).tag("source", source).counter().count();
+    }
+}
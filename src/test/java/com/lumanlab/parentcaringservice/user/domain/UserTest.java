@@ -179,6 +179,14 @@ class UserTest {
         assertThat(user.shouldInitializeMfa()).isTrue();
     }
 
+    @Test
+    @DisplayName("유저 - 역할 비트마스크 조회")
+    void getRoleMask() {
+        user = new User(EMAIL, PASSWORD, Set.of(UserRole.PARENT, UserRole.MASTER));
+
+        assertThat(user.getRoleMask()).isEqualTo(UserRole.PARENT.getMask() | UserRole.MASTER.getMask());
+    }
+
     @Test
     @DisplayName("유저 - OAuth2Provider로 연동된 OAuth2Link를 조회")
     void testFindOAuth2LinkByProvider() {
@@ -0,0 +1,145 @@
+package com.lumanlab.parentcaringservice.user.port.inp;
+
+import com.lumanlab.parentcaringservice.support.BaseUsecaseTest;
+import com.lumanlab.parentcaringservice.user.application.service.UserStateService;
+import com.lumanlab.parentcaringservice.user.domain.User;
+import com.lumanlab.parentcaringservice.user.domain.UserRole;
+import com.lumanlab.parentcaringservice.user.domain.UserState;
+import com.lumanlab.parentcaringservice.user.domain.UserStateChangedEvent;
+import com.lumanlab.parentcaringservice.user.domain.UserStatus;
+import com.lumanlab.parentcaringservice.user.port.outp.UserRepository;
+import com.lumanlab.parentcaringservice.user.port.outp.UserStateRedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class QueryUserStateTest extends BaseUsecaseTest {
+
+    @Autowired
+    QueryUserState queryUserState;
+
+    @Autowired
+    UpdateUser updateUser;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    UserStateService userStateService;
+
+    @MockitoSpyBean
+    UserStateRedisRepository userStateRedisRepository;
+
+    User user;
+
+    final String EMAIL = "jhon.doe@example.com";
+    final String PASSWORD = "password";
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(EMAIL, PASSWORD, Set.of(UserRole.PARENT)));
+    }
+
+    @Test
+    @DisplayName("유저 상태 조회 - 활성 유저")
+    void testFindUserState() {
+        UserState actual = queryUserState.findUserState(user.getId());
+
+        assertThat(actual.exists()).isTrue();
+        assertThat(actual.status()).isEqualTo(UserStatus.ACTIVE);
+        assertThat(actual.isAuthenticatable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("유저 상태 조회 - 탈퇴한 유저는 인증 불가")
+    void testFindUserStateWithdrawn() {
+        updateUser.withdraw(user.getId());
+
+        UserState actual = queryUserState.findUserState(user.getId());
+
+        assertThat(actual.status()).isEqualTo(UserStatus.WITHDRAWN);
+        assertThat(actual.isAuthenticatable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("유저 상태 조회 - 없는 ID로 조회 시 인증 불가")
+    void testFindUserStateNotFound() {
+        var nonExistId = Long.MAX_VALUE;
+
+        UserState actual = queryUserState.findUserState(nonExistId);
+
+        assertThat(actual.exists()).isFalse();
+        assertThat(actual.isAuthenticatable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("유저 상태 조회 - 전체 세션 로그아웃 이전에 발급된 토큰은 무효화")
+    void testFindUserStateTokensInvalidated() {
+        OffsetDateTime invalidBefore = OffsetDateTime.now();
+        user.invalidateTokens(invalidBefore);
+        userRepository.flush();
+
+        UserState actual = queryUserState.findUserState(user.getId());
+
+        assertThat(actual.tokensInvalidBefore()).isNotNull();
+        assertThat(actual.isTokenInvalidated(invalidBefore.toInstant().minusSeconds(1))).isTrue();
+        assertThat(actual.isTokenInvalidated(invalidBefore.toInstant().plusSeconds(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("유저 상태 조회 - 조회 중 무효화된 경우 조회한 상태를 Redis에 저장하지 않음")
+    void testStaleStateIsNotSavedAfterInvalidation() {
+        Duration ttl = Duration.ofMinutes(5);
+        UserStateRedisRepository.Lookup lookup = userStateRedisRepository.find(user.getId());
+
+        // DB 조회와 Redis 저장 사이에 다른 인스턴스가 무효화
+        userStateRedisRepository.invalidateAndPublish(user.getId(), ttl);
+
+        boolean saved = userStateRedisRepository.saveIfGeneration(UserState.of(user.getId(), UserStatus.ACTIVE), ttl,
+                lookup.generation());
+
+        assertThat(saved).isFalse();
+        assertThat(userStateRedisRepository.find(user.getId()).state()).isNull();
+        assertThat(userStateRedisRepository.saveIfGeneration(UserState.of(user.getId(), UserStatus.ACTIVE), ttl,
+                userStateRedisRepository.find(user.getId()).generation())).isTrue();
+    }
+
+    @Test
+    @DisplayName("유저 상태 무효화 - 재시도 후에도 실패하면 상태 변경을 실패 처리")
+    void testStrictInvalidationFailure() {
+        doThrow(new RedisConnectionFailureException("Redis is down"))
+                .when(userStateRedisRepository).invalidateAndPublish(eq(user.getId()), any());
+
+        assertThatThrownBy(() -> userStateService.onUserStateChanging(new UserStateChangedEvent(user.getId())))
+                .isInstanceOf(RedisConnectionFailureException.class);
+        verify(userStateRedisRepository, times(3)).invalidateAndPublish(eq(user.getId()), any());
+    }
+
+    @Test
+    @DisplayName("유저 상태 무효화 - strict가 아닌 이벤트는 무효화에 실패해도 진행")
+    void testNonStrictInvalidationFailure() {
+        doThrow(new RedisConnectionFailureException("Redis is down"))
+                .when(userStateRedisRepository).invalidateAndPublish(eq(user.getId()), any());
+
+        assertThatCode(() -> userStateService.onUserStateChanging(new UserStateChangedEvent(user.getId(), false)))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> userStateService.onUserStateChanged(new UserStateChangedEvent(user.getId())))
+                .doesNotThrowAnyException();
+    }
+}
@@ -3,7 +3,11 @@ package com.lumanlab.parentcaringservice.user.port.inp;
 import com.lumanlab.parentcaringservice.support.BaseUsecaseTest;
 import com.lumanlab.parentcaringservice.user.domain.User;
 import com.lumanlab.parentcaringservice.user.domain.UserRole;
+import com.lumanlab.parentcaringservice.user.domain.UserStatus;
 import com.lumanlab.parentcaringservice.user.port.outp.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,6 +27,9 @@ class QueryUserTest extends BaseUsecaseTest {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    EntityManager entityManager;
+
     User user;
 
     final String EMAIL = "jhon.doe@example.com";
@@ -68,4 +75,57 @@ class QueryUserTest extends BaseUsecaseTest {
         assertThatThrownBy(() -> queryUser.findById(nonExistId))
                 .isInstanceOf(NoSuchElementException.class);
     }
+
+    @Test
+    @DisplayName("유저 조회 - 이메일로 인증 정보 조회")
+    void testFindAuthSnapshotByEmail() {
+        var actual = queryUser.findAuthSnapshotByEmail(EMAIL);
+
+        assertThat(actual.id()).isEqualTo(user.getId());
+        assertThat(actual.password()).isEqualTo(PASSWORD);
+        assertThat(actual.status()).isEqualTo(UserStatus.ACTIVE);
+        assertThat(actual.roles()).containsExactly(UserRole.PARENT);
+        assertThat(actual.roleMask()).isEqualTo(user.getRoleMask());
+        assertThat(actual.mfaEnabled()).isFalse();
+        assertThat(actual.shouldInitializeMfa()).isFalse();
+    }
+
+    @Test
+    @DisplayName("유저 조회 - ID로 인증 정보 조회 - MFA 초기화가 필요한 SuperUser")
+    void testFindAuthSnapshotByIdShouldInitializeMfa() {
+        User master = userRepository.save(new User("master@example.com", PASSWORD, Set.of(UserRole.MASTER)));
+
+        var actual = queryUser.findAuthSnapshotById(master.getId());
+
+        assertThat(actual.id()).isEqualTo(master.getId());
+        assertThat(actual.roles()).containsExactly(UserRole.MASTER);
+        assertThat(actual.shouldInitializeMfa()).isTrue();
+    }
+
+    @Test
+    @DisplayName("유저 조회 - 이메일로 인증 정보 조회 - 없는 이메일로 조회 시 예외 발생")
+    void testFindAuthSnapshotByEmailThrowException() {
+        assertThatThrownBy(() -> queryUser.findAuthSnapshotByEmail("RANDOM_EMAIL"))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("유저 조회 - 인증 정보 조회 - 사용자와 역할 목록을 하나의 쿼리로 조회")
+    void testFindAuthSnapshotUsesSingleQuery() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var byEmail = queryUser.findAuthSnapshotByEmail(EMAIL);
+        entityManager.clear();
+        var byId = queryUser.findAuthSnapshotById(user.getId());
+
+        // 조회 방식마다 역할 목록을 지연 로딩하는 추가 쿼리 없이 1개의 쿼리만 실행
+        assertThat(byEmail.roles()).containsExactly(UserRole.PARENT);
+        assertThat(byId.roles()).containsExactly(UserRole.PARENT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
 }
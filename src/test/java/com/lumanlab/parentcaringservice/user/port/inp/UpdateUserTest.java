@@ -85,6 +85,27 @@ class UpdateUserTest extends BaseUsecaseTest {
         assertThat(user.getPassword()).isEqualTo(NEW_PASSWORD);
     }
 
+    @Test
+    @DisplayName("유저 - 비밀번호 다시 해시")
+    void rehashPassword() {
+        var actual = updateUser.rehashPassword(user.getId(), PASSWORD, NEW_PASSWORD);
+
+        assertThat(actual).isTrue();
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPassword()).isEqualTo(NEW_PASSWORD);
+    }
+
+    @Test
+    @DisplayName("유저 - 비밀번호 다시 해시 - 그 사이에 비밀번호가 변경된 경우 덮어쓰지 않음")
+    void rehashPasswordChanged() {
+        final String CHANGED_PASSWORD = "CHANGED_PASSWORD";
+        updateUser.updatePassword(user.getId(), CHANGED_PASSWORD);
+
+        var actual = updateUser.rehashPassword(user.getId(), PASSWORD, NEW_PASSWORD);
+
+        assertThat(actual).isFalse();
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPassword()).isEqualTo(CHANGED_PASSWORD);
+    }
+
     @Test
     @DisplayName("유저 - 비밀번호 수정 에러 - NULL")
     void updatePasswordNull() {
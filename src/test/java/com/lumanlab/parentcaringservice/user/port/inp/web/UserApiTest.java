@@ -8,6 +8,7 @@ import com.lumanlab.parentcaringservice.oauth2.domain.OAuth2Provider;
 import com.lumanlab.parentcaringservice.oauth2.port.outp.OAuth2LinkRepository;
 import com.lumanlab.parentcaringservice.oauth2.port.outp.UserProfileResponse;
 import com.lumanlab.parentcaringservice.support.BaseApiTest;
+import com.lumanlab.parentcaringservice.support.SqlStatementRecorder;
 import com.lumanlab.parentcaringservice.support.annotation.WithTestUser;
 import com.lumanlab.parentcaringservice.totp.application.service.NonceService;
 import com.lumanlab.parentcaringservice.totp.application.service.TotpProvider;
@@ -15,15 +16,28 @@ import com.lumanlab.parentcaringservice.user.adapter.in.web.view.req.*;
 import com.lumanlab.parentcaringservice.user.domain.User;
 import com.lumanlab.parentcaringservice.user.domain.UserAgent;
 import com.lumanlab.parentcaringservice.user.domain.UserRole;
+import com.lumanlab.parentcaringservice.user.port.outp.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import static com.epages.restdocs.apispec.ResourceDocumentation.parameterWithName;
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
@@ -43,6 +57,15 @@ class UserApiTest extends BaseApiTest {
     @Autowired
     private OAuth2LinkRepository oAuth2LinkRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @MockitoSpyBean
     private TotpProvider totpProvider;
 
@@ -146,6 +169,80 @@ class UserApiTest extends BaseApiTest {
                 ));
     }
 
+    @Test
+    @DisplayName("사용자 로그인 - 사용자와 역할 목록을 하나의 쿼리로 조회")
+    void loginUserLoadsUserWithRolesInSingleQuery() throws Exception {
+        authHelper.createUserAndGetToken("login@example.com", "password123", null, UserRole.PARENT);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        var req = new LoginUserViewReq("login@example.com", "password123");
+
+        mockMvc.perform(post("/api/users/login")
+                        .header("User-Agent", UserAgent.MOBILE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk());
+
+        // 사용자 조회 쿼리에서 역할 목록까지 함께 읽으므로 역할 목록을 별도로 조회하지 않음
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionStatistics(User.class.getName() + ".roles").getFetchCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("사용자 로그인 - 테스트 트랜잭션 없이 로그인 한 번에 실행되는 쿼리 개수")
+    void loginUserPrepareStatementCount() throws Exception {
+        // 테스트 트랜잭션의 영속성 컨텍스트에 사용자가 남아 있으면 조회 쿼리가 생략되므로, 커밋된 사용자로 실제 요청과 같게 확인
+        String email = "login-" + UUID.randomUUID() + "@example.com";
+        User user = authHelper.createUser(email, "password123", null, UserRole.PARENT);
+
+        try {
+            Statistics statistics =
+                    entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+
+            var req = new LoginUserViewReq(email, "password123");
+            List<String> statements = SqlStatementRecorder.record(() -> login(req));
+
+            // 시퀀스 조회는 allocationSize마다 한 번씩만 실행되므로 제외
+            long sequenceCount = statements.stream().filter(sql -> sql.contains("nextval")).count();
+
+            // 사용자와 역할 목록 조회, 토큰 식별자 조회, 사용자 상태 조회, 리프레시 토큰 저장
+            assertThat(statistics.getPrepareStatementCount() - sequenceCount).isEqualTo(4);
+            assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isEqualTo(1);
+        } finally {
+            jdbcTemplate.update("DELETE FROM refresh_token_token_id WHERE token_id IN "
+                    + "(SELECT token_id FROM refresh_token WHERE user_id = ?)", user.getId());
+            jdbcTemplate.update("DELETE FROM refresh_token WHERE user_id = ?", user.getId());
+            jdbcTemplate.update("DELETE FROM users_roles WHERE users_id = ?", user.getId());
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("사용자 로그인 - 이전 형식의 비밀번호 해시는 로그인 시 다시 해시")
+    void loginUserRehashLegacyPassword() throws Exception {
+        // 접두사 없이 저장된 이전 BCrypt 해시
+        String legacyPassword = new BCryptPasswordEncoder(4).encode("password123");
+        User user = userRepository.save(new User("login@example.com", legacyPassword, Set.of(UserRole.PARENT)));
+
+        var req = new LoginUserViewReq("login@example.com", "password123");
+
+        mockMvc.perform(post("/api/users/login")
+                        .header("User-Agent", UserAgent.MOBILE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk());
+
+        String rehashedPassword = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        assertThat(rehashedPassword).startsWith("{bcrypt}").isNotEqualTo(legacyPassword);
+    }
+
     @Test
     @DisplayName("사용자 로그인 - MFA 초기화가 필요한 경우 예외 발생")
     void loginUserMfaInitializeRequireException() throws Exception {
@@ -590,4 +687,16 @@ class UserApiTest extends BaseApiTest {
                         )
                 ));
     }
+
+    private void login(LoginUserViewReq req) {
+        try {
+            mockMvc.perform(post("/api/users/login")
+                            .header("User-Agent", UserAgent.MOBILE)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(req)))
+                    .andExpect(status().isOk());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }